@@ -0,0 +1,66 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import org.salespointframework.core.IdentifierGenerator;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configures the {@link IdentifierGenerator} to be used by Salespoint's entities. Prefers a Spring bean implementing
+ * {@link IdentifierGenerator} and falls back to the strategy configured via {@code salespoint.identifiers.strategy}.
+ * As the {@link IdentifierGenerator} in use is held globally, the one used before is restored when the application
+ * context is shut down, so that it doesn't leak into other application contexts, e.g. in tests.
+ *
+ * @since 8.1
+ */
+@Component
+@RequiredArgsConstructor
+class SalespointIdentifierConfigurer implements InitializingBean, DisposableBean {
+
+	private final @NonNull SalespointProperties properties;
+	private final @NonNull ObjectProvider<IdentifierGenerator> generator;
+
+	private @Nullable IdentifierGenerator previous;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.InitializingBean#afterPropertiesSet()
+	 */
+	@Override
+	public void afterPropertiesSet() {
+		this.previous = IdentifierGenerator
+				.use(generator.getIfAvailable(properties.getIdentifiers().getStrategy()::getGenerator));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+
+		if (previous != null) {
+			IdentifierGenerator.use(previous);
+		}
+	}
+}
@@ -15,11 +15,14 @@
  */
 package org.salespointframework;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Value;
 
+import org.salespointframework.core.IdentifierGenerator;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.lang.Nullable;
 import org.springframework.scheduling.annotation.Scheduled;
 
 /**
@@ -29,11 +32,18 @@ import org.springframework.scheduling.annotation.Scheduled;
  * @since 7.5
  */
 @Value
-@RequiredArgsConstructor(onConstructor = @__(@ConstructorBinding))
 @ConfigurationProperties("salespoint")
 class SalespointProperties {
 
 	Scheduling scheduling;
+	Identifiers identifiers;
+
+	@ConstructorBinding
+	SalespointProperties(Scheduling scheduling, @Nullable Identifiers identifiers) {
+
+		this.scheduling = scheduling;
+		this.identifiers = identifiers == null ? new Identifiers(null) : identifiers;
+	}
 
 	@Value
 	static class Scheduling {
@@ -44,4 +54,41 @@ class SalespointProperties {
 		 */
 		boolean enabled;
 	}
+
+	/**
+	 * @since 8.1
+	 */
+	@Value
+	static class Identifiers {
+
+		/**
+		 * The strategy to generate the identifiers of Salespoint's entities with, defaults to
+		 * {@link IdentifierStrategy#RANDOM}. Declare a Spring bean implementing {@link IdentifierGenerator} to use a
+		 * custom one.
+		 */
+		IdentifierStrategy strategy;
+
+		Identifiers(@Nullable IdentifierStrategy strategy) {
+			this.strategy = strategy == null ? IdentifierStrategy.RANDOM : strategy;
+		}
+	}
+
+	/**
+	 * @since 8.1
+	 */
+	@RequiredArgsConstructor
+	enum IdentifierStrategy {
+
+		/**
+		 * Random UUIDs.
+		 */
+		RANDOM(IdentifierGenerator.RANDOM),
+
+		/**
+		 * Time-ordered UUIDs that sort in the order of their creation.
+		 */
+		TIME_ORDERED(IdentifierGenerator.TIME_ORDERED);
+
+		private final @Getter IdentifierGenerator generator;
+	}
 }
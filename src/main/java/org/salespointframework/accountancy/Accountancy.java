@@ -15,17 +15,29 @@
  */
 package org.salespointframework.accountancy;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAmount;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 
+import javax.money.CurrencyUnit;
 import javax.money.MonetaryAmount;
 
+import org.javamoney.moneta.Money;
+
 import org.salespointframework.accountancy.AccountancyEntry.AccountancyEntryIdentifier;
+import org.salespointframework.core.Currencies;
+import org.salespointframework.order.Order;
+import org.salespointframework.order.Order.OrderIdentifier;
 import org.salespointframework.time.BusinessTime;
 import org.salespointframework.time.Interval;
+import org.salespointframework.time.Intervals;
 import org.springframework.data.util.Streamable;
 import org.springframework.stereotype.Service;
+import org.springframework.util.Assert;
 
 /**
  * An application service to manage {@link AccountancyEntry}s and to create basic financial statistics.
@@ -63,6 +75,29 @@ public interface Accountancy {
 	 */
 	Optional<AccountancyEntry> get(AccountancyEntryIdentifier accountancyEntryIdentifier);
 
+	/**
+	 * Returns all {@link ProductPaymentEntry}s for the {@link Order} with the given {@link OrderIdentifier}, i.e. its
+	 * revenue entry and potential entries rolling back that revenue.
+	 *
+	 * @param orderIdentifier must not be {@literal null}.
+	 * @return a {@link Streamable} containing all entries for the given {@link Order}, or an empty {@link Streamable}.
+	 * @since 8.1
+	 */
+	Streamable<ProductPaymentEntry> findPaymentEntries(OrderIdentifier orderIdentifier);
+
+	/**
+	 * Returns whether a revenue {@link ProductPaymentEntry} exists for the {@link Order} with the given
+	 * {@link OrderIdentifier}.
+	 *
+	 * @param orderIdentifier must not be {@literal null}.
+	 * @return
+	 * @since 8.1
+	 * @see ProductPaymentEntry#isRevenue()
+	 */
+	default boolean hasRevenue(OrderIdentifier orderIdentifier) {
+		return findPaymentEntries(orderIdentifier).stream().anyMatch(ProductPaymentEntry::isRevenue);
+	}
+
 	/**
 	 * Returns all {@link AccountancyEntry}s that have a {@code date} within the given {@link Interval}.
 	 *
@@ -79,7 +114,7 @@ public interface Accountancy {
 	 * @param interval the interval within which we want to find {@link AccountancyEntry}s, must not be {@literal null}.
 	 * @param duration the duration of the sub-intervals, must not be {@literal null}.
 	 * @return a {@link Map} containing a {@link Streamable} with zero or more {@link AccountancyEntry}s for each
-	 *         sub-interval.
+	 *         sub-interval, ordered by the sub-intervals.
 	 */
 	Map<Interval, Streamable<AccountancyEntry>> find(Interval interval, TemporalAmount duration);
 
@@ -92,7 +127,166 @@ public interface Accountancy {
 	 * @param interval the interval within which we want to find {@link AccountancyEntry}s, must not be {@literal null}.
 	 * @param duration the duration of the sub-intervals that are used to group the summation, must not be
 	 *            {@literal null}.
-	 * @return a {@link Map} containing the summated {@link MonetaryAmount} for each sub-interval.
+	 * @return a {@link Map} containing the summated {@link MonetaryAmount} for each sub-interval, ordered by the
+	 *         sub-intervals.
 	 */
 	Map<Interval, MonetaryAmount> salesVolume(Interval interval, TemporalAmount duration);
+
+	/**
+	 * Computes the sales volume, i.e., the sum of {@link AccountancyEntry#getValue()}, for all
+	 * {@link AccountancyEntry}s within the given interval, grouped by calendar-aligned sub-intervals of the given unit,
+	 * i.e. whole days, ISO weeks or months. If a sub-interval doesn't contain an {@link AccountancyEntry}, its sales
+	 * volume is zero. Note that the first and last sub-interval may be shorter than the given unit.
+	 *
+	 * @param interval the interval within which we want to find {@link AccountancyEntry}s, must not be {@literal null}.
+	 * @param unit one of {@link ChronoUnit#DAYS}, {@link ChronoUnit#WEEKS} or {@link ChronoUnit#MONTHS}, must not be
+	 *          {@literal null}.
+	 * @return a {@link Map} containing the summated {@link MonetaryAmount} for each sub-interval, ordered by the
+	 *         sub-intervals.
+	 * @since 8.1
+	 * @see Intervals#divide(Interval, ChronoUnit)
+	 */
+	default Map<Interval, MonetaryAmount> salesVolume(Interval interval, ChronoUnit unit) {
+
+		Assert.notNull(interval, "Interval must not be null");
+		Assert.notNull(unit, "ChronoUnit must not be null");
+
+		var intervals = Intervals.divide(interval, unit).toList();
+		var result = new LinkedHashMap<Interval, MonetaryAmount>();
+
+		intervals.forEach(it -> result.put(it, Money.of(0, Currencies.EURO)));
+
+		find(interval).forEach(entry -> entry.getDate() //
+				.flatMap(date -> intervals.stream().filter(it -> it.contains(date)).findFirst()) //
+				.ifPresent(it -> result.merge(it, entry.getValue(), MonetaryAmount::add)));
+
+		return result;
+	}
+
+	/**
+	 * Computes the sales volume per day for all days between the given ones, both inclusive. Days that have passed are
+	 * served from pre-computed daily rollups, so that only the {@link AccountancyEntry}s of the current day (or later
+	 * ones) are read individually. If a day doesn't contain an {@link AccountancyEntry}, its sales volume is zero.
+	 *
+	 * @param from the first day, must not be {@literal null}.
+	 * @param to the last day, must not be {@literal null} or before {@code from}.
+	 * @return a {@link Map} containing the summated {@link MonetaryAmount} for each day, ordered by day.
+	 * @throws IllegalStateException in case the {@link AccountancyEntry}s of a day use different currencies.
+	 * @since 8.1
+	 * @see #dailySalesVolumeByCurrency(LocalDate, LocalDate)
+	 */
+	default Map<LocalDate, MonetaryAmount> dailySalesVolume(LocalDate from, LocalDate to) {
+		return sum(dailySalesVolumeByCurrency(from, to));
+	}
+
+	/**
+	 * Computes the sales volume per day and currency for all days between the given ones, both inclusive. Days that have
+	 * passed are served from pre-computed daily rollups, so that only the {@link AccountancyEntry}s of the current day
+	 * (or later ones) are read individually. Days without {@link AccountancyEntry}s map to an empty {@link Map},
+	 * currencies summing up to zero within a day are omitted.
+	 *
+	 * @param from the first day, must not be {@literal null}.
+	 * @param to the last day, must not be {@literal null} or before {@code from}.
+	 * @return a {@link Map} containing the summated {@link MonetaryAmount}s per currency for each day, ordered by day.
+	 * @since 8.1
+	 */
+	default Map<LocalDate, Map<CurrencyUnit, MonetaryAmount>> dailySalesVolumeByCurrency(LocalDate from, LocalDate to) {
+
+		Assert.notNull(from, "From must not be null!");
+		Assert.notNull(to, "To must not be null!");
+		Assert.isTrue(!from.isAfter(to), "From must not be after to!");
+
+		var result = new LinkedHashMap<LocalDate, Map<CurrencyUnit, MonetaryAmount>>();
+
+		for (var day = from; !day.isAfter(to); day = day.plusDays(1)) {
+			result.put(day, new LinkedHashMap<>());
+		}
+
+		find(Interval.from(from.atStartOfDay()).to(to.plusDays(1).atStartOfDay().minusNanos(1))) //
+				.forEach(entry -> entry.getDate() //
+						.ifPresent(date -> result.get(date.toLocalDate()) //
+								.merge(entry.getValue().getCurrency(), entry.getValue(), MonetaryAmount::add)));
+
+		result.values().forEach(it -> it.values().removeIf(MonetaryAmount::isZero));
+
+		return result;
+	}
+
+	/**
+	 * Computes the sales volume per month for all months between the given ones, both inclusive. Months that have passed
+	 * are served from pre-computed monthly rollups, so that only the {@link AccountancyEntry}s of the current month (or
+	 * later ones) are read individually. If a month doesn't contain an {@link AccountancyEntry}, its sales volume is zero.
+	 *
+	 * @param from the first month, must not be {@literal null}.
+	 * @param to the last month, must not be {@literal null} or before {@code from}.
+	 * @return a {@link Map} containing the summated {@link MonetaryAmount} for each month, ordered by month.
+	 * @throws IllegalStateException in case the {@link AccountancyEntry}s of a month use different currencies.
+	 * @since 8.1
+	 * @see #monthlySalesVolumeByCurrency(YearMonth, YearMonth)
+	 */
+	default Map<YearMonth, MonetaryAmount> monthlySalesVolume(YearMonth from, YearMonth to) {
+		return sum(monthlySalesVolumeByCurrency(from, to));
+	}
+
+	/**
+	 * Computes the sales volume per month and currency for all months between the given ones, both inclusive. Months
+	 * that have passed are served from pre-computed monthly rollups, so that only the {@link AccountancyEntry}s of the
+	 * current month (or later ones) are read individually. Months without {@link AccountancyEntry}s map to an empty
+	 * {@link Map}, currencies summing up to zero within a month are omitted.
+	 *
+	 * @param from the first month, must not be {@literal null}.
+	 * @param to the last month, must not be {@literal null} or before {@code from}.
+	 * @return a {@link Map} containing the summated {@link MonetaryAmount}s per currency for each month, ordered by
+	 *         month.
+	 * @since 8.1
+	 */
+	default Map<YearMonth, Map<CurrencyUnit, MonetaryAmount>> monthlySalesVolumeByCurrency(YearMonth from,
+			YearMonth to) {
+
+		Assert.notNull(from, "From must not be null!");
+		Assert.notNull(to, "To must not be null!");
+		Assert.isTrue(!from.isAfter(to), "From must not be after to!");
+
+		var result = new LinkedHashMap<YearMonth, Map<CurrencyUnit, MonetaryAmount>>();
+
+		for (var month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+			result.put(month, new LinkedHashMap<>());
+		}
+
+		find(Interval.from(from.atDay(1).atStartOfDay()).to(to.plusMonths(1).atDay(1).atStartOfDay().minusNanos(1))) //
+				.forEach(entry -> entry.getDate() //
+						.ifPresent(date -> result.get(YearMonth.from(date)) //
+								.merge(entry.getValue().getCurrency(), entry.getValue(), MonetaryAmount::add)));
+
+		result.values().forEach(it -> it.values().removeIf(MonetaryAmount::isZero));
+
+		return result;
+	}
+
+	/**
+	 * Collapses the given sales volumes per currency into a single {@link MonetaryAmount} per key, using zero Euros for
+	 * keys without any sales volume.
+	 *
+	 * @param <T> the type of the keys.
+	 * @param source must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws IllegalStateException in case the sales volume of a key spans multiple currencies.
+	 */
+	private static <T> Map<T, MonetaryAmount> sum(Map<T, Map<CurrencyUnit, MonetaryAmount>> source) {
+
+		var result = new LinkedHashMap<T, MonetaryAmount>();
+
+		source.forEach((key, amounts) -> {
+
+			if (amounts.size() > 1) {
+				throw new IllegalStateException(String.format(
+						"Sales volume for %s spans multiple currencies %s! Use the …ByCurrency(…) variant instead.", key,
+						amounts.keySet()));
+			}
+
+			result.put(key, amounts.values().stream().findFirst().orElseGet(() -> Money.of(0, Currencies.EURO)));
+		});
+
+		return result;
+	}
 }
@@ -18,7 +18,9 @@ package org.salespointframework.accountancy;
 import jakarta.persistence.Embeddable;
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -31,13 +33,13 @@ import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
 
 import javax.money.MonetaryAmount;
 
 import org.jmolecules.ddd.types.Identifier;
 import org.salespointframework.accountancy.AccountancyEntry.AccountancyEntryIdentifier;
 import org.salespointframework.core.AbstractEntity;
+import org.salespointframework.core.IdentifierGenerator;
 import org.springframework.util.Assert;
 
 /**
@@ -49,11 +51,12 @@ import org.springframework.util.Assert;
  */
 @Entity
 @ToString
+@Table(indexes = @Index(name = "ACCOUNTANCY_ENTRY_ORDER_ID", columnList = "ORDER_ID")) // of ProductPaymentEntry
 @NoArgsConstructor(force = true, access = AccessLevel.PROTECTED, onConstructor = @__(@Deprecated))
 public class AccountancyEntry extends AbstractEntity<AccountancyEntryIdentifier> {
 
 	private @EmbeddedId AccountancyEntryIdentifier accountancyEntryIdentifier = AccountancyEntryIdentifier
-			.of(UUID.randomUUID().toString());
+			.of(IdentifierGenerator.next());
 
 	private @Getter MonetaryAmount value;
 	private @Setter(AccessLevel.PACKAGE) LocalDateTime date = null;
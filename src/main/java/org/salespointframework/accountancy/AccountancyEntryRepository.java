@@ -16,10 +16,16 @@
 package org.salespointframework.accountancy;
 
 import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.money.MonetaryAmount;
 
 import org.salespointframework.accountancy.AccountancyEntry.AccountancyEntryIdentifier;
 import org.salespointframework.core.SalespointRepository;
+import org.salespointframework.order.Order.OrderIdentifier;
 import org.salespointframework.time.Interval;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.util.Streamable;
 import org.springframework.util.Assert;
 
@@ -51,4 +57,80 @@ interface AccountancyEntryRepository extends SalespointRepository<AccountancyEnt
 
 		return findByDateBetween(interval.getStart(), interval.getEnd());
 	}
+
+	/**
+	 * Returns all {@link AccountancyEntry}s within the given {@link Interval} ordered by their date.
+	 *
+	 * @param interval must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 8.1
+	 */
+	default Streamable<AccountancyEntry> findByDateInOrderedByDate(Interval interval) {
+
+		Assert.notNull(interval, "Interval must not be null!");
+
+		return findByDateBetweenOrderByDate(interval.getStart(), interval.getEnd());
+	}
+
+	/**
+	 * Returns the dates and values of all {@link AccountancyEntry}s within the given {@link Interval} ordered by their
+	 * date. Avoids materializing the entries themselves.
+	 *
+	 * @param interval must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 8.1
+	 */
+	default Streamable<DatedValue> findValuesByDateIn(Interval interval) {
+
+		Assert.notNull(interval, "Interval must not be null!");
+
+		return findValuesByDateBetween(interval.getStart(), interval.getEnd());
+	}
+
+	Streamable<AccountancyEntry> findByDateBetweenOrderByDate(LocalDateTime from, LocalDateTime to);
+
+	@Query("select e.date as date, e.value as value from AccountancyEntry e where e.date between ?1 and ?2 order by e.date")
+	Streamable<DatedValue> findValuesByDateBetween(LocalDateTime from, LocalDateTime to);
+
+	/**
+	 * Returns all {@link ProductPaymentEntry}s for the order with the given {@link OrderIdentifier}. Backed by an index
+	 * on the {@code ORDER_ID} column.
+	 *
+	 * @param orderIdentifier must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 8.1
+	 */
+	@Query("select e from ProductPaymentEntry e where e.orderIdentifier = ?1")
+	Streamable<ProductPaymentEntry> findPaymentEntriesByOrderIdentifier(OrderIdentifier orderIdentifier);
+
+	/**
+	 * Returns the {@link ProductPaymentEntry}s whose {@link org.salespointframework.payment.PaymentMethod} is only
+	 * available in Java-serialized form, ordered by identifier and starting after the given one. Used to migrate the ones
+	 * persisted before 8.1 in chunks.
+	 *
+	 * @param after the identifier to start after, must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 8.1
+	 */
+	@Query("""
+			select e from ProductPaymentEntry e
+			 where e.serializedPaymentMethod is not null
+			   and e.paymentMethod is null
+			   and e.accountancyEntryIdentifier.accountancyEntryId > ?1
+			 order by e.accountancyEntryIdentifier.accountancyEntryId
+			""")
+	List<ProductPaymentEntry> findPaymentEntriesWithSerializedPaymentMethod(String after, Pageable pageable);
+
+	/**
+	 * Projection of the date and value of an {@link AccountancyEntry}.
+	 *
+	 * @since 8.1
+	 */
+	interface DatedValue {
+
+		LocalDateTime getDate();
+
+		MonetaryAmount getValue();
+	}
 }
@@ -22,18 +22,21 @@ import org.salespointframework.order.Order;
 import org.salespointframework.order.OrderEvents.OrderCanceled;
 import org.salespointframework.order.OrderEvents.OrderCompleted;
 import org.salespointframework.order.OrderEvents.OrderPaid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 /**
  * An {@link ApplicationListener} for {@link OrderCompleted} events to create {@link ProductPaymentEntry} for the
- * {@link Order}.
+ * {@link Order}. Replaced by {@link AsynchronousAccountancyOrderEventListener} if
+ * {@code salespoint.accountancy.events.asynchronous} is set to {@literal true}.
  *
  * @author Oliver Gierke
  */
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "salespoint.accountancy.events.asynchronous", havingValue = "false", matchIfMissing = true)
 public class AccountancyOrderEventListener {
 
 	private final @NonNull Accountancy accountancy;
@@ -63,9 +66,7 @@ public class AccountancyOrderEventListener {
 
 		Order order = event.getOrder();
 
-		if (accountancy.findAll().stream() //
-				.map(ProductPaymentEntry.class::cast) //
-				.anyMatch(it -> it.belongsTo(order) && it.isRevenue())) {
+		if (accountancy.hasRevenue(order.getId())) {
 
 			accountancy.add(ProductPaymentEntry.rollback(order,
 					String.format("Order %s cancelled! Reason: %s.", order.getId(), event.getReason())));
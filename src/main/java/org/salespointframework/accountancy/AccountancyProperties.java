@@ -0,0 +1,79 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.accountancy;
+
+import lombok.Value;
+
+import java.time.Duration;
+
+import org.salespointframework.order.OrderEvents;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.lang.Nullable;
+
+/**
+ * Properties to configure Salespoint's accountancy. Declare {@code salespoint.accountancy.…} in application properties
+ * to tweak settings.
+ *
+ * @since 8.1
+ */
+@Value
+@ConfigurationProperties("salespoint.accountancy")
+class AccountancyProperties {
+
+	Events events;
+
+	@ConstructorBinding
+	AccountancyProperties(@Nullable Events events) {
+		this.events = events == null ? new Events(false, null, null, null) : events;
+	}
+
+	@Value
+	static class Events {
+
+		/**
+		 * Whether to process {@link OrderEvents} asynchronously after the transaction publishing them has committed,
+		 * defaults to {@literal false}. The events are recorded in a publication log in the publishing transaction and
+		 * resubmitted on application restart and periodically if their processing has not succeeded.
+		 */
+		boolean asynchronous;
+
+		/**
+		 * The number of threads to process events asynchronously with, defaults to 1.
+		 */
+		int threads;
+
+		/**
+		 * The number of events waiting to be processed asynchronously before the publishing thread processes them
+		 * itself, defaults to 1000.
+		 */
+		int queueCapacity;
+
+		/**
+		 * The interval in which events whose processing has failed are resubmitted, defaults to one minute.
+		 */
+		Duration retryInterval;
+
+		Events(boolean asynchronous, @Nullable Integer threads, @Nullable Integer queueCapacity,
+				@Nullable Duration retryInterval) {
+
+			this.asynchronous = asynchronous;
+			this.threads = threads == null ? 1 : threads;
+			this.queueCapacity = queueCapacity == null ? 1000 : queueCapacity;
+			this.retryInterval = retryInterval == null ? Duration.ofMinutes(1) : retryInterval;
+		}
+	}
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.accountancy;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import javax.money.MonetaryAmount;
+
+import org.javamoney.moneta.Money;
+import org.jmolecules.ddd.types.Identifier;
+import org.salespointframework.accountancy.AccountancyRollup.AccountancyRollupIdentifier;
+import org.salespointframework.core.AbstractEntity;
+import org.salespointframework.core.IdentifierGenerator;
+import org.springframework.util.Assert;
+
+/**
+ * The sum of the values of all {@link AccountancyEntry}s of a single currency within a day or month. Rollups are
+ * created and <em>sealed</em> once the period has passed, i.e. calculated from the entries and from then on considered
+ * to be authoritative for that period. Entries dated into a sealed period are added to its rollups.
+ *
+ * @since 8.1
+ * @see AccountancyRollups
+ */
+@Entity
+@ToString
+@Table(name = "ACCOUNTANCY_ROLLUP",
+		uniqueConstraints = @UniqueConstraint(columnNames = { "GRANULARITY", "PERIOD", "CURRENCY" }))
+@NoArgsConstructor(force = true, access = AccessLevel.PRIVATE)
+class AccountancyRollup extends AbstractEntity<AccountancyRollupIdentifier> {
+
+	private @EmbeddedId AccountancyRollupIdentifier rollupIdentifier = AccountancyRollupIdentifier
+			.of(IdentifierGenerator.next());
+
+	private @Getter @Enumerated(EnumType.STRING) Granularity granularity;
+	private @Getter LocalDate period;
+	private @Getter String currency;
+	private @Column(precision = 38, scale = 10) BigDecimal amount;
+	private @Getter boolean sealed;
+
+	AccountancyRollup(Granularity granularity, LocalDate period, MonetaryAmount amount, boolean sealed) {
+
+		Assert.notNull(granularity, "Granularity must not be null!");
+		Assert.notNull(period, "Period must not be null!");
+		Assert.notNull(amount, "Amount must not be null!");
+
+		this.granularity = granularity;
+		this.period = period;
+		this.currency = amount.getCurrency().getCurrencyCode();
+		this.amount = amount.getNumber().numberValue(BigDecimal.class);
+		this.sealed = sealed;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.Persistable#getId()
+	 */
+	@Override
+	public AccountancyRollupIdentifier getId() {
+		return rollupIdentifier;
+	}
+
+	/**
+	 * Returns the sum of all {@link AccountancyEntry}s of the rollup's currency in its period.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	MonetaryAmount getAmount() {
+		return Money.of(amount.stripTrailingZeros(), currency);
+	}
+
+	/**
+	 * Adds the given value to the rollup.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @return the current instance, will never be {@literal null}.
+	 */
+	AccountancyRollup add(MonetaryAmount value) {
+
+		Assert.notNull(value, "Value must not be null!");
+		Assert.isTrue(value.getCurrency().getCurrencyCode().equals(currency), "Currency must match the rollup's one!");
+
+		this.amount = amount.add(value.getNumber().numberValue(BigDecimal.class));
+
+		return this;
+	}
+
+	/**
+	 * Seals the rollup with the given amount recalculated from the {@link AccountancyEntry}s of its period.
+	 *
+	 * @param amount must not be {@literal null}.
+	 * @return the current instance, will never be {@literal null}.
+	 */
+	AccountancyRollup seal(MonetaryAmount amount) {
+
+		Assert.notNull(amount, "Amount must not be null!");
+		Assert.isTrue(amount.getCurrency().getCurrencyCode().equals(currency), "Currency must match the rollup's one!");
+
+		this.amount = amount.getNumber().numberValue(BigDecimal.class);
+		this.sealed = true;
+
+		return this;
+	}
+
+	/**
+	 * The length of the period a {@link AccountancyRollup} covers.
+	 */
+	enum Granularity {
+
+		DAY {
+
+			@Override
+			LocalDate getPeriod(LocalDateTime reference) {
+				return reference.toLocalDate();
+			}
+
+			@Override
+			LocalDate getNextPeriod(LocalDate period) {
+				return period.plusDays(1);
+			}
+		},
+
+		MONTH {
+
+			@Override
+			LocalDate getPeriod(LocalDateTime reference) {
+				return reference.toLocalDate().withDayOfMonth(1);
+			}
+
+			@Override
+			LocalDate getNextPeriod(LocalDate period) {
+				return period.plusMonths(1);
+			}
+		};
+
+		/**
+		 * Returns the period, identified by its first day, the given reference date falls into.
+		 *
+		 * @param reference must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		abstract LocalDate getPeriod(LocalDateTime reference);
+
+		/**
+		 * Returns the period following the given one.
+		 *
+		 * @param period must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		abstract LocalDate getNextPeriod(LocalDate period);
+	}
+
+	@Embeddable
+	@EqualsAndHashCode
+	@RequiredArgsConstructor(staticName = "of")
+	@NoArgsConstructor(force = true, access = AccessLevel.PACKAGE)
+	static class AccountancyRollupIdentifier implements Identifier, Serializable {
+
+		private static final long serialVersionUID = -1851720936870392436L;
+
+		private final String rollupId;
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return rollupId;
+		}
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.accountancy;
+
+import jakarta.persistence.LockModeType;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.salespointframework.accountancy.AccountancyRollup.AccountancyRollupIdentifier;
+import org.salespointframework.accountancy.AccountancyRollup.Granularity;
+import org.salespointframework.core.SalespointRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.util.Streamable;
+
+/**
+ * Repository for {@link AccountancyRollup}s.
+ *
+ * @since 8.1
+ */
+interface AccountancyRollupRepository extends SalespointRepository<AccountancyRollup, AccountancyRollupIdentifier> {
+
+	/**
+	 * Returns the {@link AccountancyRollup} of the given {@link Granularity}, period and currency, locking it for
+	 * concurrent updates. Only used for periods already sealed, i.e. for rows that exist in the common case.
+	 *
+	 * @param granularity must not be {@literal null}.
+	 * @param period must not be {@literal null}.
+	 * @param currency must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	Optional<AccountancyRollup> findByGranularityAndPeriodAndCurrency(Granularity granularity, LocalDate period,
+			String currency);
+
+	/**
+	 * Returns all {@link AccountancyRollup}s of the given {@link Granularity} for the given period, locking them for
+	 * concurrent updates.
+	 *
+	 * @param granularity must not be {@literal null}.
+	 * @param period must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	Streamable<AccountancyRollup> findLockedByGranularityAndPeriod(Granularity granularity, LocalDate period);
+
+	/**
+	 * Returns all {@link AccountancyRollup}s of the given {@link Granularity} for the given period.
+	 *
+	 * @param granularity must not be {@literal null}.
+	 * @param period must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Streamable<AccountancyRollup> findByGranularityAndPeriod(Granularity granularity, LocalDate period);
+
+	/**
+	 * Returns all {@link AccountancyRollup}s of the given {@link Granularity} for the periods between the given ones,
+	 * both inclusive.
+	 *
+	 * @param granularity must not be {@literal null}.
+	 * @param from must not be {@literal null}.
+	 * @param to must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Streamable<AccountancyRollup> findByGranularityAndPeriodBetween(Granularity granularity, LocalDate from,
+			LocalDate to);
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.accountancy;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+
+import org.javamoney.moneta.Money;
+import org.salespointframework.accountancy.AccountancyEntryRepository.DatedValue;
+import org.salespointframework.accountancy.AccountancyRollup.Granularity;
+import org.salespointframework.core.Currencies;
+import org.salespointframework.time.BusinessTime.DayHasPassed;
+import org.salespointframework.time.BusinessTime.MonthHasPassed;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+/**
+ * Maintains the daily and monthly {@link AccountancyRollup}s for the {@link AccountancyEntry}s added to the
+ * {@link Accountancy} and serves sales volumes from them. Rollups are only ever written when a period has passed, i.e.
+ * on {@link DayHasPassed} and {@link MonthHasPassed}, by calculating them from the raw entries and sealing them. As
+ * entries added concurrently to the seal might not have been visible to it, the previous period is sealed again along
+ * with the one that has just passed. Sealed periods are served from the rollups only, while the raw entries are only
+ * scanned for the periods that haven't been sealed yet. Reading sales volumes never writes any rollup, so that
+ * concurrent readers can't race to create them. Entries added for periods still open don't touch any rollup either, so
+ * that adding them doesn't contend on a shared rollup row.
+ *
+ * @since 8.1
+ */
+@Component
+@Transactional
+@RequiredArgsConstructor
+class AccountancyRollups {
+
+	private final @NonNull AccountancyEntryRepository entries;
+	private final @NonNull AccountancyRollupRepository rollups;
+
+	/**
+	 * Adds the given {@link AccountancyEntry} to the daily and monthly {@link AccountancyRollup}s of its date in case
+	 * those periods have already been sealed, e.g. for entries dated back. Entries of periods not sealed yet are picked
+	 * up once the period is sealed.
+	 *
+	 * @param entry must not be {@literal null}.
+	 */
+	void add(AccountancyEntry entry) {
+
+		Assert.notNull(entry, "Accountancy entry must not be null!");
+
+		var date = entry.getDate().orElseThrow(() -> new IllegalArgumentException("Accountancy entry must be dated!"));
+		var value = entry.getValue();
+		var currency = value.getCurrency().getCurrencyCode();
+
+		for (Granularity granularity : Granularity.values()) {
+
+			var period = granularity.getPeriod(date);
+
+			// Locking all rollups of the period serializes with a concurrent seal and with entries of other currencies
+			if (rollups.findLockedByGranularityAndPeriod(granularity, period).isEmpty()) {
+				continue;
+			}
+
+			rollups.findByGranularityAndPeriodAndCurrency(granularity, period, currency) //
+					.map(it -> it.add(value)) //
+					.orElseGet(() -> rollups.save(new AccountancyRollup(granularity, period, value, true)));
+		}
+	}
+
+	/**
+	 * Seals the daily {@link AccountancyRollup}s of the day that has passed and seals the ones of the day before again to
+	 * pick up entries that were committed after it had been sealed.
+	 *
+	 * @param event must not be {@literal null}.
+	 */
+	@EventListener
+	void on(DayHasPassed event) {
+
+		var day = event.getDate();
+
+		seal(Granularity.DAY, day.minusDays(1));
+		seal(Granularity.DAY, day);
+	}
+
+	/**
+	 * Seals the monthly {@link AccountancyRollup}s of the month that has passed and seals the ones of the month before
+	 * again to pick up entries that were committed after it had been sealed.
+	 *
+	 * @param event must not be {@literal null}.
+	 */
+	@EventListener
+	void on(MonthHasPassed event) {
+
+		var month = event.getMonth().atDay(1);
+
+		seal(Granularity.MONTH, month.minusMonths(1));
+		seal(Granularity.MONTH, month);
+	}
+
+	/**
+	 * Returns the sales volume per period and currency of the given {@link Granularity} for all periods between the given
+	 * ones. Sealed periods are served from their {@link AccountancyRollup}s, all others are calculated from the raw
+	 * {@link AccountancyEntry}s using a single query. Currencies summing up to zero within a period are omitted.
+	 *
+	 * @param granularity must not be {@literal null}.
+	 * @param from the first period, must not be {@literal null}.
+	 * @param to the last period, must not be {@literal null}.
+	 * @return the sales volumes per currency ordered by period, will never be {@literal null}.
+	 */
+	@Transactional(readOnly = true)
+	Map<LocalDate, Map<CurrencyUnit, MonetaryAmount>> salesVolume(Granularity granularity, LocalDate from,
+			LocalDate to) {
+
+		Assert.notNull(granularity, "Granularity must not be null!");
+		Assert.notNull(from, "From must not be null!");
+		Assert.notNull(to, "To must not be null!");
+		Assert.isTrue(!from.isAfter(to), "From must not be after to!");
+
+		var sealed = rollups.findByGranularityAndPeriodBetween(granularity, from, to).stream() //
+				.filter(AccountancyRollup::isSealed) //
+				.collect(Collectors.groupingBy(AccountancyRollup::getPeriod, Collectors.toList()));
+
+		var open = new TreeSet<LocalDate>();
+
+		for (var period = from; !period.isAfter(to); period = granularity.getNextPeriod(period)) {
+			if (!sealed.containsKey(period)) {
+				open.add(period);
+			}
+		}
+
+		var values = open.isEmpty() //
+				? Map.<LocalDate, Map<CurrencyUnit, MonetaryAmount>> of()
+				: sumByPeriod(granularity, open.first(), open.last());
+
+		var result = new LinkedHashMap<LocalDate, Map<CurrencyUnit, MonetaryAmount>>();
+
+		for (var period = from; !period.isAfter(to); period = granularity.getNextPeriod(period)) {
+
+			var amounts = open.contains(period) //
+					? values.getOrDefault(period, Map.of())
+					: sealed.get(period).stream() //
+							.map(AccountancyRollup::getAmount) //
+							.collect(Collectors.toMap(MonetaryAmount::getCurrency, it -> it));
+
+			result.put(period, amounts.entrySet().stream() //
+					.filter(it -> !it.getValue().isZero()) //
+					.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Seals the {@link AccountancyRollup}s of the given period with the sums per currency recalculated from the raw
+	 * {@link AccountancyEntry}s. The rollups already present are locked before the entries are read, so that an entry
+	 * added concurrently is either contained in the sums or added to the sealed rollup afterwards. Creates sealed
+	 * {@link AccountancyRollup}s for currencies not rolled up yet and a zero one for periods without any entries, so
+	 * that the period is considered sealed, too. If another instance seals a period for the first time concurrently, one
+	 * of them fails on the unique constraint and leaves the rollups of the other in place.
+	 *
+	 * @param granularity must not be {@literal null}.
+	 * @param period must not be {@literal null}.
+	 */
+	private void seal(Granularity granularity, LocalDate period) {
+
+		var existing = rollups.findLockedByGranularityAndPeriod(granularity, period);
+		var sums = sumByPeriod(granularity, period, period).getOrDefault(period, Map.of());
+		var remaining = new HashMap<>(sums);
+
+		existing.forEach(it -> {
+
+			var sum = remaining.remove(it.getAmount().getCurrency());
+
+			rollups.save(it.seal(sum != null ? sum : Money.of(0, it.getCurrency())));
+		});
+
+		remaining.values().forEach(it -> rollups.save(new AccountancyRollup(granularity, period, it, true)));
+
+		if (sums.isEmpty() && existing.isEmpty()) {
+			rollups.save(new AccountancyRollup(granularity, period, Money.of(0, Currencies.EURO), true));
+		}
+	}
+
+	/**
+	 * Sums up the values of all {@link AccountancyEntry}s between the given periods per period and currency using a
+	 * single query.
+	 *
+	 * @param granularity must not be {@literal null}.
+	 * @param from the first period, must not be {@literal null}.
+	 * @param to the last period, must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private Map<LocalDate, Map<CurrencyUnit, MonetaryAmount>> sumByPeriod(Granularity granularity, LocalDate from,
+			LocalDate to) {
+
+		var start = from.atStartOfDay();
+		var end = granularity.getNextPeriod(to).atStartOfDay().minusNanos(1);
+		var result = new HashMap<LocalDate, Map<CurrencyUnit, MonetaryAmount>>();
+
+		for (DatedValue value : entries.findValuesByDateBetween(start, end)) {
+
+			var amount = value.getValue();
+
+			result.computeIfAbsent(granularity.getPeriod(value.getDate()), it -> new HashMap<>()) //
+					.merge(amount.getCurrency(), amount, MonetaryAmount::add);
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.accountancy;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+
+import org.salespointframework.accountancy.OrderEventPublication.OrderEventPublicationIdentifier;
+import org.salespointframework.order.Order;
+import org.salespointframework.order.Order.OrderIdentifier;
+import org.salespointframework.order.OrderEvents.OrderCanceled;
+import org.salespointframework.order.OrderEvents.OrderCompleted;
+import org.salespointframework.order.OrderEvents.OrderPaid;
+import org.salespointframework.order.OrderManagement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Replaces the synchronous {@link AccountancyOrderEventListener} if {@code salespoint.accountancy.events.asynchronous}
+ * is set to {@literal true}. {@link OrderPaid} and {@link OrderCanceled} events are recorded as
+ * {@link OrderEventPublication} in the transaction publishing them and processed in a transaction of their own on a
+ * bounded thread pool once that transaction has committed. The publications of a single order are processed one at a
+ * time in the order they were published, so that e.g. an {@link OrderCanceled} is never processed before the
+ * {@link OrderPaid} preceding it. Publications not processed successfully are resubmitted on application startup and
+ * periodically afterwards on a scheduler of the listener's own.
+ * {@link OrderCompleted} events are not affected, i.e. the inventory is still updated synchronously.
+ *
+ * @since 8.1
+ * @see AccountancyProperties.Events
+ */
+@Component
+@ConditionalOnProperty(name = "salespoint.accountancy.events.asynchronous", havingValue = "true")
+class AsynchronousAccountancyOrderEventListener implements DisposableBean {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(AsynchronousAccountancyOrderEventListener.class);
+
+	private final OrderEventPublicationRepository publications;
+	private final OrderManagement<Order> orders;
+	private final AccountancyOrderEventListener delegate;
+	private final TransactionTemplate transactions;
+	private final ThreadPoolTaskExecutor executor;
+	private final ThreadPoolTaskScheduler scheduler;
+	private final Duration retryInterval;
+
+	// Orders whose publications are currently being processed, mapped to whether they were submitted again meanwhile
+	private final Map<OrderIdentifier, Boolean> processing;
+
+	AsynchronousAccountancyOrderEventListener(OrderEventPublicationRepository publications,
+			OrderManagement<Order> orders, Accountancy accountancy, PlatformTransactionManager transactionManager,
+			AccountancyProperties properties) {
+
+		var configuration = properties.getEvents();
+
+		this.publications = publications;
+		this.orders = orders;
+		this.delegate = new AccountancyOrderEventListener(accountancy);
+		this.processing = new HashMap<>();
+
+		// Processing might run in afterCommit() of the publishing transaction, which must not be joined
+		this.transactions = new TransactionTemplate(transactionManager);
+		this.transactions.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		this.executor = new ThreadPoolTaskExecutor();
+		this.executor.setThreadNamePrefix("salespoint-accountancy-");
+		this.executor.setCorePoolSize(configuration.getThreads());
+		this.executor.setMaxPoolSize(configuration.getThreads());
+		this.executor.setQueueCapacity(configuration.getQueueCapacity());
+		this.executor.setRejectedExecutionHandler(new CallerRunsPolicy());
+		this.executor.setWaitForTasksToCompleteOnShutdown(true);
+		this.executor.setAwaitTerminationSeconds(10);
+		this.executor.initialize();
+
+		this.retryInterval = configuration.getRetryInterval();
+		this.scheduler = new ThreadPoolTaskScheduler();
+		this.scheduler.setThreadNamePrefix("salespoint-accountancy-retry-");
+		this.scheduler.initialize();
+	}
+
+	/**
+	 * Records the given {@link OrderPaid} event for asynchronous processing.
+	 *
+	 * @param event must not be {@literal null}.
+	 */
+	@EventListener
+	void on(OrderPaid event) {
+		publish(OrderEventPublication.of(event));
+	}
+
+	/**
+	 * Records the given {@link OrderCanceled} event for asynchronous processing.
+	 *
+	 * @param event must not be {@literal null}.
+	 */
+	@EventListener
+	void on(OrderCanceled event) {
+		publish(OrderEventPublication.of(event));
+	}
+
+	/**
+	 * Resubmits all {@link OrderEventPublication}s not processed successfully before the application was started and
+	 * schedules resubmitting the ones failing from now on.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	void startResubmitting() {
+
+		resubmitIncompletePublications();
+
+		scheduler.scheduleWithFixedDelay(this::retryIncompletePublications, Instant.now().plus(retryInterval),
+				retryInterval);
+	}
+
+	/**
+	 * Resubmits all {@link OrderEventPublication}s that have not been processed successfully yet. Publications currently
+	 * being processed are not processed twice, as the ones of an order are processed one at a time.
+	 */
+	void resubmitIncompletePublications() {
+
+		publications.findByCompletionDateIsNullOrderBySequenceNumber() //
+				.map(OrderEventPublication::getOrderIdentifier) //
+				.stream() //
+				.distinct() //
+				.forEach(this::submit);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+
+		scheduler.shutdown();
+		executor.shutdown();
+	}
+
+	// Must not throw, as that would cancel all subsequent executions
+	private void retryIncompletePublications() {
+
+		try {
+			resubmitIncompletePublications();
+		} catch (RuntimeException o_O) {
+			LOGGER.warn("Resubmitting incomplete order event publications failed! Will be retried in {}.", retryInterval,
+					o_O);
+		}
+	}
+
+	private void publish(OrderEventPublication publication) {
+
+		var order = publications.save(publication).getOrderIdentifier();
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			submit(order);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+			/*
+			 * (non-Javadoc)
+			 * @see org.springframework.transaction.support.TransactionSynchronization#afterCommit()
+			 */
+			@Override
+			public void afterCommit() {
+				submit(order);
+			}
+		});
+	}
+
+	private void submit(OrderIdentifier order) {
+
+		synchronized (processing) {
+
+			// Already being processed, make sure newly recorded publications are picked up afterwards
+			if (processing.containsKey(order)) {
+				processing.put(order, true);
+				return;
+			}
+
+			processing.put(order, false);
+		}
+
+		var submitted = false;
+
+		try {
+
+			executor.execute(() -> process(order));
+			submitted = true;
+
+		} finally {
+
+			// Otherwise the order would be considered in processing forever and never be submitted again
+			if (!submitted) {
+				synchronized (processing) {
+					processing.remove(order);
+				}
+			}
+		}
+	}
+
+	private void process(OrderIdentifier order) {
+
+		try {
+
+			do {
+				processPublicationsOf(order);
+			} while (isResubmitted(order));
+
+		} catch (RuntimeException o_O) {
+
+			LOGGER.warn("Processing order event publications of order {} failed! Will be retried in {}.", order,
+					retryInterval, o_O);
+
+			synchronized (processing) {
+				processing.remove(order);
+			}
+		}
+	}
+
+	private void processPublicationsOf(OrderIdentifier order) {
+
+		var identifiers = transactions.execute(__ -> publications
+				.findByOrderIdentifierAndCompletionDateIsNullOrderBySequenceNumber(order) //
+				.map(OrderEventPublication::getId) //
+				.toList());
+
+		// Each publication in a transaction of its own, a failing one stops processing of the subsequent ones
+		for (OrderEventPublicationIdentifier identifier : identifiers) {
+
+			transactions.executeWithoutResult(__ -> publications.findById(identifier) //
+					.filter(it -> !it.isCompleted()) //
+					.ifPresent(this::process));
+		}
+	}
+
+	private boolean isResubmitted(OrderIdentifier order) {
+
+		synchronized (processing) {
+
+			if (processing.get(order)) {
+				processing.put(order, false);
+				return true;
+			}
+
+			processing.remove(order);
+
+			return false;
+		}
+	}
+
+	private void process(OrderEventPublication publication) {
+
+		orders.get(publication.getOrderIdentifier()).ifPresentOrElse(
+				it -> publication.dispatchTo(delegate, it),
+				() -> LOGGER.warn("Order {} of publication {} not found! Skipping.", publication.getOrderIdentifier(),
+						publication.getId()));
+
+		publications.save(publication.markCompleted());
+	}
+}
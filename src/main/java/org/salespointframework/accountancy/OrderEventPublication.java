@@ -0,0 +1,197 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.accountancy;
+
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jmolecules.ddd.types.Identifier;
+import org.salespointframework.accountancy.OrderEventPublication.OrderEventPublicationIdentifier;
+import org.salespointframework.core.AbstractEntity;
+import org.salespointframework.core.IdentifierGenerator;
+import org.salespointframework.order.Order;
+import org.salespointframework.order.Order.OrderIdentifier;
+import org.salespointframework.order.OrderEvents.OrderCanceled;
+import org.salespointframework.order.OrderEvents.OrderPaid;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A persisted record of an order event to be processed by the accountancy asynchronously. It's written in the
+ * transaction that publishes the event and only marked completed once the event has been processed successfully, so
+ * that publications not completed can be resubmitted, e.g. on application restart.
+ *
+ * @since 8.1
+ * @see AsynchronousAccountancyOrderEventListener
+ */
+@Entity
+@ToString
+@NoArgsConstructor(force = true, access = AccessLevel.PRIVATE)
+class OrderEventPublication extends AbstractEntity<OrderEventPublicationIdentifier> {
+
+	private static final AtomicLong SEQUENCE = new AtomicLong();
+
+	private @EmbeddedId OrderEventPublicationIdentifier publicationIdentifier = OrderEventPublicationIdentifier
+			.of(IdentifierGenerator.next());
+
+	@Embedded //
+	@AttributeOverride(name = "orderId", column = @Column(name = "ORDER_ID")) //
+	private @Getter OrderIdentifier orderIdentifier;
+
+	private @Enumerated(EnumType.STRING) Type type;
+	private @Nullable String reason;
+	private @Getter LocalDateTime publicationDate;
+	private long sequenceNumber;
+	private @Nullable LocalDateTime completionDate;
+
+	private OrderEventPublication(Order order, Type type, @Nullable String reason) {
+
+		Assert.notNull(order, "Order must not be null!");
+
+		this.orderIdentifier = order.getId();
+		this.type = type;
+		this.reason = reason;
+		this.publicationDate = LocalDateTime.now();
+		this.sequenceNumber = nextSequenceNumber();
+		this.completionDate = null;
+	}
+
+	/**
+	 * Creates a new {@link OrderEventPublication} for the given {@link OrderPaid} event.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @return
+	 */
+	static OrderEventPublication of(OrderPaid event) {
+
+		Assert.notNull(event, "OrderPaid must not be null!");
+
+		return new OrderEventPublication(event.getOrder(), Type.PAID, null);
+	}
+
+	/**
+	 * Creates a new {@link OrderEventPublication} for the given {@link OrderCanceled} event.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @return
+	 */
+	static OrderEventPublication of(OrderCanceled event) {
+
+		Assert.notNull(event, "OrderCanceled must not be null!");
+
+		return new OrderEventPublication(event.getOrder(), Type.CANCELED, event.getReason());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.Persistable#getId()
+	 */
+	@Override
+	public OrderEventPublicationIdentifier getId() {
+		return publicationIdentifier;
+	}
+
+	/**
+	 * Hands the re-created original event for the given {@link Order} to the given
+	 * {@link AccountancyOrderEventListener}.
+	 *
+	 * @param listener must not be {@literal null}.
+	 * @param order must not be {@literal null}.
+	 */
+	void dispatchTo(AccountancyOrderEventListener listener, Order order) {
+
+		Assert.notNull(listener, "AccountancyOrderEventListener must not be null!");
+		Assert.notNull(order, "Order must not be null!");
+		Assert.isTrue(order.getId().equals(orderIdentifier), "Order does not belong to the publication!");
+
+		switch (type) {
+			case PAID -> listener.on(OrderPaid.of(order));
+			case CANCELED -> listener.on(OrderCanceled.of(order, reason));
+		}
+	}
+
+	/**
+	 * Returns whether the publication has been processed successfully.
+	 *
+	 * @return
+	 */
+	boolean isCompleted() {
+		return completionDate != null;
+	}
+
+	/**
+	 * Marks the publication as processed successfully.
+	 *
+	 * @return the current instance, will never be {@literal null}.
+	 */
+	OrderEventPublication markCompleted() {
+
+		this.completionDate = LocalDateTime.now();
+
+		return this;
+	}
+
+	/**
+	 * Returns a sequence number strictly greater than all ones handed out before, so that publications created in a row
+	 * keep their order even if they share the same publication date. Derived from the current time in microseconds so
+	 * that the ones of different application instances roughly interleave in publication order, too.
+	 *
+	 * @return the next sequence number.
+	 */
+	private static long nextSequenceNumber() {
+		return SEQUENCE.updateAndGet(it -> Math.max(it + 1, System.currentTimeMillis() * 1000));
+	}
+
+	enum Type {
+		PAID, CANCELED;
+	}
+
+	@Embeddable
+	@EqualsAndHashCode
+	@RequiredArgsConstructor(staticName = "of")
+	@NoArgsConstructor(force = true, access = AccessLevel.PACKAGE)
+	static class OrderEventPublicationIdentifier implements Identifier, Serializable {
+
+		private static final long serialVersionUID = 4206442536426271838L;
+
+		private final String publicationId;
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return publicationId;
+		}
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.accountancy;
+
+import org.salespointframework.accountancy.OrderEventPublication.OrderEventPublicationIdentifier;
+import org.salespointframework.core.SalespointRepository;
+import org.salespointframework.order.Order.OrderIdentifier;
+import org.springframework.data.util.Streamable;
+
+/**
+ * Repository for {@link OrderEventPublication}s.
+ *
+ * @since 8.1
+ */
+interface OrderEventPublicationRepository
+		extends SalespointRepository<OrderEventPublication, OrderEventPublicationIdentifier> {
+
+	/**
+	 * Returns all {@link OrderEventPublication}s that have not been processed successfully yet in the order they were
+	 * published, i.e. by their sequence number.
+	 *
+	 * @return
+	 */
+	Streamable<OrderEventPublication> findByCompletionDateIsNullOrderBySequenceNumber();
+
+	/**
+	 * Returns all {@link OrderEventPublication}s for the order with the given identifier that have not been processed
+	 * successfully yet in the order they were published, i.e. by their sequence number.
+	 *
+	 * @param orderIdentifier must not be {@literal null}.
+	 * @return
+	 */
+	Streamable<OrderEventPublication> findByOrderIdentifierAndCompletionDateIsNullOrderBySequenceNumber(
+			OrderIdentifier orderIdentifier);
+}
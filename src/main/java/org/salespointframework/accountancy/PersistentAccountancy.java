@@ -15,22 +15,30 @@
  */
 package org.salespointframework.accountancy;
 
-import static java.util.function.Function.*;
-import static java.util.stream.Collectors.*;
-
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAmount;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.function.Function;
 
+import javax.money.CurrencyUnit;
 import javax.money.MonetaryAmount;
 
 import org.javamoney.moneta.Money;
 import org.salespointframework.accountancy.AccountancyEntry.AccountancyEntryIdentifier;
+import org.salespointframework.accountancy.AccountancyEntryRepository.DatedValue;
+import org.salespointframework.accountancy.AccountancyRollup.Granularity;
 import org.salespointframework.core.Currencies;
+import org.salespointframework.order.Order.OrderIdentifier;
 import org.salespointframework.time.BusinessTime;
 import org.salespointframework.time.Interval;
 import org.salespointframework.time.Intervals;
@@ -53,6 +61,7 @@ class PersistentAccountancy implements Accountancy {
 
 	private final @NonNull BusinessTime businessTime;
 	private final @NonNull AccountancyEntryRepository repository;
+	private final @NonNull AccountancyRollups rollups;
 
 	/*
 	 * (non-Javadoc)
@@ -67,7 +76,11 @@ class PersistentAccountancy implements Accountancy {
 			accountancyEntry.setDate(businessTime.getTime());
 		}
 
-		return repository.save(accountancyEntry);
+		var result = repository.save(accountancyEntry);
+
+		rollups.add(result);
+
+		return result;
 	}
 
 	/*
@@ -81,6 +94,18 @@ class PersistentAccountancy implements Accountancy {
 		return repository.findById(accountancyEntryIdentifier);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.accountancy.Accountancy#findPaymentEntries(org.salespointframework.order.Order.OrderIdentifier)
+	 */
+	@Override
+	public final Streamable<ProductPaymentEntry> findPaymentEntries(OrderIdentifier orderIdentifier) {
+
+		Assert.notNull(orderIdentifier, "Order identifier must not be null!");
+
+		return repository.findPaymentEntriesByOrderIdentifier(orderIdentifier);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.salespointframework.accountancy.Accountancy#findAll()
@@ -112,8 +137,13 @@ class PersistentAccountancy implements Accountancy {
 		Assert.notNull(interval, "Interval must not be null");
 		Assert.notNull(duration, "TemporalAmount must not be null");
 
-		return Intervals.divide(interval, duration).stream() //
-				.collect(toMap(identity(), this::find));
+		var entries = repository.findByDateInOrderedByDate(interval);
+		var result = new LinkedHashMap<Interval, Streamable<AccountancyEntry>>();
+
+		divide(Intervals.divide(interval, duration), entries, it -> it.getDate().orElseThrow()) //
+				.forEach((key, value) -> result.put(key, Streamable.of(value)));
+
+		return result;
 	}
 
 	/*
@@ -126,9 +156,98 @@ class PersistentAccountancy implements Accountancy {
 		Assert.notNull(interval, "Interval must not be null");
 		Assert.notNull(duration, "TemporalAmount must not be null");
 
-		return find(interval, duration).entrySet().stream().//
-				collect(toMap(Entry::getKey, entry -> entry.getValue().stream().//
-						map(AccountancyEntry::getValue).//
-						reduce(Money.of(0, Currencies.EURO), MonetaryAmount::add)));
+		return salesVolume(interval, Intervals.divide(interval, duration));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.accountancy.Accountancy#salesVolume(org.salespointframework.time.Interval, java.time.temporal.ChronoUnit)
+	 */
+	@Override
+	public final Map<Interval, MonetaryAmount> salesVolume(Interval interval, ChronoUnit unit) {
+
+		Assert.notNull(interval, "Interval must not be null");
+		Assert.notNull(unit, "ChronoUnit must not be null");
+
+		return salesVolume(interval, Intervals.divide(interval, unit));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.accountancy.Accountancy#dailySalesVolumeByCurrency(java.time.LocalDate, java.time.LocalDate)
+	 */
+	@Override
+	public final Map<LocalDate, Map<CurrencyUnit, MonetaryAmount>> dailySalesVolumeByCurrency(LocalDate from,
+			LocalDate to) {
+		return rollups.salesVolume(Granularity.DAY, from, to);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.accountancy.Accountancy#monthlySalesVolumeByCurrency(java.time.YearMonth, java.time.YearMonth)
+	 */
+	@Override
+	public final Map<YearMonth, Map<CurrencyUnit, MonetaryAmount>> monthlySalesVolumeByCurrency(YearMonth from,
+			YearMonth to) {
+
+		Assert.notNull(from, "From must not be null!");
+		Assert.notNull(to, "To must not be null!");
+
+		var result = new LinkedHashMap<YearMonth, Map<CurrencyUnit, MonetaryAmount>>();
+
+		rollups.salesVolume(Granularity.MONTH, from.atDay(1), to.atDay(1)) //
+				.forEach((key, value) -> result.put(YearMonth.from(key), value));
+
+		return result;
+	}
+
+	private Map<Interval, MonetaryAmount> salesVolume(Interval interval, Intervals intervals) {
+
+		var values = repository.findValuesByDateIn(interval);
+		var result = new LinkedHashMap<Interval, MonetaryAmount>();
+
+		divide(intervals, values, DatedValue::getDate) //
+				.forEach((key, value) -> result.put(key, value.stream() //
+						.map(DatedValue::getValue) //
+						.reduce(Money.of(0, Currencies.EURO), MonetaryAmount::add)));
+
+		return result;
+	}
+
+	/**
+	 * Distributes the given elements ordered by date into the given sub-intervals in a single pass. As {@link Interval}s
+	 * are closed, elements dated exactly on the boundary of two sub-intervals are contained in both.
+	 *
+	 * @param intervals must not be {@literal null}.
+	 * @param elements must not be {@literal null}, ordered by date and within the given {@link Intervals}.
+	 * @param date extracts the date of an element, must not be {@literal null}.
+	 * @return the elements per sub-interval ordered by the sub-intervals.
+	 */
+	private static <T> Map<Interval, List<T>> divide(Intervals intervals, Iterable<T> elements,
+			Function<T, LocalDateTime> date) {
+
+		var result = new LinkedHashMap<Interval, List<T>>();
+
+		intervals.forEach(it -> result.put(it, new ArrayList<>()));
+
+		var keys = List.copyOf(result.keySet());
+		var index = 0;
+
+		for (T element : elements) {
+
+			var reference = date.apply(element);
+
+			while (index < keys.size() - 1 && keys.get(index).getEnd().isBefore(reference)) {
+				index++;
+			}
+
+			result.get(keys.get(index)).add(element);
+
+			if (index < keys.size() - 1 && keys.get(index + 1).contains(reference)) {
+				result.get(keys.get(index + 1)).add(element);
+			}
+		}
+
+		return result;
 	}
 }
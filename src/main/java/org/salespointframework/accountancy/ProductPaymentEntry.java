@@ -17,10 +17,12 @@ package org.salespointframework.accountancy;
 
 import jakarta.persistence.AttributeOverride;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Lob;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.PostLoad;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -32,6 +34,7 @@ import org.salespointframework.core.Currencies;
 import org.salespointframework.order.Order;
 import org.salespointframework.order.Order.OrderIdentifier;
 import org.salespointframework.payment.PaymentMethod;
+import org.salespointframework.payment.PaymentMethodAttributeConverter;
 import org.salespointframework.useraccount.UserAccount;
 import org.salespointframework.useraccount.UserAccount.UserAccountIdentifier;
 import org.springframework.util.Assert;
@@ -53,7 +56,7 @@ public class ProductPaymentEntry extends AccountancyEntry {
 	 * The {@link OrderIdentifier} which this {@link ProductPaymentEntry} refers to.
 	 */
 	@Embedded //
-	@AttributeOverride(name = "id", column = @Column(name = "ORDER_ID", nullable = true)) //
+	@AttributeOverride(name = "orderId", column = @Column(name = "ORDER_ID", nullable = true)) //
 	private OrderIdentifier orderIdentifier;
 
 	/**
@@ -64,9 +67,19 @@ public class ProductPaymentEntry extends AccountancyEntry {
 	private UserAccount userAccount;
 
 	/**
-	 * The {@link PaymentMethod} chosen for the order belonging to this <code>ProductPaymentEntry</code>
+	 * The {@link PaymentMethod} chosen for the order belonging to this <code>ProductPaymentEntry</code> in its compact
+	 * representation, if supported.
 	 */
-	private @Lob PaymentMethod paymentMethod;
+	@Getter(AccessLevel.NONE) //
+	@Column(name = "PAYMENT_DETAILS", length = 4096) //
+	@Convert(converter = PaymentMethodAttributeConverter.class) //
+	private PaymentMethod paymentMethod;
+
+	// Java-serialized custom PaymentMethods and the ones of entries persisted before 8.1 not migrated yet
+	@Lob @ToString.Exclude //
+	@Getter(AccessLevel.NONE) //
+	@Column(name = "PAYMENT_METHOD") //
+	private PaymentMethod serializedPaymentMethod;
 
 	public static ProductPaymentEntry of(Order order, String description) {
 		return new ProductPaymentEntry(order.getId(), order.getUserAccount(), order.getTotal(), description,
@@ -115,7 +128,56 @@ public class ProductPaymentEntry extends AccountancyEntry {
 
 		this.orderIdentifier = orderIdentifier;
 		this.userAccount = userAccount;
-		this.paymentMethod = paymentMethod;
+
+		assignPaymentMethod(paymentMethod);
+	}
+
+	/**
+	 * Returns the {@link PaymentMethod} chosen for the order belonging to this {@link ProductPaymentEntry}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public PaymentMethod getPaymentMethod() {
+		return paymentMethod != null ? paymentMethod : serializedPaymentMethod;
+	}
+
+	/**
+	 * Moves a {@link PaymentMethod} stored in the legacy, Java-serialized format into its compact representation if
+	 * supported and custom {@link PaymentMethod}s stored in the compact column into the serialized one. The change is
+	 * written on the next flush.
+	 *
+	 * @see PaymentMethodAttributeConverter#supports(PaymentMethod)
+	 */
+	@PostLoad
+	void migrateLegacyPaymentMethod() {
+
+		var current = getPaymentMethod();
+
+		if (current == null) {
+			return;
+		}
+
+		var misplaced = PaymentMethodAttributeConverter.supports(current) //
+				? serializedPaymentMethod != null //
+				: paymentMethod != null;
+
+		if (misplaced) {
+			assignPaymentMethod(current);
+		}
+	}
+
+	/**
+	 * Stores the given {@link PaymentMethod} in its compact representation if supported or Java-serialized in a LOB
+	 * otherwise, as the serialized form of custom {@link PaymentMethod}s can get large.
+	 *
+	 * @param paymentMethod must not be {@literal null}.
+	 */
+	private void assignPaymentMethod(PaymentMethod paymentMethod) {
+
+		var supported = PaymentMethodAttributeConverter.supports(paymentMethod);
+
+		this.paymentMethod = supported ? paymentMethod : null;
+		this.serializedPaymentMethod = supported ? null : paymentMethod;
 	}
 
 	/**
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.accountancy;
+
+import java.util.List;
+
+import org.salespointframework.payment.PaymentMethod;
+import org.salespointframework.payment.PaymentMethodAttributeConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Migrates the Java-serialized {@link PaymentMethod}s of {@link ProductPaymentEntry}s persisted before 8.1 into their
+ * compact representation on startup, so that the migration doesn't depend on the entries being loaded. Runs in chunks
+ * of a transaction each, loading the entries triggers the migration and committing writes it. Custom
+ * {@link PaymentMethod}s stay serialized.
+ *
+ * @since 8.1
+ * @see PaymentMethodAttributeConverter#supports(PaymentMethod)
+ */
+@Component
+class ProductPaymentEntryMigration {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ProductPaymentEntryMigration.class);
+	private static final int CHUNK_SIZE = 500;
+
+	private final AccountancyEntryRepository entries;
+	private final TransactionTemplate transactions;
+
+	ProductPaymentEntryMigration(AccountancyEntryRepository entries, PlatformTransactionManager transactionManager) {
+
+		this.entries = entries;
+		this.transactions = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * Migrates the {@link PaymentMethod}s of all {@link ProductPaymentEntry}s only available in Java-serialized form.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	void migratePaymentMethods() {
+
+		var after = "";
+		var migrated = 0;
+		List<ProductPaymentEntry> chunk;
+
+		do {
+
+			var start = after;
+
+			chunk = transactions.execute(__ -> entries.findPaymentEntriesWithSerializedPaymentMethod(start, //
+					PageRequest.of(0, CHUNK_SIZE)));
+
+			if (!chunk.isEmpty()) {
+				after = chunk.get(chunk.size() - 1).getId().toString();
+			}
+
+			migrated += chunk.stream() //
+					.filter(it -> PaymentMethodAttributeConverter.supports(it.getPaymentMethod())) //
+					.count();
+
+		} while (chunk.size() == CHUNK_SIZE);
+
+		if (migrated > 0) {
+			LOGGER.info("Migrated the legacy payment methods of {} product payment entries.", migrated);
+		}
+	}
+}
@@ -34,13 +34,13 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.UUID;
 
 import javax.money.MonetaryAmount;
 
 import org.jmolecules.ddd.types.Identifier;
 import org.salespointframework.catalog.Product.ProductIdentifier;
 import org.salespointframework.core.AbstractAggregateRoot;
+import org.salespointframework.core.IdentifierGenerator;
 import org.salespointframework.quantity.Metric;
 import org.salespointframework.quantity.MetricMismatchException;
 import org.salespointframework.quantity.Quantity;
@@ -59,7 +59,7 @@ public class Product extends AbstractAggregateRoot<ProductIdentifier> implements
 
 	private static final String INVALID_METRIC = "Product %s does not support quantity %s using metric %s!";
 
-	private @EmbeddedId ProductIdentifier id = ProductIdentifier.of(UUID.randomUUID().toString());
+	private @EmbeddedId ProductIdentifier id = ProductIdentifier.of(IdentifierGenerator.next());
 	private @NonNull @Getter @Setter String name;
 	private @NonNull @Getter @Setter MonetaryAmount price;
 	private @ElementCollection(fetch = FetchType.EAGER) Set<String> categories = new HashSet<String>();
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.core;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+import org.springframework.util.Assert;
+
+/**
+ * Strategy to generate the values of the identifiers of Salespoint's entities. The generator in use can be configured
+ * via {@code salespoint.identifiers.strategy} or by declaring a Spring bean implementing this interface.
+ *
+ * @since 8.1
+ */
+@FunctionalInterface
+public interface IdentifierGenerator {
+
+	/**
+	 * Generates random UUIDs (version 4). The default.
+	 */
+	IdentifierGenerator RANDOM = () -> UUID.randomUUID().toString();
+
+	/**
+	 * Generates time-ordered UUIDs (version 7), i.e. ones starting with the current timestamp in milliseconds followed by
+	 * a counter and random bits (RFC 9562, method 1). The counter is re-seeded randomly for every millisecond and
+	 * incremented for every identifier generated within the same one, so that identifiers created later by the same
+	 * application sort after the ones created earlier, even within a millisecond or if the system clock moves
+	 * backwards. Thus, newly inserted rows end up next to each other in database indexes.
+	 */
+	IdentifierGenerator TIME_ORDERED = new IdentifierGenerator() {
+
+		private static final long MAX_COUNTER = 0x0FFFL;
+
+		private final SecureRandom random = new SecureRandom();
+		private long timestamp = 0;
+		private long counter = 0;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.salespointframework.core.IdentifierGenerator#generate()
+		 */
+		@Override
+		public synchronized String generate() {
+
+			long now = System.currentTimeMillis();
+
+			if (now > timestamp) {
+
+				timestamp = now;
+				counter = seedCounter();
+
+			} else if (++counter > MAX_COUNTER) {
+
+				// Counter exhausted, borrow from the next millisecond
+				timestamp++;
+				counter = seedCounter();
+			}
+
+			long mostSignificantBits = timestamp << 16 | 0x7000L | counter;
+			long leastSignificantBits = 0x8000000000000000L | random.nextLong() & 0x3FFFFFFFFFFFFFFFL;
+
+			return new UUID(mostSignificantBits, leastSignificantBits).toString();
+		}
+
+		/**
+		 * Returns a random initial counter value with the most significant bit cleared, so that at least 2048 identifiers
+		 * can be generated per millisecond before the counter overflows.
+		 *
+		 * @return a random value between 0 and 2047.
+		 */
+		private long seedCounter() {
+			return random.nextInt(0x0800);
+		}
+	};
+
+	/**
+	 * Returns a new identifier value using the currently configured {@link IdentifierGenerator}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	static String next() {
+		return CurrentIdentifierGenerator.instance.generate();
+	}
+
+	/**
+	 * Configures the {@link IdentifierGenerator} to be used for all identifiers created from now on.
+	 *
+	 * @param generator must not be {@literal null}.
+	 * @return the {@link IdentifierGenerator} used before, so that it can be restored, will never be {@literal null}.
+	 */
+	static IdentifierGenerator use(IdentifierGenerator generator) {
+
+		Assert.notNull(generator, "IdentifierGenerator must not be null!");
+
+		var previous = CurrentIdentifierGenerator.instance;
+
+		CurrentIdentifierGenerator.instance = generator;
+
+		return previous;
+	}
+
+	/**
+	 * Generates a new identifier value.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	String generate();
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.inventory;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.salespointframework.catalog.Product;
+import org.salespointframework.catalog.Product.ProductIdentifier;
+import org.salespointframework.quantity.Quantity;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * {@link UniqueInventoryStock} caching the {@link Quantity} of the least recently used {@link UniqueInventoryItem}s if
+ * enabled via {@link InventoryProperties.StockCache}. The cache is populated on misses and every
+ * {@link UniqueInventoryItem} saved or deleted updates it via {@link StockCacheEntityListener}. Changes applied in a
+ * transaction evict the cached value immediately and write the new one once the transaction has committed, so that
+ * uncommitted stock is never exposed. Changes applied via bulk updates have to be announced via
+ * {@link #changed(ProductIdentifier)}.
+ * <p>
+ * Every change bumps a generation counter for the {@link Product}. A value looked up on a miss is only cached if the
+ * generation has not changed since the lookup started, so that a stale value read concurrently to a change cannot
+ * overwrite the one written by it. Likewise, the value of a change is only cached on commit if no other change has
+ * happened since, as the commit callbacks of concurrent transactions might run in reverse order.
+ *
+ * @since 8.1
+ */
+@Component
+class CachingUniqueInventoryStock implements UniqueInventoryStock {
+
+	private static final int GENERATION_STRIPES = 256;
+
+	private final ObjectProvider<UniqueInventory<UniqueInventoryItem>> inventory;
+	private final boolean enabled;
+	private final Map<ProductIdentifier, Quantity> cache;
+	private final long[] generations;
+	private final LongAdder hits, misses;
+
+	/**
+	 * Creates a new {@link CachingUniqueInventoryStock} for the given {@link UniqueInventory} and
+	 * {@link InventoryProperties}.
+	 *
+	 * @param inventory must not be {@literal null}.
+	 * @param properties must not be {@literal null}.
+	 */
+	CachingUniqueInventoryStock(ObjectProvider<UniqueInventory<UniqueInventoryItem>> inventory,
+			InventoryProperties properties) {
+
+		Assert.notNull(inventory, "UniqueInventory must not be null!");
+		Assert.notNull(properties, "InventoryProperties must not be null!");
+
+		var configuration = properties.getStockCache();
+		var maximumSize = configuration.getMaximumSize();
+
+		this.inventory = inventory;
+		this.enabled = configuration.isEnabled();
+		this.hits = new LongAdder();
+		this.misses = new LongAdder();
+		this.generations = new long[GENERATION_STRIPES];
+		this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 4373506251826411466L;
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+			 */
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<ProductIdentifier, Quantity> eldest) {
+				return size() > maximumSize;
+			}
+		};
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.inventory.UniqueInventoryStock#getQuantity(org.salespointframework.catalog.Product.ProductIdentifier)
+	 */
+	@Override
+	public Optional<Quantity> getQuantity(ProductIdentifier productIdentifier) {
+
+		Assert.notNull(productIdentifier, "Product identifier must not be null!");
+
+		if (!enabled) {
+
+			misses.increment();
+
+			return lookup(productIdentifier);
+		}
+
+		long generation;
+
+		synchronized (cache) {
+
+			var cached = cache.get(productIdentifier);
+
+			if (cached != null) {
+
+				hits.increment();
+
+				return Optional.of(cached);
+			}
+
+			generation = generations[stripeOf(productIdentifier)];
+		}
+
+		misses.increment();
+
+		var quantity = lookup(productIdentifier);
+
+		quantity.ifPresent(it -> afterCompletion(committed -> {
+			if (committed) {
+				putIfUnchanged(productIdentifier, it, generation);
+			}
+		}));
+
+		return quantity;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.inventory.UniqueInventoryStock#getStatistics()
+	 */
+	@Override
+	public Statistics getStatistics() {
+
+		synchronized (cache) {
+			return Statistics.of(hits.sum(), misses.sum(), cache.size());
+		}
+	}
+
+	/**
+	 * Evicts the cached {@link Quantity} of the given, changed {@link UniqueInventoryItem} immediately and caches the new
+	 * one once the current transaction has committed, unless the {@link UniqueInventoryItem} has been changed again in
+	 * the meantime.
+	 *
+	 * @param item must not be {@literal null}.
+	 */
+	void updated(UniqueInventoryItem item) {
+
+		if (!enabled) {
+			return;
+		}
+
+		var productIdentifier = item.getProduct().getId();
+		var quantity = item.getQuantity();
+		var generation = evict(productIdentifier);
+
+		afterCompletion(committed -> {
+			if (committed) {
+				putIfLatest(productIdentifier, quantity, generation);
+			} else {
+				evict(productIdentifier);
+			}
+		});
+	}
+
+	/**
+	 * Evicts the cached {@link Quantity} of the given, deleted {@link UniqueInventoryItem}.
+	 *
+	 * @param item must not be {@literal null}.
+	 */
+	void removed(UniqueInventoryItem item) {
+
+		if (!enabled) {
+			return;
+		}
+
+		var productIdentifier = item.getProduct().getId();
+
+		evict(productIdentifier);
+		afterCompletion(it -> evict(productIdentifier));
+	}
+
+	/**
+	 * Evicts the cached {@link Quantity} of the {@link UniqueInventoryItem} for the {@link Product} with the given
+	 * identifier immediately and once the current transaction has completed. Has to be called for changes applied via
+	 * bulk updates, as those don't trigger any entity callbacks.
+	 *
+	 * @param productIdentifier must not be {@literal null}.
+	 */
+	void changed(ProductIdentifier productIdentifier) {
+
+		Assert.notNull(productIdentifier, "Product identifier must not be null!");
+
+		if (!enabled) {
+			return;
+		}
+
+		evict(productIdentifier);
+		afterCompletion(it -> evict(productIdentifier));
+	}
+
+	/**
+	 * Invokes the given callback with whether the current transaction has committed once it has completed or immediately
+	 * if there's no transaction.
+	 *
+	 * @param callback must not be {@literal null}.
+	 */
+	private static void afterCompletion(Consumer<Boolean> callback) {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			callback.accept(true);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+			/*
+			 * (non-Javadoc)
+			 * @see org.springframework.transaction.support.TransactionSynchronization#afterCompletion(int)
+			 */
+			@Override
+			public void afterCompletion(int status) {
+				callback.accept(status == STATUS_COMMITTED);
+			}
+		});
+	}
+
+	private Optional<Quantity> lookup(ProductIdentifier productIdentifier) {
+
+		return inventory.getObject().findByProductIdentifier(productIdentifier) //
+				.map(InventoryItem::getQuantity);
+	}
+
+	/**
+	 * Caches the given {@link Quantity} written by a change in case no other change has happened since, i.e. the
+	 * generation is still the one the change has bumped it to.
+	 *
+	 * @param productIdentifier must not be {@literal null}.
+	 * @param quantity must not be {@literal null}.
+	 * @param generation the generation obtained when evicting for the change.
+	 */
+	private void putIfLatest(ProductIdentifier productIdentifier, Quantity quantity, long generation) {
+
+		synchronized (cache) {
+
+			var stripe = stripeOf(productIdentifier);
+
+			if (generations[stripe] == generation) {
+				cache.put(productIdentifier, quantity);
+				generations[stripe]++;
+			}
+		}
+	}
+
+	private void putIfUnchanged(ProductIdentifier productIdentifier, Quantity quantity, long generation) {
+
+		synchronized (cache) {
+			if (generations[stripeOf(productIdentifier)] == generation) {
+				cache.putIfAbsent(productIdentifier, quantity);
+			}
+		}
+	}
+
+	private long evict(ProductIdentifier productIdentifier) {
+
+		synchronized (cache) {
+			cache.remove(productIdentifier);
+			return ++generations[stripeOf(productIdentifier)];
+		}
+	}
+
+	private static int stripeOf(ProductIdentifier productIdentifier) {
+		return Math.floorMod(productIdentifier.hashCode(), GENERATION_STRIPES);
+	}
+
+	/**
+	 * JPA entity listener for {@link UniqueInventoryItem}s forwarding lifecycle callbacks to the
+	 * {@link CachingUniqueInventoryStock}. Needed as a separate type as the JPA provider creates a dedicated instance of
+	 * entity listeners.
+	 */
+	@RequiredArgsConstructor
+	static class StockCacheEntityListener {
+
+		private final @NonNull ObjectProvider<CachingUniqueInventoryStock> stock;
+
+		@PostPersist
+		@PostUpdate
+		void onSave(UniqueInventoryItem item) {
+			stock.ifAvailable(it -> it.updated(item));
+		}
+
+		@PostRemove
+		void onRemove(UniqueInventoryItem item) {
+			stock.ifAvailable(it -> it.removed(item));
+		}
+	}
+}
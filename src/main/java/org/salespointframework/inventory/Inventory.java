@@ -15,6 +15,8 @@
  */
 package org.salespointframework.inventory;
 
+import java.math.BigDecimal;
+
 import org.salespointframework.catalog.Product;
 import org.salespointframework.catalog.Product.ProductIdentifier;
 import org.salespointframework.core.SalespointRepository;
@@ -67,4 +69,15 @@ public interface Inventory<T extends InventoryItem<?>> {
 	 */
 	@Query("select i from #{#entityName} i where i.quantity.amount <= 0")
 	Streamable<T> findItemsOutOfStock();
+
+	/**
+	 * Returns all {@link InventoryItem}s whose {@link Quantity}'s amount is less than the given threshold, i.e. the ones
+	 * that don't have sufficient stock in the sense of {@link InventoryItem#hasSufficientQuantity(Quantity)}.
+	 *
+	 * @param threshold must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 8.1
+	 */
+	@Query("select i from #{#entityName} i where i.quantity.amount < ?1")
+	Streamable<T> findItemsBelow(BigDecimal threshold);
 }
@@ -20,6 +20,9 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Value;
 
+import java.util.Iterator;
+import java.util.List;
+
 import org.jmolecules.event.types.DomainEvent;
 import org.salespointframework.catalog.Product;
 import org.salespointframework.catalog.Product.ProductIdentifier;
@@ -52,6 +55,28 @@ public class InventoryEvents {
 		}
 	}
 
+	/**
+	 * Event published by the scheduled scan for {@link InventoryItem}s below the threshold configured in
+	 * {@link InventoryProperties}. Contains a {@link StockShort} per {@link Product} that has fallen below the threshold
+	 * since the previous scan, i.e. {@link Product}s that stay below it are not reported again.
+	 *
+	 * @since 8.1
+	 */
+	@Value(staticConstructor = "of")
+	public static class StockShortsDetected implements DomainEvent, Iterable<StockShort> {
+
+		List<StockShort> stockShorts;
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Iterable#iterator()
+		 */
+		@Override
+		public Iterator<StockShort> iterator() {
+			return stockShorts.iterator();
+		}
+	}
+
 	/**
 	 * Event published to signal a change in the quantity of an {@link InventoryItem}.
 	 *
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.inventory;
+
+import org.salespointframework.catalog.Product;
+import org.springframework.data.util.Streamable;
+
+/**
+ * Imports large numbers of new {@link InventoryItem}s, e.g. when synchronizing the inventory with an external system.
+ * In contrast to saving the items via {@link UniqueInventory} or {@link MultiInventory}, the rules checked for every
+ * single item to be persisted (at most one {@link UniqueInventoryItem} per {@link Product} and no
+ * {@link MultiInventoryItem}s for {@link Product}s managed by a {@link UniqueInventoryItem}) are verified for chunks of
+ * items with a single query each and the items are inserted in JDBC batches.
+ *
+ * @since 8.1
+ */
+public interface InventoryImporter {
+
+	/**
+	 * Imports the given new {@link InventoryItem}s. Either all of them are imported or none in case any of them violates
+	 * the rules mentioned above. The items returned are detached from the persistence context to keep its size constant
+	 * during the import.
+	 *
+	 * @param <T> the type of {@link InventoryItem}s to import.
+	 * @param items must not be {@literal null}.
+	 * @return the imported items, will never be {@literal null}.
+	 * @throws IllegalStateException in case any of the given items violates the rules mentioned above.
+	 */
+	<T extends InventoryItem<?>> Streamable<T> importAll(Iterable<T> items);
+}
@@ -27,11 +27,11 @@ import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 
 import java.io.Serializable;
-import java.util.UUID;
 
 import org.jmolecules.ddd.types.Identifier;
 import org.salespointframework.catalog.Product;
 import org.salespointframework.core.AbstractAggregateRoot;
+import org.salespointframework.core.IdentifierGenerator;
 import org.salespointframework.inventory.InventoryEvents.QuantityReduced;
 import org.salespointframework.inventory.InventoryItem.InventoryItemIdentifier;
 import org.salespointframework.quantity.Quantity;
@@ -54,7 +54,7 @@ import org.springframework.util.Assert;
 public abstract class InventoryItem<T extends InventoryItem<T>> extends AbstractAggregateRoot<InventoryItemIdentifier> {
 
 	private final @EmbeddedId InventoryItemIdentifier inventoryItemIdentifier = InventoryItemIdentifier
-			.of(UUID.randomUUID().toString());
+			.of(IdentifierGenerator.next());
 
 	@Getter //
 	private Quantity quantity;
@@ -109,9 +109,7 @@ public abstract class InventoryItem<T extends InventoryItem<T>> extends Abstract
 
 		this.quantity = this.quantity.subtract(quantity);
 
-		registerEvent(QuantityReduced.of(this));
-
-		return (T) this;
+		return markQuantityReduced();
 	}
 
 	/**
@@ -130,6 +128,22 @@ public abstract class InventoryItem<T extends InventoryItem<T>> extends Abstract
 		return (T) this;
 	}
 
+	/**
+	 * Registers a {@link QuantityReduced} event for the current {@link InventoryItem}. Used to signal reductions of the
+	 * quantity that have been applied to the database directly.
+	 *
+	 * @return the current instance.
+	 * @see UniqueInventory#decreaseQuantityIfSufficient(org.salespointframework.catalog.Product.ProductIdentifier,
+	 *      java.math.BigDecimal)
+	 */
+	@SuppressWarnings("unchecked")
+	T markQuantityReduced() {
+
+		registerEvent(QuantityReduced.of(this));
+
+		return (T) this;
+	}
+
 	/**
 	 * Returns whether the {@link InventoryItem} belongs to the given {@link Product}.
 	 *
@@ -19,6 +19,7 @@ import jakarta.persistence.PrePersist;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.salespointframework.catalog.Product;
@@ -28,7 +29,8 @@ import org.springframework.stereotype.Component;
 /**
  * JPA entity listener to make sure that no new {@link MultiInventoryItems} are created for {@link Product}s already
  * managed by a {@link UniqueInventoryItem}. Also, creating a new {@link UniqueInventoryItem} for a {@link Product} for
- * which a {@link UniqueInventoryItem} already exists is prevented.
+ * which a {@link UniqueInventoryItem} already exists is prevented. The verification is skipped for items persisted via
+ * {@link InventoryImporter} as it verifies them in bulk.
  *
  * @author Oliver Drotbohm
  * @since 7.2
@@ -38,6 +40,7 @@ import org.springframework.stereotype.Component;
 class InventoryItemCreationListener {
 
 	private static final String UNIQUE_ITEM_ALREADY_EXISTS = "Trying to persist unique inventory item for %s. The following item(s) already exist: %s.";
+	private static final ThreadLocal<Boolean> VERIFICATION_SKIPPED = ThreadLocal.withInitial(() -> false);
 
 	private final @NonNull ObjectProvider<UniqueInventory<UniqueInventoryItem>> uniqueInventory;
 	private final @NonNull ObjectProvider<MultiInventory<MultiInventoryItem>> inventory;
@@ -52,6 +55,10 @@ class InventoryItemCreationListener {
 	@PrePersist
 	public void verify(InventoryItem<?> item) {
 
+		if (VERIFICATION_SKIPPED.get()) {
+			return;
+		}
+
 		assertNonUniqueItem(item);
 
 		if (UniqueInventoryItem.class.isInstance(item)) {
@@ -68,6 +75,27 @@ class InventoryItemCreationListener {
 		}
 	}
 
+	/**
+	 * Invokes the given callback with the verification of {@link InventoryItem}s to be persisted skipped for the current
+	 * thread. Callers are responsible to verify the items themselves.
+	 *
+	 * @param <T> the type of the callback's result.
+	 * @param callback must not be {@literal null}.
+	 * @return the result of the callback.
+	 */
+	static <T> T withoutVerification(Supplier<T> callback) {
+
+		var previous = VERIFICATION_SKIPPED.get();
+
+		VERIFICATION_SKIPPED.set(true);
+
+		try {
+			return callback.get();
+		} finally {
+			VERIFICATION_SKIPPED.set(previous);
+		}
+	}
+
 	private void assertNonUniqueItem(InventoryItem<?> item) {
 
 		uniqueInventory.getObject().findByProduct(item.getProduct()) //
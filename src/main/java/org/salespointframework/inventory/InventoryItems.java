@@ -45,8 +45,7 @@ public class InventoryItems<T extends InventoryItem<?>> implements Streamable<T>
 
 		return stream() //
 				.map(InventoryItem::getQuantity) //
-				.reduce(Quantity::add) //
-				.orElse(Quantity.NONE);
+				.collect(Quantity.summing());
 	}
 
 	/*
@@ -18,17 +18,33 @@ package org.salespointframework.inventory;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.salespointframework.catalog.Product;
+import org.salespointframework.catalog.Product.ProductIdentifier;
 import org.salespointframework.inventory.InventoryEvents.QuantityReduced;
 import org.salespointframework.inventory.InventoryEvents.StockShort;
+import org.salespointframework.inventory.InventoryEvents.StockShortsDetected;
 import org.salespointframework.order.Order;
 import org.salespointframework.order.OrderCompletionFailure;
 import org.salespointframework.order.OrderEvents.OrderCanceled;
 import org.salespointframework.order.OrderEvents.OrderCompleted;
+import org.salespointframework.order.OrderEvents.OrderPaid;
 import org.salespointframework.order.OrderLine;
+import org.salespointframework.time.BusinessTime.DayHasPassed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
@@ -41,7 +57,8 @@ class InventoryListeners {
 
 	/**
 	 * Event listener to monitor {@link QuantityReduced} events and compare against the
-	 * {@link InventoryProperties#getRestockThreshold()} configured.
+	 * {@link InventoryProperties#getRestockThreshold()} configured. Can be disabled by setting
+	 * {@code salespoint.inventory.stock-short.per-decrement} to {@literal false}.
 	 *
 	 * @author Oliver Drotbohm
 	 * @since 7.3
@@ -55,6 +72,10 @@ class InventoryListeners {
 		@EventListener
 		StockShort on(QuantityReduced event) {
 
+			if (!configuration.getStockShort().isPerDecrement()) {
+				return null;
+			}
+
 			var threshold = configuration.getRestockThreshold();
 			var item = event.getItem();
 
@@ -102,4 +123,119 @@ class InventoryListeners {
 			management.updateStockForCancelledOrder(event.getOrder());
 		}
 	}
+
+	/**
+	 * Event listener to reserve the stock for {@link Order}s once they are paid and release it once they are canceled.
+	 * Expired reservations are released periodically, every minute by default. Configure
+	 * {@code salespoint.inventory.reservations.sweep-interval} in milliseconds or as ISO-8601 duration to change that.
+	 *
+	 * @since 8.1
+	 * @see StockReservations
+	 */
+	@Component
+	@RequiredArgsConstructor
+	@ConditionalOnProperty(name = "salespoint.inventory.reservations.enabled", havingValue = "true")
+	static class StockReservationListener {
+
+		private static final Logger LOGGER = LoggerFactory.getLogger(StockReservationListener.class);
+
+		private final @NonNull StockReservationManagement reservations;
+
+		/**
+		 * Reserves the stock for the {@link OrderLine}s of the {@link Order} in the given {@link OrderPaid} event. Runs
+		 * ahead of all other listeners, so that a rejected payment doesn't leave any of their side effects behind.
+		 *
+		 * @param event must not be {@literal null}.
+		 * @throws StockReservationFailure in case the stock available to promise is not sufficient for any of the
+		 *           {@link OrderLine}s.
+		 */
+		@EventListener
+		@org.springframework.core.annotation.Order(Ordered.HIGHEST_PRECEDENCE)
+		public void on(OrderPaid event) throws StockReservationFailure {
+			reservations.reserve(event.getOrder());
+		}
+
+		/**
+		 * Releases the stock reserved for the {@link Order} in the given {@link OrderCanceled} event.
+		 *
+		 * @param event must not be {@literal null}.
+		 */
+		@EventListener
+		public void on(OrderCanceled event) {
+			reservations.release(event.getOrder());
+		}
+
+		/**
+		 * Releases all expired reservations. Only runs if {@code salespoint.scheduling.enabled} is set, expired reservations
+		 * of the products involved are removed on every reservation in any case.
+		 */
+		@Scheduled(fixedDelayString = "${salespoint.inventory.reservations.sweep-interval:PT1M}")
+		void releaseExpiredReservations() {
+
+			var released = reservations.releaseExpired();
+
+			if (released > 0) {
+				LOGGER.debug("Released {} expired stock reservations.", released);
+			}
+		}
+	}
+
+	/**
+	 * Scans for {@link InventoryItem}s below the {@link InventoryProperties#getRestockThreshold()} configured once a day
+	 * has passed and publishes the {@link Product}s newly found as {@link StockShortsDetected}. Configure
+	 * {@code salespoint.inventory.stock-short.scan-cron} to scan on a cron schedule in addition. The {@link Product}s
+	 * reported are kept in memory, i.e. the ones still below the threshold are reported again after a restart.
+	 *
+	 * @since 8.1
+	 */
+	@Component
+	@RequiredArgsConstructor
+	@ConditionalOnProperty(name = "salespoint.inventory.stock-short.scan", havingValue = "true")
+	static class StockShortScanner {
+
+		private final @NonNull UniqueInventory<UniqueInventoryItem> uniqueInventory;
+		private final @NonNull MultiInventory<MultiInventoryItem> multiInventory;
+		private final @NonNull InventoryProperties configuration;
+		private final @NonNull ApplicationEventPublisher events;
+		private final Set<ProductIdentifier> reported = new HashSet<>();
+
+		/**
+		 * Triggers a scan once a day has passed.
+		 *
+		 * @param event must not be {@literal null}.
+		 */
+		@EventListener
+		public void on(DayHasPassed event) {
+			scan();
+		}
+
+		/**
+		 * Scans for {@link InventoryItem}s below the {@link InventoryProperties#getRestockThreshold()} and publishes a
+		 * {@link StockShortsDetected} for all {@link Product}s not already reported by the previous scan.
+		 */
+		@Scheduled(cron = "${salespoint.inventory.stock-short.scan-cron:-}")
+		synchronized void scan() {
+
+			var threshold = configuration.getRestockThreshold();
+			var amount = threshold.getAmount();
+
+			var items = Stream.concat(uniqueInventory.findItemsBelow(amount).stream(),
+					multiInventory.findItemsBelow(amount).stream()) //
+					.collect(Collectors.toMap(it -> it.getProduct().getId(), Function.<InventoryItem<?>> identity(),
+							(left, right) -> left.getQuantity().isLessThan(right.getQuantity()) ? left : right,
+							LinkedHashMap::new));
+
+			var stockShorts = items.entrySet().stream() //
+					.filter(it -> !reported.contains(it.getKey())) //
+					.map(it -> StockShort.of(it.getValue(), threshold)) //
+					.toList();
+
+			reported.clear();
+			reported.addAll(items.keySet());
+
+			if (!stockShorts.isEmpty()) {
+				events.publishEvent(StockShortsDetected.of(stockShorts));
+			}
+		}
+	}
 }
@@ -17,18 +17,29 @@ package org.salespointframework.inventory;
 
 import static org.salespointframework.order.OrderCompletionReport.OrderLineCompletion.*;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.salespointframework.catalog.Product;
+import org.salespointframework.catalog.Product.ProductIdentifier;
 import org.salespointframework.order.Order;
 import org.salespointframework.order.OrderCompletionFailure;
 import org.salespointframework.order.OrderCompletionReport;
 import org.salespointframework.order.OrderCompletionReport.OrderLineCompletion;
 import org.salespointframework.order.OrderLine;
-import org.springframework.data.util.Optionals;
+import org.salespointframework.quantity.Quantity;
+import org.springframework.data.util.Streamable;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
@@ -48,9 +59,24 @@ class InventoryManagement {
 	private final @NonNull MultiInventory<MultiInventoryItem> inventory;
 	private final @NonNull UniqueInventory<UniqueInventoryItem> uniqueInventory;
 	private final @NonNull List<LineItemFilter> filters;
+	private final @NonNull EntityManager entityManager;
+	private final @NonNull StockReservationManagement reservations;
+	private final @NonNull InventoryProperties properties;
+	private final @NonNull WriteBehindStockCounters counters;
+	private final @NonNull CachingUniqueInventoryStock stock;
 
 	/**
 	 * Verifies the stock for the products referenced from {@link OrderLine} items and updates the inventory accordingly.
+	 * The {@link InventoryItem}s for all {@link OrderLine}s are looked up in bulk, so that the number of queries issued
+	 * does not depend on the number of {@link OrderLine}s contained in the {@link Order}. In case the stock is not
+	 * sufficient for any of the {@link OrderLine}s, the stock already deducted for the others is restored, so that a
+	 * failed verification leaves the inventory untouched.
+	 * <p>
+	 * If stock reservations are enabled, the {@link OrderLine}s the stock has been reserved for are not verified again
+	 * but their reservations are converted into stock decreases. All other {@link OrderLine}s are verified against the
+	 * stock available to promise, i.e. the stock not reserved for other {@link Order}s.
+	 * <p>
+	 * The stock of {@link Product}s with an active {@link StockCounters counter} is decreased in memory only.
 	 *
 	 * @param order must not be {@literal null}.
 	 * @return will never be {@literal null}.
@@ -59,12 +85,46 @@ class InventoryManagement {
 
 		Assert.notNull(order, "Order must not be null!");
 
+		var items = lookupItemsFor(order.getOrderLines() //
+				.filter(it -> LineItemFilter.shouldBeHandled(it, filters)));
+		var decreased = new ArrayList<OrderLine>();
+		var reserved = properties.getReservations().isEnabled() //
+				? reservations.getReservedProducts(order) //
+				: Collections.<ProductIdentifier> emptySet();
+
 		var collect = order.getOrderLines() //
-				.map(this::verify)//
+				.map(it -> verify(it, items, reserved, decreased))//
 				.toList();
 
-		return OrderCompletionReport.forCompletions(order, collect) //
-				.onError(OrderCompletionFailure::new);
+		var report = OrderCompletionReport.forCompletions(order, collect);
+
+		decreased.forEach(it -> {
+
+			var identifier = it.getProductIdentifier();
+
+			if (counters.isActive(identifier)) {
+
+				if (report.hasErrors()) {
+					counters.increase(identifier, it.getQuantity());
+				}
+
+				return;
+			}
+
+			var item = items.getRequiredUniqueItem(it.getProductIdentifier());
+
+			if (report.hasErrors()) {
+				increaseQuantity(item, it.getQuantity());
+			} else {
+				uniqueInventory.save(item.markQuantityReduced());
+			}
+		});
+
+		if (!report.hasErrors() && !reserved.isEmpty()) {
+			reservations.release(order);
+		}
+
+		return report.onError(OrderCompletionFailure::new);
 	}
 
 	/**
@@ -80,18 +140,22 @@ class InventoryManagement {
 			return;
 		}
 
-		order.getOrderLines() //
-				.flatMap(this::updateStockFor) //
-				.forEach(uniqueInventory::save);
+		var items = lookupItemsFor(order.getOrderLines());
+
+		order.getOrderLines().forEach(it -> updateStockFor(it, items));
 	}
 
 	/**
 	 * Verifies the given {@link OrderLine} for sufficient stock in the {@link UniqueInventory}.
 	 *
 	 * @param orderLine must not be {@literal null}.
+	 * @param items must not be {@literal null}.
+	 * @param reserved the {@link Product}s stock has been reserved for, must not be {@literal null}.
+	 * @param decreased the {@link OrderLine}s the stock has been deducted for, must not be {@literal null}.
 	 * @return will never be {@literal null}.
 	 */
-	private OrderLineCompletion verify(OrderLine orderLine) {
+	private OrderLineCompletion verify(OrderLine orderLine, InventoryItemsLookup items, Set<ProductIdentifier> reserved,
+			List<OrderLine> decreased) {
 
 		Assert.notNull(orderLine, "OrderLine must not be null!");
 
@@ -100,56 +164,203 @@ class InventoryManagement {
 		}
 
 		var identifier = orderLine.getProductIdentifier();
-		var item = uniqueInventory.findByProductIdentifier(identifier);
 
-		return item.map(it -> verifyAndUpdateUnique(it, orderLine)) //
-				.orElseGet(() -> assertAtLeastOneExists(orderLine));
+		return items.getUniqueItem(identifier) //
+				.map(it -> verifyAndUpdateUnique(it, orderLine, reserved.contains(identifier), decreased)) //
+				.orElseGet(() -> assertAtLeastOneExists(orderLine, items));
 	}
 
 	/**
 	 * Verifies that the the given {@link UniqueInventoryItem}'s stock is high enough to satisfy the requested quantity of
-	 * the given {@link OrderLine}. Decreases the {@link UniqueInventoryItem}'s quantity if so.
+	 * the given {@link OrderLine}. Decreases the {@link UniqueInventoryItem}'s quantity if so. The check and decrease are
+	 * executed atomically in the database so that concurrent order completions cannot oversell the {@link Product}. The
+	 * given {@link UniqueInventoryItem} is refreshed afterwards to reflect the current stock. If stock reservations are
+	 * enabled and no stock has been reserved for the {@link OrderLine}, the {@link UniqueInventoryItem} is locked and the
+	 * stock reserved for other orders is deducted from the stock considered available. {@link Product}s with an active
+	 * stock counter are decreased via {@link WriteBehindStockCounters} instead, skipping the reservation checks.
 	 *
 	 * @param item must not be {@literal null}.
 	 * @param orderLine must not be {@literal null}.
+	 * @param reserved whether stock has been reserved for the {@link OrderLine}.
+	 * @param decreased the {@link OrderLine}s the stock has been deducted for, must not be {@literal null}.
 	 * @return will never be {@literal null}.
 	 */
-	private OrderLineCompletion verifyAndUpdateUnique(UniqueInventoryItem item, OrderLine orderLine) {
-		return hasSufficientQuantity(item, orderLine)
-				.onSuccess(it -> uniqueInventory.save(item.decreaseQuantity(it.getQuantity())));
+	private OrderLineCompletion verifyAndUpdateUnique(UniqueInventoryItem item, OrderLine orderLine, boolean reserved,
+			List<OrderLine> decreased) {
+
+		var quantity = orderLine.getQuantity();
+		var product = item.getProduct();
+
+		product.verify(quantity);
+
+		if (counters.isActive(product.getId())) {
+
+			if (!counters.tryDecrease(product.getId(), quantity)) {
+				return error(orderLine, NOT_ENOUGH_STOCK);
+			}
+
+			decreased.add(orderLine);
+
+			return success(orderLine);
+		}
+
+		if (!reserved && properties.getReservations().isEnabled()) {
+
+			entityManager.refresh(item, LockModeType.PESSIMISTIC_WRITE);
+
+			var reservedForOthers = reservations.getReservedQuantities(Set.of(product.getId()));
+			var available = item.getQuantity().subtract(reservedForOthers.getOrDefault(product.getId(), Quantity.NONE));
+
+			if (available.isLessThan(quantity)) {
+				return error(orderLine, NOT_ENOUGH_STOCK);
+			}
+		}
+
+		if (!item.hasSufficientQuantity(quantity)
+				|| uniqueInventory.decreaseQuantityIfSufficient(product.getId(), quantity.getAmount()) == 0) {
+			return error(orderLine, NOT_ENOUGH_STOCK);
+		}
+
+		// The bulk update doesn't trigger any entity callbacks
+		stock.changed(product.getId());
+		entityManager.refresh(item);
+		decreased.add(orderLine);
+
+		return success(orderLine);
 	}
 
 	/**
 	 * Creates a new {@link OrderLineCompletion} verifying that at least one {@link MultiInventoryItem} exists.
 	 *
 	 * @param orderLine must not be {@literal null}.
+	 * @param items must not be {@literal null}.
 	 * @return will never be {@literal null}.
 	 */
-	private OrderLineCompletion assertAtLeastOneExists(OrderLine orderLine) {
+	private static OrderLineCompletion assertAtLeastOneExists(OrderLine orderLine, InventoryItemsLookup items) {
 
-		var items = inventory.findByProductIdentifier(orderLine.getProductIdentifier());
-
-		return items.isEmpty() ? error(orderLine, NO_INVENTORY_ITEM) : skipped(orderLine);
+		return items.hasMultiItemsFor(orderLine.getProductIdentifier()) //
+				? skipped(orderLine)
+				: error(orderLine, NO_INVENTORY_ITEM);
 	}
 
-	private Stream<UniqueInventoryItem> updateStockFor(OrderLine orderLine) {
+	private void updateStockFor(OrderLine orderLine, InventoryItemsLookup items) {
 
 		var productIdentifier = orderLine.getProductIdentifier();
-		var item = uniqueInventory.findByProductIdentifier(productIdentifier)
-				.map(it -> it.increaseQuantity(orderLine.getQuantity()));
 
-		if (!item.isPresent() && inventory.findByProductIdentifier(productIdentifier).isEmpty()) {
+		if (counters.isActive(productIdentifier)) {
+
+			counters.increase(productIdentifier, orderLine.getQuantity());
+
+			return;
+		}
+
+		var item = items.getUniqueItem(productIdentifier);
+
+		if (!item.isPresent() && !items.hasMultiItemsFor(productIdentifier)) {
 			throw new IllegalArgumentException(
 					String.format("Couldn't find InventoryItem for product %s!", productIdentifier));
 		}
 
-		return Optionals.toStream(item);
+		item.ifPresent(it -> increaseQuantity(it, orderLine.getQuantity()));
+	}
+
+	/**
+	 * Increases the stock of the given {@link UniqueInventoryItem} by the given {@link Quantity} in the database directly,
+	 * so that decreases applied concurrently are not overwritten with the stale quantity of the given instance. The
+	 * given {@link UniqueInventoryItem} is refreshed afterwards to reflect the current stock.
+	 *
+	 * @param item must not be {@literal null}.
+	 * @param quantity must not be {@literal null}.
+	 */
+	private void increaseQuantity(UniqueInventoryItem item, Quantity quantity) {
+
+		var product = item.getProduct();
+
+		product.verify(quantity);
+
+		uniqueInventory.increaseQuantity(product.getId(), quantity.getAmount());
+
+		// The bulk update doesn't trigger any entity callbacks
+		stock.changed(product.getId());
+		entityManager.refresh(item);
+	}
+
+	/**
+	 * Looks up all {@link UniqueInventoryItem}s for the {@link Product}s referred to by the given {@link OrderLine}s
+	 * using a single query and issues a second one only for the {@link Product}s not managed by a
+	 * {@link UniqueInventoryItem} to find out whether they're kept track of by {@link MultiInventoryItem}s.
+	 *
+	 * @param orderLines must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private InventoryItemsLookup lookupItemsFor(Streamable<OrderLine> orderLines) {
+
+		var identifiers = orderLines.map(OrderLine::getProductIdentifier).toSet();
+
+		if (identifiers.isEmpty()) {
+			return InventoryItemsLookup.NONE;
+		}
+
+		var uniqueItems = uniqueInventory.findByProductIdentifierIn(identifiers).stream() //
+				.collect(Collectors.toMap(it -> it.getProduct().getId(), Function.identity()));
+
+		var remaining = identifiers.stream() //
+				.filter(it -> !uniqueItems.containsKey(it)) //
+				.collect(Collectors.toSet());
+
+		var multiItemProducts = remaining.isEmpty() //
+				? Collections.<ProductIdentifier> emptySet() //
+				: inventory.findByProductIdentifierIn(remaining).stream() //
+						.map(it -> it.getProduct().getId()) //
+						.collect(Collectors.toSet());
+
+		return new InventoryItemsLookup(uniqueItems, multiItemProducts);
 	}
 
-	private static OrderLineCompletion hasSufficientQuantity(InventoryItem<?> item, OrderLine orderLine) {
+	/**
+	 * The {@link InventoryItem}s looked up in bulk for a set of {@link OrderLine}s.
+	 */
+	@RequiredArgsConstructor
+	private static class InventoryItemsLookup {
 
-		return item.hasSufficientQuantity(orderLine.getQuantity()) //
-				? success(orderLine) //
-				: error(orderLine, NOT_ENOUGH_STOCK);
+		static final InventoryItemsLookup NONE = new InventoryItemsLookup(Collections.emptyMap(),
+				Collections.emptySet());
+
+		private final Map<ProductIdentifier, UniqueInventoryItem> uniqueItems;
+		private final Set<ProductIdentifier> multiItemProducts;
+
+		/**
+		 * Returns the {@link UniqueInventoryItem} for the {@link Product} with the given identifier.
+		 *
+		 * @param identifier must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		Optional<UniqueInventoryItem> getUniqueItem(ProductIdentifier identifier) {
+			return Optional.ofNullable(uniqueItems.get(identifier));
+		}
+
+		/**
+		 * Returns the {@link UniqueInventoryItem} for the {@link Product} with the given identifier.
+		 *
+		 * @param identifier must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 * @throws IllegalStateException in case no {@link UniqueInventoryItem} was found for the given identifier.
+		 */
+		UniqueInventoryItem getRequiredUniqueItem(ProductIdentifier identifier) {
+
+			return getUniqueItem(identifier).orElseThrow(
+					() -> new IllegalStateException(String.format("No unique inventory item found for %s!", identifier)));
+		}
+
+		/**
+		 * Returns whether there's at least one {@link MultiInventoryItem} for the {@link Product} with the given
+		 * identifier.
+		 *
+		 * @param identifier must not be {@literal null}.
+		 * @return
+		 */
+		boolean hasMultiItemsFor(ProductIdentifier identifier) {
+			return multiItemProducts.contains(identifier);
+		}
 	}
 }
@@ -17,6 +17,10 @@ package org.salespointframework.inventory;
 
 import lombok.Value;
 
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
 import org.salespointframework.quantity.Quantity;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.ConstructorBinding;
@@ -44,10 +48,151 @@ class InventoryProperties {
 	 */
 	private Quantity restockThreshold;
 
+	/**
+	 * The configuration of the in-process cache for the stock of {@link UniqueInventoryItem}s.
+	 */
+	private StockCache stockCache;
+
+	/**
+	 * The configuration of stock reservations for paid orders.
+	 */
+	private Reservations reservations;
+
+	/**
+	 * The configuration of how {@link InventoryEvents.StockShort}s are detected.
+	 */
+	private StockShortDetection stockShort;
+
+	/**
+	 * The configuration of the in-memory stock counters for products under extreme contention.
+	 */
+	private WriteBehind writeBehind;
+
 	@ConstructorBinding
-	InventoryProperties(boolean disableUpdates, @Nullable Quantity restockThreshold) {
+	InventoryProperties(boolean disableUpdates, @Nullable Quantity restockThreshold, @Nullable StockCache stockCache,
+			@Nullable Reservations reservations, @Nullable StockShortDetection stockShort,
+			@Nullable WriteBehind writeBehind) {
 
 		this.disableUpdates = disableUpdates;
 		this.restockThreshold = restockThreshold == null ? Quantity.NONE : restockThreshold;
+		this.stockCache = stockCache == null ? new StockCache(false, null) : stockCache;
+		this.reservations = reservations == null ? new Reservations(false, null) : reservations;
+		this.stockShort = stockShort == null ? new StockShortDetection(null, false) : stockShort;
+		this.writeBehind = writeBehind == null ? new WriteBehind(null, null, null) : writeBehind;
+	}
+
+	/**
+	 * @since 8.1
+	 * @see UniqueInventoryStock
+	 */
+	@Value
+	static class StockCache {
+
+		/**
+		 * Whether to cache the stock of {@link UniqueInventoryItem}s looked up via {@link UniqueInventoryStock}, defaults
+		 * to {@literal false}.
+		 */
+		boolean enabled;
+
+		/**
+		 * The maximum number of {@link org.salespointframework.catalog.Product}s to cache the stock for, defaults to 1000.
+		 * The least recently used entries are evicted once the limit is reached.
+		 */
+		int maximumSize;
+
+		StockCache(boolean enabled, @Nullable Integer maximumSize) {
+
+			this.enabled = enabled;
+			this.maximumSize = maximumSize == null ? 1000 : maximumSize;
+		}
+	}
+
+	/**
+	 * @since 8.1
+	 * @see StockReservations
+	 */
+	@Value
+	static class Reservations {
+
+		/**
+		 * Whether to reserve the stock for the {@link org.salespointframework.order.OrderLine}s of an order once it is
+		 * paid, defaults to {@literal false}. Expired reservations for a product are removed whenever new stock is reserved
+		 * for it. If {@code salespoint.scheduling.enabled} is set, all expired reservations are also removed every minute by
+		 * default, configure {@code salespoint.inventory.reservations.sweep-interval} in milliseconds or as ISO-8601
+		 * duration to change that.
+		 */
+		boolean enabled;
+
+		/**
+		 * How long a reservation is held before it expires, defaults to 15 minutes.
+		 */
+		Duration timeToLive;
+
+		Reservations(boolean enabled, @Nullable Duration timeToLive) {
+
+			this.enabled = enabled;
+			this.timeToLive = timeToLive == null ? Duration.ofMinutes(15) : timeToLive;
+		}
+	}
+
+	/**
+	 * @since 8.1
+	 */
+	@Value
+	static class StockShortDetection {
+
+		/**
+		 * Whether to evaluate the {@link InventoryProperties#getRestockThreshold()} on every decrease of an
+		 * {@link InventoryItem}'s quantity and publish a {@link InventoryEvents.StockShort} if the item falls below it,
+		 * defaults to {@literal true}.
+		 */
+		boolean perDecrement;
+
+		/**
+		 * Whether to scan for all {@link InventoryItem}s below the {@link InventoryProperties#getRestockThreshold()} once a
+		 * day has passed and publish the ones newly found as {@link InventoryEvents.StockShortsDetected}, defaults to
+		 * {@literal false}. Configure {@code salespoint.inventory.stock-short.scan-cron} to scan on a cron schedule in
+		 * addition.
+		 */
+		boolean scan;
+
+		StockShortDetection(@Nullable Boolean perDecrement, boolean scan) {
+
+			this.perDecrement = perDecrement == null ? true : perDecrement;
+			this.scan = scan;
+		}
+	}
+
+	/**
+	 * @since 8.1
+	 * @see StockCounters
+	 */
+	@Value
+	static class WriteBehind {
+
+		/**
+		 * The identifiers of the {@link org.salespointframework.catalog.Product}s to keep the stock for in in-memory
+		 * counters from application startup on.
+		 */
+		List<String> products;
+
+		/**
+		 * How often to write the aggregated changes of the counters to the database, defaults to every second. The
+		 * counters are flushed on a thread of their own, i.e. independently of {@code salespoint.scheduling.enabled}.
+		 */
+		Duration flushInterval;
+
+		/**
+		 * The number of stripes to spread the stock of a {@link org.salespointframework.catalog.Product} across, defaults
+		 * to the number of available processors.
+		 */
+		int stripes;
+
+		WriteBehind(@Nullable List<String> products, @Nullable Duration flushInterval, @Nullable Integer stripes) {
+
+			this.products = products == null ? Collections.emptyList() : products;
+			this.flushInterval = flushInterval == null ? Duration.ofSeconds(1) : flushInterval;
+			this.stripes = stripes == null ? Runtime.getRuntime().availableProcessors() : stripes;
+		}
 	}
 }
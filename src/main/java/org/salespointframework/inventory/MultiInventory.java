@@ -15,6 +15,8 @@
  */
 package org.salespointframework.inventory;
 
+import java.util.Collection;
+
 import org.salespointframework.catalog.Product;
 import org.salespointframework.catalog.Product.ProductIdentifier;
 import org.salespointframework.core.SalespointRepository;
@@ -44,6 +46,22 @@ public interface MultiInventory<T extends MultiInventoryItem>
 			""")
 	InventoryItems<T> findByProductIdentifier(ProductIdentifier productIdentifier);
 
+	/**
+	 * Returns all {@link InventoryItems} available for the given {@link ProductIdentifier}s. Allows looking up the items
+	 * for multiple {@link Product}s with a single query.
+	 *
+	 * @param productIdentifiers must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 8.1
+	 */
+	@Query("""
+			select i from #{#entityName} i
+			  join fetch i.product p
+			  left join fetch p.categories
+			 where p.id in ?1
+			""")
+	InventoryItems<T> findByProductIdentifierIn(Collection<ProductIdentifier> productIdentifiers);
+
 	/**
 	 * Returns all {@link InventoryItems} available for a given {@link Product}.
 	 *
@@ -16,7 +16,9 @@
 package org.salespointframework.inventory;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -30,6 +32,7 @@ import org.salespointframework.quantity.Quantity;
  * @author Oliver Drotbohm
  */
 @Entity
+@Table(indexes = @Index(name = "IDX_MULTI_INVENTORY_ITEM_QUANTITY", columnList = "quantity_amount"))
 @NoArgsConstructor(force = true, access = AccessLevel.PACKAGE)
 public class MultiInventoryItem extends InventoryItem<MultiInventoryItem> {
 
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.inventory;
+
+import jakarta.persistence.EntityManager;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.salespointframework.catalog.Product.ProductIdentifier;
+import org.springframework.data.util.Streamable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+/**
+ * {@link InventoryImporter} verifying and persisting {@link InventoryItem}s in chunks via the {@link EntityManager}.
+ *
+ * @since 8.1
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+class PersistentInventoryImporter implements InventoryImporter {
+
+	static final int CHUNK_SIZE = 1000;
+
+	private static final String UNIQUE_ITEM_ALREADY_EXISTS = "Trying to import %s conflicting with the inventory item(s) for product %s.";
+
+	private static final String EXISTING_ITEMS_QUERY = """
+			select 'unique', u.product.id from UniqueInventoryItem u where u.product.id in :products
+			union all
+			select 'multi', m.product.id from MultiInventoryItem m where m.product.id in :products
+			""";
+
+	private final @NonNull EntityManager entityManager;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.inventory.InventoryImporter#importAll(java.lang.Iterable)
+	 */
+	@Override
+	public <T extends InventoryItem<?>> Streamable<T> importAll(Iterable<T> items) {
+
+		Assert.notNull(items, "Inventory items must not be null!");
+
+		var result = new ArrayList<T>();
+		var unique = new HashSet<ProductIdentifier>();
+		var multi = new HashSet<ProductIdentifier>();
+		var chunk = new ArrayList<T>(CHUNK_SIZE);
+
+		for (T item : items) {
+
+			Assert.notNull(item, "Inventory item must not be null!");
+			Assert.isTrue(item.isNew(), "Only new inventory items can be imported!");
+
+			chunk.add(item);
+
+			if (chunk.size() == CHUNK_SIZE) {
+				importChunk(chunk, unique, multi);
+				result.addAll(chunk);
+				chunk.clear();
+			}
+		}
+
+		if (!chunk.isEmpty()) {
+			importChunk(chunk, unique, multi);
+			result.addAll(chunk);
+		}
+
+		return Streamable.of(result);
+	}
+
+	/**
+	 * Verifies the given chunk of {@link InventoryItem}s against the existing ones and the ones imported before, persists
+	 * and detaches them.
+	 *
+	 * @param chunk must not be {@literal null}.
+	 * @param unique the {@link ProductIdentifier}s of {@link UniqueInventoryItem}s imported so far, must not be
+	 *          {@literal null}.
+	 * @param multi the {@link ProductIdentifier}s of {@link MultiInventoryItem}s imported so far, must not be
+	 *          {@literal null}.
+	 */
+	private void importChunk(List<? extends InventoryItem<?>> chunk, Set<ProductIdentifier> unique,
+			Set<ProductIdentifier> multi) {
+
+		var products = chunk.stream() //
+				.map(it -> it.getProduct().getId()) //
+				.collect(Collectors.toSet());
+
+		var existing = entityManager.createQuery(EXISTING_ITEMS_QUERY, Object[].class) //
+				.setParameter("products", products) //
+				.getResultList();
+
+		for (Object[] row : existing) {
+			("unique".equals(row[0]) ? unique : multi).add((ProductIdentifier) row[1]);
+		}
+
+		for (var item : chunk) {
+
+			var product = item.getProduct().getId();
+			var isUnique = UniqueInventoryItem.class.isInstance(item);
+
+			if (unique.contains(product) || isUnique && multi.contains(product)) {
+				throw new IllegalStateException(
+						String.format(UNIQUE_ITEM_ALREADY_EXISTS, item, product));
+			}
+
+			(isUnique ? unique : multi).add(product);
+		}
+
+		InventoryItemCreationListener.withoutVerification(() -> {
+
+			chunk.forEach(entityManager::persist);
+			entityManager.flush();
+
+			return null;
+		});
+
+		chunk.forEach(entityManager::detach);
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.inventory;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.salespointframework.catalog.Product.ProductIdentifier;
+import org.salespointframework.quantity.Quantity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+/**
+ * {@link StockReservations} backed by {@link StockReservation}s stored in the database.
+ *
+ * @since 8.1
+ * @see StockReservationManagement
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+class PersistentStockReservations implements StockReservations {
+
+	private final @NonNull StockReservationManagement management;
+	private final @NonNull UniqueInventory<UniqueInventoryItem> uniqueInventory;
+	private final @NonNull StockCounters counters;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.inventory.StockReservations#getReservedQuantity(org.salespointframework.catalog.Product.ProductIdentifier)
+	 */
+	@Override
+	public Quantity getReservedQuantity(ProductIdentifier productIdentifier) {
+
+		Assert.notNull(productIdentifier, "Product identifier must not be null!");
+
+		return management.getReservedQuantities(Set.of(productIdentifier)) //
+				.getOrDefault(productIdentifier, Quantity.NONE);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.inventory.StockReservations#getAvailableToPromise(org.salespointframework.catalog.Product.ProductIdentifier)
+	 */
+	@Override
+	public Optional<Quantity> getAvailableToPromise(ProductIdentifier productIdentifier) {
+
+		Assert.notNull(productIdentifier, "Product identifier must not be null!");
+
+		// No stock is reserved for products with an active counter
+		var counted = counters.getQuantity(productIdentifier);
+
+		if (counted.isPresent()) {
+			return counted;
+		}
+
+		return uniqueInventory.findByProductIdentifier(productIdentifier) //
+				.map(it -> it.getQuantity().subtract(getReservedQuantity(productIdentifier)));
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.inventory;
+
+import java.util.Optional;
+
+import org.salespointframework.catalog.Product.ProductIdentifier;
+import org.salespointframework.quantity.Metric;
+import org.salespointframework.quantity.Quantity;
+
+/**
+ * In-memory stock counters for {@link org.salespointframework.catalog.Product}s under extreme contention, e.g. during
+ * a sale where thousands of customers buy the same {@link org.salespointframework.catalog.Product}. Order completions
+ * for an active {@link org.salespointframework.catalog.Product} decrease its counter instead of updating the
+ * {@link UniqueInventoryItem}'s row. The aggregated changes are written to the database periodically and on shutdown.
+ * Counters for the {@link org.salespointframework.catalog.Product}s listed in
+ * {@code salespoint.inventory.write-behind.products} are activated on startup and thus recovered from the database.
+ * <p>
+ * The counters are local to a single application instance and initialized with the full stock on activation. Thus, if
+ * multiple instances activate the counter for the same {@link org.salespointframework.catalog.Product}, each of them
+ * sells the entire stock. Changes not written to the database yet are lost if the application terminates abnormally,
+ * so that the stock recovered on restart is too high by the decreases of up to one flush interval. Stock reservations
+ * are neither made nor checked for {@link org.salespointframework.catalog.Product}s with an active counter. Only
+ * {@link UniqueInventoryItem}s with integral {@link Metric#UNIT} quantities are supported.
+ *
+ * @since 8.1
+ */
+public interface StockCounters {
+
+	/**
+	 * Activates the in-memory counter for the {@link org.salespointframework.catalog.Product} with the given identifier,
+	 * initialized with the current stock of its {@link UniqueInventoryItem}.
+	 *
+	 * @param productIdentifier must not be {@literal null}.
+	 * @throws IllegalArgumentException in case no {@link UniqueInventoryItem} exists for the given
+	 *           {@link ProductIdentifier} or its {@link Quantity} is not an integral amount of {@link Metric#UNIT}.
+	 */
+	void activate(ProductIdentifier productIdentifier);
+
+	/**
+	 * Writes the changes of the counter for the {@link org.salespointframework.catalog.Product} with the given identifier
+	 * to the database and deactivates it.
+	 *
+	 * @param productIdentifier must not be {@literal null}.
+	 */
+	void deactivate(ProductIdentifier productIdentifier);
+
+	/**
+	 * Returns whether the counter for the {@link org.salespointframework.catalog.Product} with the given identifier is
+	 * active.
+	 *
+	 * @param productIdentifier must not be {@literal null}.
+	 * @return
+	 */
+	boolean isActive(ProductIdentifier productIdentifier);
+
+	/**
+	 * Returns the current stock of the {@link org.salespointframework.catalog.Product} with the given identifier as
+	 * tracked by its counter.
+	 *
+	 * @param productIdentifier must not be {@literal null}.
+	 * @return the current stock or {@link Optional#empty()} in case no counter is active for the given
+	 *         {@link ProductIdentifier}.
+	 */
+	Optional<Quantity> getQuantity(ProductIdentifier productIdentifier);
+
+	/**
+	 * Writes the changes of all active counters to the database.
+	 */
+	void flush();
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.inventory;
+
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import org.jmolecules.ddd.types.Identifier;
+import org.salespointframework.catalog.Product.ProductIdentifier;
+import org.salespointframework.core.AbstractEntity;
+import org.salespointframework.core.IdentifierGenerator;
+import org.salespointframework.inventory.StockReservation.StockReservationIdentifier;
+import org.salespointframework.order.Order.OrderIdentifier;
+import org.salespointframework.order.OrderLine;
+import org.salespointframework.quantity.Quantity;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link Quantity} of a {@link org.salespointframework.catalog.Product} held back for an {@link OrderLine} of a
+ * paid {@link org.salespointframework.order.Order} until the order is completed, canceled or the reservation expires.
+ *
+ * @since 8.1
+ * @see StockReservations
+ */
+@Entity
+@ToString
+@Table(name = "STOCK_RESERVATION", indexes = {
+		@Index(name = "IDX_STOCK_RESERVATION_PRODUCT", columnList = "PRODUCT_ID, EXPIRES_AT"),
+		@Index(name = "IDX_STOCK_RESERVATION_ORDER", columnList = "ORDER_ID"),
+		@Index(name = "IDX_STOCK_RESERVATION_EXPIRY", columnList = "EXPIRES_AT") })
+@NoArgsConstructor(force = true, access = AccessLevel.PRIVATE)
+class StockReservation extends AbstractEntity<StockReservationIdentifier> {
+
+	private @EmbeddedId StockReservationIdentifier reservationIdentifier = StockReservationIdentifier
+			.of(IdentifierGenerator.next());
+
+	@AttributeOverride(name = "productId", column = @Column(name = "PRODUCT_ID"))
+	private @Getter ProductIdentifier product;
+
+	@AttributeOverride(name = "orderId", column = @Column(name = "ORDER_ID"))
+	private @Getter OrderIdentifier order;
+
+	private @Getter Quantity quantity;
+	private @Getter @Column(name = "EXPIRES_AT") LocalDateTime expiresAt;
+
+	/**
+	 * Creates a new {@link StockReservation} for the given {@link OrderLine} of the {@link org.salespointframework.order.Order}
+	 * with the given identifier.
+	 *
+	 * @param order must not be {@literal null}.
+	 * @param orderLine must not be {@literal null}.
+	 * @param expiresAt must not be {@literal null}.
+	 */
+	StockReservation(OrderIdentifier order, OrderLine orderLine, LocalDateTime expiresAt) {
+
+		Assert.notNull(order, "Order identifier must not be null!");
+		Assert.notNull(orderLine, "OrderLine must not be null!");
+		Assert.notNull(expiresAt, "Expiry date must not be null!");
+
+		this.product = orderLine.getProductIdentifier();
+		this.order = order;
+		this.quantity = orderLine.getQuantity();
+		this.expiresAt = expiresAt;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.Persistable#getId()
+	 */
+	@Override
+	public StockReservationIdentifier getId() {
+		return reservationIdentifier;
+	}
+
+	@Embeddable
+	@EqualsAndHashCode
+	@RequiredArgsConstructor(staticName = "of")
+	@NoArgsConstructor(force = true, access = AccessLevel.PACKAGE)
+	static class StockReservationIdentifier implements Identifier, Serializable {
+
+		private static final long serialVersionUID = 3571528907421786953L;
+
+		private final String reservationId;
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return reservationId;
+		}
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.inventory;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+
+import org.salespointframework.catalog.Product.ProductIdentifier;
+import org.salespointframework.order.Order;
+import org.salespointframework.order.OrderPaymentFailure;
+import org.salespointframework.quantity.Quantity;
+
+/**
+ * Exception thrown in case the stock of a {@link org.salespointframework.catalog.Product} cannot be reserved for an
+ * {@link Order} as the {@link Quantity} available to promise is not sufficient.
+ *
+ * @since 8.1
+ * @see StockReservations
+ */
+@Value
+@EqualsAndHashCode(callSuper = true)
+public class StockReservationFailure extends OrderPaymentFailure {
+
+	private static final long serialVersionUID = -2781245079542376413L;
+
+	ProductIdentifier productIdentifier;
+
+	/**
+	 * Creates a new {@link StockReservationFailure} for the given {@link Order}, {@link ProductIdentifier} and the
+	 * {@link Quantity}s requested and available.
+	 *
+	 * @param order must not be {@literal null}.
+	 * @param productIdentifier must not be {@literal null}.
+	 * @param requested must not be {@literal null}.
+	 * @param available must not be {@literal null}.
+	 */
+	StockReservationFailure(Order order, ProductIdentifier productIdentifier, Quantity requested, Quantity available) {
+
+		super(order, String.format("Cannot reserve %s of product %s for order %s, only %s available!", requested,
+				productIdentifier, order.getId(), available));
+
+		this.productIdentifier = productIdentifier;
+	}
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.inventory;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.salespointframework.catalog.Product.ProductIdentifier;
+import org.salespointframework.order.Order;
+import org.salespointframework.order.OrderLine;
+import org.salespointframework.quantity.Quantity;
+import org.salespointframework.time.BusinessTime;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+/**
+ * Manages the {@link StockReservation}s for {@link Order}s.
+ *
+ * @since 8.1
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+class StockReservationManagement {
+
+	private final @NonNull StockReservationRepository reservations;
+	private final @NonNull UniqueInventory<UniqueInventoryItem> uniqueInventory;
+	private final @NonNull List<LineItemFilter> filters;
+	private final @NonNull InventoryProperties properties;
+	private final @NonNull StockCounters counters;
+	private final @NonNull ObjectProvider<BusinessTime> businessTime;
+	private final @NonNull EntityManager entityManager;
+
+	/**
+	 * Reserves the stock for all {@link OrderLine}s of the given {@link Order} that are managed by a
+	 * {@link UniqueInventoryItem}. The {@link UniqueInventoryItem}s involved are locked in a stable order to prevent
+	 * concurrent reservations from exceeding the stock available to promise. Expired reservations for the products
+	 * involved are removed along the way, so that they don't pile up even if the periodic sweep is not running. No
+	 * stock is reserved for products with an active {@link StockCounters counter}, as the row of their
+	 * {@link UniqueInventoryItem} doesn't reflect the stock sold and completions decrease the counter regardless of any
+	 * reservations.
+	 *
+	 * @param order must not be {@literal null}.
+	 * @throws StockReservationFailure in case the stock available to promise is not sufficient for any of the
+	 *           {@link OrderLine}s. No stock is reserved for the {@link Order} in that case and the transaction is not
+	 *           marked for rollback, so that the caller can carry on with other {@link Order}s.
+	 */
+	@Transactional(noRollbackFor = StockReservationFailure.class)
+	void reserve(Order order) {
+
+		Assert.notNull(order, "Order must not be null!");
+
+		var requested = order.getOrderLines() //
+				.filter(it -> LineItemFilter.shouldBeHandled(it, filters)) //
+				.filter(it -> !counters.isActive(it.getProductIdentifier())) //
+				.stream() //
+				.collect(Collectors.groupingBy(OrderLine::getProductIdentifier,
+						Collectors.mapping(OrderLine::getQuantity, Quantity.summing())));
+
+		if (requested.isEmpty()) {
+			return;
+		}
+
+		var items = uniqueInventory.findByProductIdentifierIn(requested.keySet()).stream() //
+				.sorted(Comparator.comparing(it -> it.getProduct().getId().toString())) //
+				.toList();
+
+		items.forEach(it -> entityManager.refresh(it, LockModeType.PESSIMISTIC_WRITE));
+
+		reservations.deleteExpiredByProductIn(requested.keySet(), now());
+
+		var reserved = getReservedQuantities(requested.keySet());
+
+		for (var item : items) {
+
+			var identifier = item.getProduct().getId();
+			var available = item.getQuantity().subtract(reserved.getOrDefault(identifier, Quantity.NONE));
+			var quantity = requested.get(identifier);
+
+			if (available.isLessThan(quantity)) {
+				throw new StockReservationFailure(order, identifier, quantity, available);
+			}
+		}
+
+		var managed = items.stream() //
+				.map(it -> it.getProduct().getId()) //
+				.collect(Collectors.toSet());
+		var expiresAt = now().plus(properties.getReservations().getTimeToLive());
+
+		reservations.saveAll(order.getOrderLines() //
+				.filter(it -> managed.contains(it.getProductIdentifier())) //
+				.filter(it -> LineItemFilter.shouldBeHandled(it, filters)) //
+				.map(it -> new StockReservation(order.getId(), it, expiresAt)));
+	}
+
+	/**
+	 * Returns the identifiers of all {@link org.salespointframework.catalog.Product}s stock is currently reserved for
+	 * for the given {@link Order}.
+	 *
+	 * @param order must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Set<ProductIdentifier> getReservedProducts(Order order) {
+
+		Assert.notNull(order, "Order must not be null!");
+
+		return reservations.findUnexpiredByOrder(order.getId(), now()) //
+				.map(StockReservation::getProduct) //
+				.toSet();
+	}
+
+	/**
+	 * Releases all reservations held for the given {@link Order}.
+	 *
+	 * @param order must not be {@literal null}.
+	 * @return the number of reservations released.
+	 */
+	int release(Order order) {
+
+		Assert.notNull(order, "Order must not be null!");
+
+		return reservations.deleteByOrder(order.getId());
+	}
+
+	/**
+	 * Releases all reservations that have expired.
+	 *
+	 * @return the number of reservations released.
+	 */
+	int releaseExpired() {
+		return reservations.deleteExpired(now());
+	}
+
+	/**
+	 * Returns the {@link Quantity}s currently reserved for the {@link org.salespointframework.catalog.Product}s with the
+	 * given identifiers. {@link org.salespointframework.catalog.Product}s without any reservations are not contained in
+	 * the result.
+	 *
+	 * @param identifiers must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	@Transactional(readOnly = true)
+	Map<ProductIdentifier, Quantity> getReservedQuantities(Collection<ProductIdentifier> identifiers) {
+
+		Assert.notNull(identifiers, "Product identifiers must not be null!");
+
+		return reservations.findUnexpiredByProductIn(identifiers, now()).stream() //
+				.collect(Collectors.groupingBy(StockReservation::getProduct,
+						Collectors.mapping(StockReservation::getQuantity, Quantity.summing())));
+	}
+
+	/**
+	 * Returns the current {@link BusinessTime} or the system time in case the time module is not bootstrapped.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	private LocalDateTime now() {
+
+		var time = businessTime.getIfAvailable();
+
+		return time == null ? LocalDateTime.now() : time.getTime();
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.inventory;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import org.salespointframework.catalog.Product.ProductIdentifier;
+import org.salespointframework.core.SalespointRepository;
+import org.salespointframework.inventory.StockReservation.StockReservationIdentifier;
+import org.salespointframework.order.Order.OrderIdentifier;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.util.Streamable;
+
+/**
+ * Repository for {@link StockReservation}s.
+ *
+ * @since 8.1
+ */
+interface StockReservationRepository extends SalespointRepository<StockReservation, StockReservationIdentifier> {
+
+	/**
+	 * Returns all {@link StockReservation}s for the given products that have not expired at the given point in time.
+	 *
+	 * @param products must not be {@literal null}.
+	 * @param reference must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	@Query("""
+			select r from StockReservation r
+			 where r.product in ?1
+			   and r.expiresAt > ?2
+			""")
+	Streamable<StockReservation> findUnexpiredByProductIn(Collection<ProductIdentifier> products,
+			LocalDateTime reference);
+
+	/**
+	 * Returns all {@link StockReservation}s held for the order with the given identifier that have not expired at the
+	 * given point in time.
+	 *
+	 * @param order must not be {@literal null}.
+	 * @param reference must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	@Query("""
+			select r from StockReservation r
+			 where r.order = ?1
+			   and r.expiresAt > ?2
+			""")
+	Streamable<StockReservation> findUnexpiredByOrder(OrderIdentifier order, LocalDateTime reference);
+
+	/**
+	 * Deletes all {@link StockReservation}s held for the order with the given identifier.
+	 *
+	 * @param order must not be {@literal null}.
+	 * @return the number of {@link StockReservation}s deleted.
+	 */
+	@Modifying
+	@Query("delete from StockReservation r where r.order = ?1")
+	int deleteByOrder(OrderIdentifier order);
+
+	/**
+	 * Deletes all {@link StockReservation}s that have expired at the given point in time.
+	 *
+	 * @param reference must not be {@literal null}.
+	 * @return the number of {@link StockReservation}s deleted.
+	 */
+	@Modifying
+	@Query("delete from StockReservation r where r.expiresAt <= ?1")
+	int deleteExpired(LocalDateTime reference);
+
+	/**
+	 * Deletes all {@link StockReservation}s for the given products that have expired at the given point in time.
+	 *
+	 * @param products must not be {@literal null}.
+	 * @param reference must not be {@literal null}.
+	 * @return the number of {@link StockReservation}s deleted.
+	 */
+	@Modifying
+	@Query("""
+			delete from StockReservation r
+			 where r.product in ?1
+			   and r.expiresAt <= ?2
+			""")
+	int deleteExpiredByProductIn(Collection<ProductIdentifier> products, LocalDateTime reference);
+}
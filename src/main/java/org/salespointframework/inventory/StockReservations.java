@@ -0,0 +1,54 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.inventory;
+
+import java.util.Optional;
+
+import org.salespointframework.catalog.Product.ProductIdentifier;
+import org.salespointframework.order.OrderEvents.OrderPaid;
+import org.salespointframework.quantity.Quantity;
+
+/**
+ * Access to the stock reserved for paid but not yet completed {@link org.salespointframework.order.Order}s. Enable
+ * reservations by setting {@code salespoint.inventory.reservations.enabled} to {@literal true}. The stock for all
+ * {@link org.salespointframework.order.OrderLine}s managed by a {@link UniqueInventoryItem} is then reserved on
+ * {@link OrderPaid}, so that completing the order only has to convert the reservations into stock decreases.
+ *
+ * @since 8.1
+ */
+public interface StockReservations {
+
+	/**
+	 * Returns the {@link Quantity} currently reserved for the {@link org.salespointframework.catalog.Product} with the
+	 * given identifier, i.e. the sum of all reservations that have not expired yet.
+	 *
+	 * @param productIdentifier must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Quantity getReservedQuantity(ProductIdentifier productIdentifier);
+
+	/**
+	 * Returns the {@link Quantity} available to promise for the {@link org.salespointframework.catalog.Product} with the
+	 * given identifier, i.e. the stock of its {@link UniqueInventoryItem} minus the {@link Quantity} currently reserved.
+	 * For {@link org.salespointframework.catalog.Product}s with an active {@link StockCounters counter}, no stock is
+	 * reserved and the stock tracked by the counter is returned.
+	 *
+	 * @param productIdentifier must not be {@literal null}.
+	 * @return the {@link Quantity} available or {@link Optional#empty()} if there's no {@link UniqueInventoryItem} for
+	 *         the given {@link ProductIdentifier}.
+	 */
+	Optional<Quantity> getAvailableToPromise(ProductIdentifier productIdentifier);
+}
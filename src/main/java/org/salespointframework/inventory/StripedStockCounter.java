@@ -0,0 +1,178 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.inventory;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.util.Assert;
+
+/**
+ * An in-memory stock counter that never drops below zero. The stock is spread across a number of stripes so that
+ * concurrent decreases usually update different memory locations via compare-and-set without locking. A decrease that
+ * cannot be satisfied by the stripe of the current thread collects the stock of all stripes under a lock, so that it
+ * only fails if the overall stock is insufficient.
+ *
+ * @since 8.1
+ */
+class StripedStockCounter {
+
+	/**
+	 * The distance between two stripes in the underlying array, so that every stripe lives on a cache line of its own.
+	 */
+	private static final int PADDING = 16;
+
+	private final AtomicLongArray cells;
+	private final int stripes;
+	private final ReentrantLock lock;
+
+	/**
+	 * Creates a new {@link StripedStockCounter} with the given number of stripes and initial stock.
+	 *
+	 * @param stripes must be greater than zero.
+	 * @param initial must not be negative.
+	 */
+	StripedStockCounter(int stripes, long initial) {
+
+		Assert.isTrue(stripes > 0, "Number of stripes must be greater than zero!");
+		Assert.isTrue(initial >= 0, "Initial stock must not be negative!");
+
+		this.cells = new AtomicLongArray(stripes * PADDING);
+		this.stripes = stripes;
+		this.lock = new ReentrantLock();
+
+		distribute(initial);
+	}
+
+	/**
+	 * Decreases the stock by the given amount if sufficient stock is available.
+	 *
+	 * @param amount must be greater than zero.
+	 * @return whether the stock was decreased.
+	 */
+	boolean tryDecrease(long amount) {
+
+		Assert.isTrue(amount > 0, "Amount must be greater than zero!");
+
+		var index = index();
+
+		for (long current = cells.get(index); current >= amount; current = cells.get(index)) {
+			if (cells.compareAndSet(index, current, current - amount)) {
+				return true;
+			}
+		}
+
+		lock.lock();
+
+		try {
+
+			var total = drain();
+			var sufficient = total >= amount;
+
+			distribute(sufficient ? total - amount : total);
+
+			return sufficient;
+
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Increases the stock by the given amount.
+	 *
+	 * @param amount must not be negative.
+	 */
+	void increase(long amount) {
+
+		Assert.isTrue(amount >= 0, "Amount must not be negative!");
+
+		cells.addAndGet(index(), amount);
+	}
+
+	/**
+	 * Adjusts the stock by the given, potentially negative amount. The stock is capped at zero in case a negative
+	 * adjustment exceeds it.
+	 *
+	 * @param amount the amount to adjust the stock by.
+	 * @return the amount the stock was actually adjusted by.
+	 */
+	long adjust(long amount) {
+
+		lock.lock();
+
+		try {
+
+			var total = drain();
+			var adjusted = Math.max(0, total + amount);
+
+			distribute(adjusted);
+
+			return adjusted - total;
+
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the current stock. Decreases and increases applied concurrently might or might not be reflected.
+	 *
+	 * @return will never be negative.
+	 */
+	long get() {
+
+		lock.lock();
+
+		try {
+
+			var total = 0L;
+
+			for (int i = 0; i < stripes; i++) {
+				total += cells.get(i * PADDING);
+			}
+
+			return total;
+
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private long drain() {
+
+		var total = 0L;
+
+		for (int i = 0; i < stripes; i++) {
+			total += cells.getAndSet(i * PADDING, 0);
+		}
+
+		return total;
+	}
+
+	private void distribute(long total) {
+
+		var share = total / stripes;
+
+		for (int i = 0; i < stripes; i++) {
+			cells.addAndGet(i * PADDING, i == 0 ? share + total % stripes : share);
+		}
+	}
+
+	private int index() {
+		return (int) (Thread.currentThread().getId() % stripes) * PADDING;
+	}
+}
@@ -15,6 +15,8 @@
  */
 package org.salespointframework.inventory;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.Optional;
 
 import org.salespointframework.catalog.Product;
@@ -23,7 +25,9 @@ import org.salespointframework.core.SalespointRepository;
 import org.salespointframework.inventory.InventoryItem.InventoryItemIdentifier;
 import org.salespointframework.order.Order;
 import org.salespointframework.quantity.Quantity;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.util.Streamable;
 
 /**
  * A {@link UniqueInventory} manages {@link UniqueInventoryItem}s, i.e. only a single {@link InventoryItem} can exist
@@ -52,6 +56,61 @@ public interface UniqueInventory<T extends UniqueInventoryItem>
 			""")
 	Optional<T> findByProductIdentifier(ProductIdentifier productIdentifier);
 
+	/**
+	 * Returns all {@link InventoryItem}s for the given {@link ProductIdentifier}s. Allows looking up the items for
+	 * multiple {@link Product}s with a single query.
+	 *
+	 * @param productIdentifiers must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 8.1
+	 */
+	@Query("""
+			select i from #{#entityName} i
+			  join fetch i.product p
+			  left join fetch p.categories
+			 where p.id in ?1
+			""")
+	Streamable<T> findByProductIdentifierIn(Collection<ProductIdentifier> productIdentifiers);
+
+	/**
+	 * Atomically decreases the amount of the {@link InventoryItem} for the given {@link ProductIdentifier} by the given
+	 * amount in case the item's current amount is at least as large. As the check and the update are executed as a
+	 * single statement, concurrent decreases cannot drive the stock below zero. Note, that the change is applied to the
+	 * database directly, i.e. instances already loaded need to be refreshed to reflect it.
+	 *
+	 * @param productIdentifier must not be {@literal null}.
+	 * @param amount must not be {@literal null}.
+	 * @return the number of items updated, i.e. {@literal 0} in case the stock was not sufficient.
+	 * @since 8.1
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("""
+			update #{#entityName} i
+			   set i.quantity.amount = i.quantity.amount - cast(?2 as BigDecimal)
+			 where i.product.id = ?1
+			   and i.quantity.amount >= ?2
+			""")
+	int decreaseQuantityIfSufficient(ProductIdentifier productIdentifier, BigDecimal amount);
+
+	/**
+	 * Atomically increases the amount of the {@link InventoryItem} for the given {@link ProductIdentifier} by the given
+	 * amount. As the update is executed as a single statement, it cannot overwrite concurrent decreases applied via
+	 * {@link #decreaseQuantityIfSufficient(ProductIdentifier, BigDecimal)}. Note, that the change is applied to the
+	 * database directly, i.e. instances already loaded need to be refreshed to reflect it.
+	 *
+	 * @param productIdentifier must not be {@literal null}.
+	 * @param amount must not be {@literal null}.
+	 * @return the number of items updated.
+	 * @since 8.1
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("""
+			update #{#entityName} i
+			   set i.quantity.amount = i.quantity.amount + cast(?2 as BigDecimal)
+			 where i.product.id = ?1
+			""")
+	int increaseQuantity(ProductIdentifier productIdentifier, BigDecimal amount);
+
 	/**
 	 * Returns the {@link InventoryItem} for the given {@link Product}.
 	 *
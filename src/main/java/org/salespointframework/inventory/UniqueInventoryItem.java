@@ -16,12 +16,16 @@
 package org.salespointframework.inventory;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 import org.salespointframework.catalog.Product;
+import org.salespointframework.inventory.CachingUniqueInventoryStock.StockCacheEntityListener;
 import org.salespointframework.quantity.Quantity;
 
 /**
@@ -31,6 +35,8 @@ import org.salespointframework.quantity.Quantity;
  * @since 7.2
  */
 @Entity
+@EntityListeners(StockCacheEntityListener.class)
+@Table(indexes = @Index(name = "IDX_UNIQUE_INVENTORY_ITEM_QUANTITY", columnList = "quantity_amount"))
 @NoArgsConstructor(force = true, access = AccessLevel.PACKAGE)
 public class UniqueInventoryItem extends InventoryItem<UniqueInventoryItem> {
 
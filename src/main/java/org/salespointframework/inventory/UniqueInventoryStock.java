@@ -0,0 +1,100 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.inventory;
+
+import lombok.Value;
+
+import java.util.Optional;
+
+import org.salespointframework.catalog.Product.ProductIdentifier;
+import org.salespointframework.quantity.Quantity;
+
+/**
+ * Read-only access to the stock of {@link UniqueInventoryItem}s. If {@code salespoint.inventory.stock-cache.enabled} is
+ * set to {@literal true}, the stock of recently looked up {@link org.salespointframework.catalog.Product}s is kept in an
+ * in-process cache of bounded size that is updated once changes to the {@link UniqueInventoryItem}s have been
+ * committed. Use it for informational checks like stock badges only, as the stock reported might lag behind changes
+ * applied concurrently. Order completion always verifies the stock against the database.
+ *
+ * @since 8.1
+ */
+public interface UniqueInventoryStock {
+
+	/**
+	 * Returns the current {@link Quantity} of the {@link UniqueInventoryItem} for the given {@link ProductIdentifier}.
+	 *
+	 * @param productIdentifier must not be {@literal null}.
+	 * @return the {@link Quantity} in stock or {@link Optional#empty()} if there's no {@link UniqueInventoryItem} for the
+	 *         given {@link ProductIdentifier}.
+	 */
+	Optional<Quantity> getQuantity(ProductIdentifier productIdentifier);
+
+	/**
+	 * Returns whether the {@link UniqueInventoryItem} for the given {@link ProductIdentifier} has at least the given
+	 * {@link Quantity} in stock.
+	 *
+	 * @param productIdentifier must not be {@literal null}.
+	 * @param quantity must not be {@literal null}.
+	 * @return {@literal false} if there's no {@link UniqueInventoryItem} for the given {@link ProductIdentifier}.
+	 */
+	default boolean hasSufficientQuantity(ProductIdentifier productIdentifier, Quantity quantity) {
+
+		return getQuantity(productIdentifier) //
+				.map(it -> it.isGreaterThanOrEqualTo(quantity)) //
+				.orElse(false);
+	}
+
+	/**
+	 * Returns statistics about the usage of the stock cache.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	Statistics getStatistics();
+
+	/**
+	 * Statistics about the usage of the stock cache.
+	 */
+	@Value(staticConstructor = "of")
+	class Statistics {
+
+		/**
+		 * The number of lookups served from the cache.
+		 */
+		long hits;
+
+		/**
+		 * The number of lookups that had to read the stock from the database.
+		 */
+		long misses;
+
+		/**
+		 * The number of {@link org.salespointframework.catalog.Product}s currently cached.
+		 */
+		int size;
+
+		/**
+		 * Returns the ratio of lookups served from the cache.
+		 *
+		 * @return a value between 0 and 1.
+		 */
+		public double getHitRatio() {
+
+			var lookups = hits + misses;
+
+			return lookups == 0 ? 0 : (double) hits / lookups;
+		}
+	}
+}
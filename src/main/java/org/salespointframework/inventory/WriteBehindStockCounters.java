@@ -0,0 +1,409 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.inventory;
+
+import jakarta.persistence.EntityManager;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.salespointframework.catalog.Product.ProductIdentifier;
+import org.salespointframework.quantity.Metric;
+import org.salespointframework.quantity.Quantity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+/**
+ * {@link StockCounters} backed by {@link StripedStockCounter}s. Decreases are applied to the counters immediately and
+ * reverted if the surrounding transaction is rolled back. Increases are applied once the surrounding transaction has
+ * committed. Changes to the {@link UniqueInventoryItem}s applied through other means are picked up on the next flush.
+ * <p>
+ * The counters are flushed on a dedicated thread rather than via {@code @Scheduled}, as scheduling is only enabled if
+ * {@code salespoint.scheduling.enabled} is set and unflushed changes would otherwise accumulate until shutdown.
+ *
+ * @since 8.1
+ */
+@Component
+class WriteBehindStockCounters implements StockCounters, DisposableBean {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(WriteBehindStockCounters.class);
+
+	private static final String QUANTITY_QUERY = """
+			select i.quantity from UniqueInventoryItem i
+			 where i.product.id = :product
+			""";
+
+	private static final String UPDATE_QUERY = """
+			update UniqueInventoryItem i
+			   set i.quantity.amount = i.quantity.amount - cast(:delta as BigDecimal)
+			 where i.product.id = :product
+			""";
+
+	private final EntityManager entityManager;
+	private final CachingUniqueInventoryStock stock;
+	private final TransactionTemplate transactions;
+	private final InventoryProperties.WriteBehind configuration;
+	private final Map<ProductIdentifier, Counter> counters;
+	private final ScheduledExecutorService scheduler;
+
+	/**
+	 * Creates a new {@link WriteBehindStockCounters} for the given {@link EntityManager},
+	 * {@link CachingUniqueInventoryStock}, {@link PlatformTransactionManager} and {@link InventoryProperties}.
+	 *
+	 * @param entityManager must not be {@literal null}.
+	 * @param stock must not be {@literal null}.
+	 * @param transactionManager must not be {@literal null}.
+	 * @param properties must not be {@literal null}.
+	 */
+	WriteBehindStockCounters(EntityManager entityManager, CachingUniqueInventoryStock stock,
+			PlatformTransactionManager transactionManager, InventoryProperties properties) {
+
+		Assert.notNull(entityManager, "EntityManager must not be null!");
+		Assert.notNull(stock, "CachingUniqueInventoryStock must not be null!");
+		Assert.notNull(transactionManager, "PlatformTransactionManager must not be null!");
+		Assert.notNull(properties, "InventoryProperties must not be null!");
+
+		this.entityManager = entityManager;
+		this.stock = stock;
+		this.transactions = new TransactionTemplate(transactionManager);
+		this.transactions.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.configuration = properties.getWriteBehind();
+		this.counters = new ConcurrentHashMap<>();
+
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+
+			var thread = new Thread(runnable, "salespoint-stock-counters");
+			thread.setDaemon(true);
+
+			return thread;
+		});
+
+		var interval = configuration.getFlushInterval().toMillis();
+
+		this.scheduler.scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.inventory.StockCounters#activate(org.salespointframework.catalog.Product.ProductIdentifier)
+	 */
+	@Override
+	public void activate(ProductIdentifier productIdentifier) {
+
+		Assert.notNull(productIdentifier, "Product identifier must not be null!");
+
+		counters.computeIfAbsent(productIdentifier, it -> {
+
+			var units = load(it);
+
+			if (units == null) {
+				throw new IllegalArgumentException(String.format("No unique inventory item found for product %s!", it));
+			}
+
+			return new Counter(new StripedStockCounter(configuration.getStripes(), units), units);
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.inventory.StockCounters#deactivate(org.salespointframework.catalog.Product.ProductIdentifier)
+	 */
+	@Override
+	public synchronized void deactivate(ProductIdentifier productIdentifier) {
+
+		Assert.notNull(productIdentifier, "Product identifier must not be null!");
+
+		var counter = counters.remove(productIdentifier);
+
+		if (counter != null) {
+			flush(productIdentifier, counter);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.inventory.StockCounters#isActive(org.salespointframework.catalog.Product.ProductIdentifier)
+	 */
+	@Override
+	public boolean isActive(ProductIdentifier productIdentifier) {
+
+		Assert.notNull(productIdentifier, "Product identifier must not be null!");
+
+		return counters.containsKey(productIdentifier);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.inventory.StockCounters#getQuantity(org.salespointframework.catalog.Product.ProductIdentifier)
+	 */
+	@Override
+	public Optional<Quantity> getQuantity(ProductIdentifier productIdentifier) {
+
+		Assert.notNull(productIdentifier, "Product identifier must not be null!");
+
+		return Optional.ofNullable(counters.get(productIdentifier)) //
+				.map(it -> Quantity.of(it.stock.get()));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.inventory.StockCounters#flush()
+	 */
+	@Override
+	public synchronized void flush() {
+		counters.forEach(this::flush);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() throws InterruptedException {
+
+		scheduler.shutdown();
+		scheduler.awaitTermination(10, TimeUnit.SECONDS);
+
+		flush();
+	}
+
+	/**
+	 * Activates the counters for the {@link org.salespointframework.catalog.Product}s configured in
+	 * {@link InventoryProperties.WriteBehind#getProducts()}.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	void activateConfiguredProducts() {
+
+		configuration.getProducts().stream() //
+				.map(ProductIdentifier::of) //
+				.forEach(it -> {
+
+					try {
+						activate(it);
+					} catch (IllegalArgumentException o_O) {
+						LOGGER.warn("Could not activate stock counter for product {}!", it, o_O);
+					}
+				});
+	}
+
+	/**
+	 * Decreases the counter for the {@link org.salespointframework.catalog.Product} with the given identifier by the
+	 * given {@link Quantity} if sufficient stock is available. The decrease is reverted in case the current transaction
+	 * is rolled back.
+	 *
+	 * @param productIdentifier must not be {@literal null}.
+	 * @param quantity must not be {@literal null}.
+	 * @return whether the counter was decreased.
+	 * @throws IllegalStateException in case no counter is active for the given {@link ProductIdentifier}.
+	 */
+	boolean tryDecrease(ProductIdentifier productIdentifier, Quantity quantity) {
+
+		var counter = getRequiredCounter(productIdentifier);
+		var units = toUnits(quantity);
+
+		if (!counter.stock.tryDecrease(units)) {
+			return false;
+		}
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				/*
+				 * (non-Javadoc)
+				 * @see org.springframework.transaction.support.TransactionSynchronization#afterCompletion(int)
+				 */
+				@Override
+				public void afterCompletion(int status) {
+
+					if (status == STATUS_ROLLED_BACK) {
+						counter.stock.increase(units);
+					}
+				}
+			});
+		}
+
+		return true;
+	}
+
+	/**
+	 * Increases the counter for the {@link org.salespointframework.catalog.Product} with the given identifier by the
+	 * given {@link Quantity} once the current transaction has committed.
+	 *
+	 * @param productIdentifier must not be {@literal null}.
+	 * @param quantity must not be {@literal null}.
+	 * @throws IllegalStateException in case no counter is active for the given {@link ProductIdentifier}.
+	 */
+	void increase(ProductIdentifier productIdentifier, Quantity quantity) {
+
+		var counter = getRequiredCounter(productIdentifier);
+		var units = toUnits(quantity);
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			counter.stock.increase(units);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+			/*
+			 * (non-Javadoc)
+			 * @see org.springframework.transaction.support.TransactionSynchronization#afterCommit()
+			 */
+			@Override
+			public void afterCommit() {
+				counter.stock.increase(units);
+			}
+		});
+	}
+
+	/**
+	 * Flushes all counters, logging rather than propagating failures so that subsequent scheduled flushes still run.
+	 */
+	private void flushSafely() {
+
+		try {
+			flush();
+		} catch (RuntimeException o_O) {
+			LOGGER.warn("Flushing stock counters failed! Will retry on next flush.", o_O);
+		}
+	}
+
+	/**
+	 * Writes the changes of the given {@link Counter} since the last flush to the database and picks up changes applied
+	 * to the {@link UniqueInventoryItem} through other means.
+	 *
+	 * @param productIdentifier must not be {@literal null}.
+	 * @param counter must not be {@literal null}.
+	 */
+	private void flush(ProductIdentifier productIdentifier, Counter counter) {
+
+		var current = counter.stock.get();
+		var delta = counter.persisted - current;
+
+		var persisted = transactions.execute(status -> {
+
+			if (delta != 0) {
+				entityManager.createQuery(UPDATE_QUERY) //
+						.setParameter("delta", BigDecimal.valueOf(delta)) //
+						.setParameter("product", productIdentifier) //
+						.executeUpdate();
+
+				// The bulk update doesn't trigger any entity callbacks
+				stock.changed(productIdentifier);
+			}
+
+			return queryUnits(productIdentifier);
+		});
+
+		if (persisted == null) {
+
+			LOGGER.warn("Unique inventory item for product {} was removed! Deactivating stock counter.", productIdentifier);
+			counters.remove(productIdentifier);
+
+			return;
+		}
+
+		var external = persisted - current;
+
+		if (external != 0 && counter.stock.adjust(external) != external) {
+			LOGGER.warn("Stock of product {} was decreased below the amount already sold via its stock counter!",
+					productIdentifier);
+		}
+
+		counter.persisted = persisted;
+	}
+
+	/**
+	 * Returns the units currently stored for the {@link UniqueInventoryItem} of the
+	 * {@link org.salespointframework.catalog.Product} with the given identifier.
+	 *
+	 * @param productIdentifier must not be {@literal null}.
+	 * @return {@literal null} in case no {@link UniqueInventoryItem} exists for the given {@link ProductIdentifier}.
+	 */
+	@Nullable
+	private Long load(ProductIdentifier productIdentifier) {
+		return transactions.execute(status -> queryUnits(productIdentifier));
+	}
+
+	@Nullable
+	private Long queryUnits(ProductIdentifier productIdentifier) {
+
+		return entityManager.createQuery(QUANTITY_QUERY, Quantity.class) //
+				.setParameter("product", productIdentifier) //
+				.getResultStream() //
+				.findFirst() //
+				.map(WriteBehindStockCounters::toUnits) //
+				.orElse(null);
+	}
+
+	private Counter getRequiredCounter(ProductIdentifier productIdentifier) {
+
+		Assert.notNull(productIdentifier, "Product identifier must not be null!");
+
+		var counter = counters.get(productIdentifier);
+
+		if (counter == null) {
+			throw new IllegalStateException(String.format("No stock counter active for product %s!", productIdentifier));
+		}
+
+		return counter;
+	}
+
+	private static long toUnits(Quantity quantity) {
+
+		Assert.notNull(quantity, "Quantity must not be null!");
+		Assert.isTrue(quantity.getMetric().equals(Metric.UNIT), "Stock counters only support quantities of units!");
+
+		try {
+			return quantity.getAmount().longValueExact();
+		} catch (ArithmeticException o_O) {
+			throw new IllegalArgumentException("Stock counters only support integral quantities!", o_O);
+		}
+	}
+
+	/**
+	 * The {@link StripedStockCounter} for a {@link org.salespointframework.catalog.Product} alongside the stock last
+	 * written to or read from the database.
+	 */
+	private static class Counter {
+
+		private final StripedStockCounter stock;
+		private long persisted;
+
+		Counter(StripedStockCounter stock, long persisted) {
+
+			this.stock = stock;
+			this.persisted = persisted;
+		}
+	}
+}
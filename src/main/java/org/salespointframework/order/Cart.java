@@ -15,7 +15,7 @@
  */
 package org.salespointframework.order;
 
-import java.math.BigDecimal;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -23,13 +23,13 @@ import java.util.Optional;
 
 import javax.money.MonetaryAmount;
 
-import org.javamoney.moneta.Money;
 import org.salespointframework.catalog.Product;
 import org.salespointframework.catalog.Product.ProductIdentifier;
 import org.salespointframework.core.Currencies;
 import org.salespointframework.quantity.Quantity;
 import org.salespointframework.useraccount.UserAccount;
 import org.springframework.data.util.Streamable;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -41,6 +41,11 @@ import org.springframework.util.Assert;
 public class Cart implements Streamable<CartItem>, Priced {
 
 	private final Map<ProductIdentifier, CartItem> items = new LinkedHashMap<>();
+	private final Map<String, ProductIdentifier> identifiers = new HashMap<>();
+
+	// Running totals of the items contained, the price being null for an empty cart
+	private @Nullable MonetaryAmount price = null;
+	private int numberOfItems = 0;
 
 	/**
 	 * Creates a {@link CartItem} for the given {@link Product} and {@link Quantity}. If a {@link CartItem} for the given
@@ -58,12 +63,21 @@ public class Cart implements Streamable<CartItem>, Priced {
 		Assert.notNull(product, "Product must not be null!");
 		Assert.notNull(quantity, "Quantity must not be null!");
 
-		return Optional.ofNullable(this.items.compute(product.getId(), (it, item) -> {
+		var identifier = product.getId();
+		var existing = items.get(identifier);
+		var item = existing == null
+				? quantity.isZeroOrNegative() ? null : new CartItem(product, quantity)
+				: existing.add(quantity);
+
+		if (item == null) {
+			items.remove(identifier);
+		} else {
+			items.put(identifier, item);
+		}
 
-			return item == null
-					? quantity.isZeroOrNegative() ? null : new CartItem(product, quantity)
-					: item.add(quantity);
-		}));
+		update(existing, item);
+
+		return Optional.ofNullable(item);
 	}
 
 	/**
@@ -105,8 +119,11 @@ public class Cart implements Streamable<CartItem>, Priced {
 
 		Assert.notNull(identifier, "CartItem identifier must not be null!");
 
-		getItem(identifier) //
-				.ifPresent(item -> items.remove(item.getProduct().getId()));
+		var productIdentifier = identifiers.get(identifier);
+
+		if (productIdentifier != null) {
+			update(items.remove(productIdentifier), null);
+		}
 	}
 
 	/**
@@ -119,16 +136,20 @@ public class Cart implements Streamable<CartItem>, Priced {
 
 		Assert.notNull(identifier, "CartItem identifier must not be null!");
 
-		return items.values().stream() //
-				.filter(item -> item.getId().equals(identifier)) //
-				.findFirst();
+		return Optional.ofNullable(identifiers.get(identifier)) //
+				.map(items::get);
 	}
 
 	/**
 	 * Clears the cart.
 	 */
 	public void clear() {
+
 		items.clear();
+		identifiers.clear();
+
+		this.price = null;
+		this.numberOfItems = 0;
 	}
 
 	/**
@@ -178,13 +199,7 @@ public class Cart implements Streamable<CartItem>, Priced {
 	 * @since 7.5
 	 */
 	public int getNumberOfItems() {
-
-		return stream() //
-				.map(CartItem::getQuantity) //
-				.map(Quantity::toUnit) //
-				.map(Quantity::getAmount) //
-				.map(BigDecimal::intValue) //
-				.reduce(0, Integer::sum);
+		return numberOfItems;
 	}
 
 	/**
@@ -233,11 +248,7 @@ public class Cart implements Streamable<CartItem>, Priced {
 	 */
 	@Override
 	public MonetaryAmount getPrice() {
-
-		return items.values().stream() //
-				.map(CartItem::getPrice) //
-				.reduce(MonetaryAmount::add) //
-				.orElse(Money.of(0, Currencies.EURO));
+		return price == null ? Currencies.ZERO_EURO : price;
 	}
 
 	/*
@@ -246,6 +257,82 @@ public class Cart implements Streamable<CartItem>, Priced {
 	 */
 	@Override
 	public Iterator<CartItem> iterator() {
-		return items.values().iterator();
+
+		var delegate = items.values().iterator();
+
+		return new Iterator<CartItem>() {
+
+			private @Nullable CartItem current;
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.Iterator#hasNext()
+			 */
+			@Override
+			public boolean hasNext() {
+				return delegate.hasNext();
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.Iterator#next()
+			 */
+			@Override
+			public CartItem next() {
+				return current = delegate.next();
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.Iterator#remove()
+			 */
+			@Override
+			public void remove() {
+
+				delegate.remove();
+				update(current, null);
+			}
+		};
+	}
+
+	/**
+	 * Updates the identifier index and the running totals for the given {@link CartItem} being replaced by the given
+	 * new one.
+	 *
+	 * @param existing the {@link CartItem} previously contained in the {@link Cart}, can be {@literal null}.
+	 * @param item the {@link CartItem} now contained in the {@link Cart}, can be {@literal null}.
+	 */
+	private void update(@Nullable CartItem existing, @Nullable CartItem item) {
+
+		if (existing != null) {
+
+			identifiers.remove(existing.getId());
+
+			this.price = price.subtract(existing.getPrice());
+			this.numberOfItems -= getNumberOfItems(existing);
+		}
+
+		if (item != null) {
+
+			identifiers.put(item.getId(), item.getProduct().getId());
+
+			this.price = price == null ? item.getPrice() : price.add(item.getPrice());
+			this.numberOfItems += getNumberOfItems(item);
+		}
+
+		if (items.isEmpty()) {
+			this.price = null;
+		}
+	}
+
+	/**
+	 * Returns the number of units of the given {@link CartItem}.
+	 *
+	 * @param item must not be {@literal null}.
+	 * @return
+	 * @see Quantity#toUnit()
+	 */
+	private static int getNumberOfItems(CartItem item) {
+		return item.getQuantity().toUnit().getAmount().intValue();
 	}
 }
@@ -30,12 +30,12 @@ import lombok.ToString;
 import lombok.Value;
 
 import java.io.Serializable;
-import java.util.UUID;
 
 import javax.money.MonetaryAmount;
 
 import org.jmolecules.ddd.types.Identifier;
 import org.salespointframework.core.AbstractEntity;
+import org.salespointframework.core.IdentifierGenerator;
 import org.salespointframework.order.ChargeLine.ChargeLineIdentifier;
 import org.springframework.util.Assert;
 
@@ -59,7 +59,7 @@ import org.springframework.util.Assert;
 @Inheritance(strategy = InheritanceType.TABLE_PER_CLASS)
 public class ChargeLine extends AbstractEntity<ChargeLineIdentifier> implements Priced {
 
-	private @EmbeddedId ChargeLineIdentifier chargeLineIdentifier = ChargeLineIdentifier.of(UUID.randomUUID().toString());
+	private @EmbeddedId ChargeLineIdentifier chargeLineIdentifier = ChargeLineIdentifier.of(IdentifierGenerator.next());
 
 	private final @NonNull MonetaryAmount price;
 	private final @NonNull String description;
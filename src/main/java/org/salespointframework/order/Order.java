@@ -25,28 +25,37 @@ import lombok.Setter;
 import lombok.ToString;
 
 import java.io.Serializable;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.stream.Collectors;
 
 import javax.money.MonetaryAmount;
 
+import org.javamoney.moneta.Money;
 import org.jmolecules.ddd.types.Identifier;
 import org.salespointframework.catalog.Product;
 import org.salespointframework.core.AbstractAggregateRoot;
+import org.salespointframework.core.Currencies;
+import org.salespointframework.core.IdentifierGenerator;
 import org.salespointframework.order.ChargeLine.AttachedChargeLine;
 import org.salespointframework.order.Order.OrderIdentifier;
 import org.salespointframework.order.OrderEvents.OrderCanceled;
 import org.salespointframework.order.OrderEvents.OrderCompleted;
 import org.salespointframework.order.OrderEvents.OrderPaid;
 import org.salespointframework.payment.PaymentMethod;
+import org.salespointframework.payment.PaymentMethodAttributeConverter;
 import org.salespointframework.quantity.Quantity;
 import org.salespointframework.useraccount.UserAccount;
 import org.springframework.data.domain.Range;
 import org.springframework.data.domain.Range.Bound;
 import org.springframework.data.util.Streamable;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -60,9 +69,17 @@ import org.springframework.util.Assert;
 @NoArgsConstructor(force = true, access = AccessLevel.PROTECTED, onConstructor = @__(@Deprecated))
 public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 
-	private @EmbeddedId OrderIdentifier orderIdentifier = OrderIdentifier.of(UUID.randomUUID().toString());
+	private @EmbeddedId OrderIdentifier orderIdentifier = OrderIdentifier.of(IdentifierGenerator.next());
 
-	private @Lob @Getter PaymentMethod paymentMethod;
+	// Salespoint's own PaymentMethods in their compact representation
+	@Column(name = "PAYMENT_DETAILS", length = 4096) //
+	@Convert(converter = PaymentMethodAttributeConverter.class) //
+	private PaymentMethod paymentMethod;
+
+	// Java-serialized custom PaymentMethods and the ones of Orders persisted before 8.1 not migrated yet
+	@Lob @ToString.Exclude //
+	@Column(name = "PAYMENT_METHOD") //
+	private PaymentMethod serializedPaymentMethod;
 
 	@Getter //
 	@OneToOne //
@@ -88,6 +105,15 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 	@OneToMany(cascade = CascadeType.ALL) //
 	private List<AttachedChargeLine> attachedChargeLines = new ArrayList<>();
 
+	// Lazily built index of the attached charge lines by the order line they belong to
+	@Transient @ToString.Exclude //
+	private Map<OrderLine, List<AttachedChargeLine>> attachedChargeLinesByOrderLine;
+
+	// Running total of all lines, null for Orders persisted before it was tracked
+	@Column(precision = 38, scale = 10) //
+	private BigDecimal totalAmount = BigDecimal.ZERO;
+	private String totalCurrency = null;
+
 	/**
 	 * Creates a new Order
 	 *
@@ -113,8 +139,9 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 		Assert.notNull(paymentMethod, "PaymentMethod must not be null!");
 
 		this.userAccount = userAccount;
-		this.paymentMethod = paymentMethod;
 		this.dateCreated = LocalDateTime.now();
+
+		assignPaymentMethod(paymentMethod);
 	}
 
 	/*
@@ -188,20 +215,29 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 	 */
 	public Totalable<AttachedChargeLine> getChargeLines(OrderLine orderLine) {
 
-		List<AttachedChargeLine> foo = attachedChargeLines;
+		Assert.notNull(orderLine, "Order line must not be null!");
 
-		return Totalable.of(Streamable.of(() -> foo.stream() //
-				.filter(it -> it.belongsTo(orderLine))));
+		return Totalable.of(Streamable.of(() -> getAttachedChargeLinesByOrderLine() //
+				.getOrDefault(orderLine, Collections.emptyList()) //
+				.stream()));
 	}
 
 	/**
-	 * Returns the total price of the {@link Order}.
+	 * Returns the total price of the {@link Order}. The total is maintained on changes to the {@link OrderLine}s and
+	 * {@link ChargeLine}s, so that the lines don't have to be loaded to calculate it.
 	 *
 	 * @return
 	 * @since 7.1
 	 */
 	public MonetaryAmount getTotal() {
-		return getOrderLines().getTotal().add(getAllChargeLines().getTotal());
+
+		if (totalAmount == null) {
+			setTotal(getOrderLines().getTotal().add(getAllChargeLines().getTotal()));
+		}
+
+		return totalCurrency == null //
+				? Currencies.ZERO_EURO //
+				: Money.of(totalAmount.stripTrailingZeros(), totalCurrency);
 	}
 
 	/**
@@ -219,6 +255,7 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 		assertOrderIsOpen();
 
 		this.orderLines.add(orderLine);
+		addToTotal(orderLine.getPrice());
 
 		return orderLine;
 	}
@@ -239,6 +276,7 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 		OrderLine orderLine = new OrderLine(product, quantity);
 
 		this.orderLines.add(orderLine);
+		addToTotal(orderLine.getPrice());
 
 		return orderLine;
 	}
@@ -255,7 +293,9 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 
 		removeChargeLinesFor(orderLine);
 
-		this.orderLines.remove(orderLine);
+		if (this.orderLines.remove(orderLine)) {
+			addToTotal(orderLine.getPrice().negate());
+		}
 	}
 
 	/**
@@ -271,6 +311,7 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 		assertOrderIsOpen();
 
 		this.chargeLines.add(chargeLine);
+		addToTotal(chargeLine.getPrice());
 
 		return chargeLine;
 	}
@@ -293,6 +334,7 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 		ChargeLine chargeLine = new ChargeLine(price, description);
 
 		this.chargeLines.add(chargeLine);
+		addToTotal(chargeLine.getPrice());
 
 		return chargeLine;
 	}
@@ -339,6 +381,11 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 		AttachedChargeLine chargeLine = new AttachedChargeLine(price, description, orderLine);
 
 		this.attachedChargeLines.add(chargeLine);
+		addToTotal(chargeLine.getPrice());
+
+		if (attachedChargeLinesByOrderLine != null) {
+			attachedChargeLinesByOrderLine.computeIfAbsent(orderLine, __ -> new ArrayList<>()).add(chargeLine);
+		}
 
 		return chargeLine;
 	}
@@ -349,7 +396,9 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 
 		assertOrderIsOpen();
 
-		this.chargeLines.remove(chargeLine);
+		if (this.chargeLines.remove(chargeLine)) {
+			addToTotal(chargeLine.getPrice().negate());
+		}
 	}
 
 	/**
@@ -364,7 +413,23 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 
 		assertOrderIsOpen();
 
-		this.attachedChargeLines.remove(chargeLine);
+		if (!this.attachedChargeLines.remove(chargeLine)) {
+			return;
+		}
+
+		addToTotal(chargeLine.getPrice().negate());
+
+		if (attachedChargeLinesByOrderLine != null) {
+
+			var orderLine = chargeLine.getOrderLine();
+			var chargeLines = attachedChargeLinesByOrderLine.get(orderLine);
+
+			chargeLines.remove(chargeLine);
+
+			if (chargeLines.isEmpty()) {
+				attachedChargeLinesByOrderLine.remove(orderLine);
+			}
+		}
 	}
 
 	/**
@@ -377,9 +442,21 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 
 		Assert.notNull(orderLine, "Order line must not be null!");
 
-		getChargeLines(orderLine) //
-				.toList() //
-				.forEach(this::remove);
+		assertOrderIsOpen();
+
+		var chargeLines = getAttachedChargeLinesByOrderLine().remove(orderLine);
+
+		if (chargeLines == null) {
+			return;
+		}
+
+		// Initialize the total of Orders persisted before it was tracked from the lines not updated yet
+		getTotal();
+
+		// Single pass over all attached charge lines instead of one per charge line removed
+		this.attachedChargeLines.removeAll(new HashSet<>(chargeLines));
+
+		chargeLines.forEach(it -> addToTotal(it.getPrice().negate()));
 	}
 
 	/**
@@ -425,18 +502,41 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 		}
 
 		Assert.notNull(paymentMethod, "PaymentMethod must not be null");
-		this.paymentMethod = paymentMethod;
+
+		assignPaymentMethod(paymentMethod);
+	}
+
+	/**
+	 * Returns the {@link PaymentMethod} of the {@link Order}.
+	 *
+	 * @return can be {@literal null} in case no {@link PaymentMethod} has been set yet.
+	 */
+	@Nullable
+	public PaymentMethod getPaymentMethod() {
+		return paymentMethod != null ? paymentMethod : serializedPaymentMethod;
 	}
 
 	Order complete() {
 
+		registerEvent(markCompleted());
+
+		return this;
+	}
+
+	/**
+	 * Marks the {@link Order} as completed without registering the {@link OrderCompleted} event for publication on
+	 * persisting but returning it for the caller to publish it.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 8.1
+	 */
+	OrderCompleted markCompleted() {
+
 		Assert.isTrue(isPaid(), "An order must be paid to be completed!");
 
 		this.orderStatus = OrderStatus.COMPLETED;
 
-		registerEvent(OrderCompleted.of(this));
-
-		return this;
+		return OrderCompleted.of(this);
 	}
 
 	/**
@@ -478,16 +578,41 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 	}
 
 	boolean isPaymentExpected() {
-		return orderStatus == OrderStatus.OPEN && paymentMethod != null;
+		return orderStatus == OrderStatus.OPEN && getPaymentMethod() != null;
 	}
 
 	Order markPaid() {
 
+		registerEvent(pay());
+
+		return this;
+	}
+
+	/**
+	 * Marks the {@link Order} as paid without registering the {@link OrderPaid} event for publication on persisting but
+	 * returning it for the caller to publish it.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 8.1
+	 */
+	OrderPaid pay() {
+
 		Assert.isTrue(!isPaid(), "Order is already paid!");
 
 		this.orderStatus = OrderStatus.PAID;
 
-		registerEvent(OrderPaid.of(this));
+		return OrderPaid.of(this);
+	}
+
+	/**
+	 * Resets the {@link Order}'s state to open, e.g. if a listener rejected the payment.
+	 *
+	 * @return the current instance.
+	 * @since 8.1
+	 */
+	Order unpay() {
+
+		this.orderStatus = OrderStatus.OPEN;
 
 		return this;
 	}
@@ -502,6 +627,45 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 				"No user account set. Make sure you have created the order by calling a non-default constructor!");
 	}
 
+	/**
+	 * Moves a {@link PaymentMethod} stored in the legacy, Java-serialized format into its compact representation if
+	 * supported and custom {@link PaymentMethod}s stored in the compact column into the serialized one. The change is
+	 * written on the next flush.
+	 *
+	 * @see PaymentMethodAttributeConverter#supports(PaymentMethod)
+	 */
+	@PostLoad
+	void migrateLegacyPaymentMethod() {
+
+		var current = getPaymentMethod();
+
+		if (current == null) {
+			return;
+		}
+
+		var misplaced = PaymentMethodAttributeConverter.supports(current) //
+				? serializedPaymentMethod != null //
+				: paymentMethod != null;
+
+		if (misplaced) {
+			assignPaymentMethod(current);
+		}
+	}
+
+	/**
+	 * Stores the given {@link PaymentMethod} in its compact representation if supported or Java-serialized in a LOB
+	 * otherwise, as the serialized form of custom {@link PaymentMethod}s can get large.
+	 *
+	 * @param paymentMethod must not be {@literal null}.
+	 */
+	private void assignPaymentMethod(PaymentMethod paymentMethod) {
+
+		var supported = PaymentMethodAttributeConverter.supports(paymentMethod);
+
+		this.paymentMethod = supported ? paymentMethod : null;
+		this.serializedPaymentMethod = supported ? null : paymentMethod;
+	}
+
 	/**
 	 * Asserts that the {@link Order} is {@link OrderStatus#OPEN}. Usually a precondition to manipulate the {@link Order}
 	 * state internally.
@@ -513,6 +677,44 @@ public class Order extends AbstractAggregateRoot<OrderIdentifier> {
 		}
 	}
 
+	/**
+	 * Returns the {@link AttachedChargeLine}s indexed by the {@link OrderLine} they belong to. The index is built on first
+	 * access as it's not persisted and maintained on subsequent changes to the {@link AttachedChargeLine}s.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	private Map<OrderLine, List<AttachedChargeLine>> getAttachedChargeLinesByOrderLine() {
+
+		if (attachedChargeLinesByOrderLine == null) {
+			this.attachedChargeLinesByOrderLine = attachedChargeLines.stream() //
+					.collect(Collectors.groupingBy(AttachedChargeLine::getOrderLine, HashMap::new,
+							Collectors.toCollection(ArrayList::new)));
+		}
+
+		return attachedChargeLinesByOrderLine;
+	}
+
+	/**
+	 * Adds the given {@link MonetaryAmount} to the running total of the {@link Order}.
+	 *
+	 * @param amount must not be {@literal null}.
+	 */
+	private void addToTotal(MonetaryAmount amount) {
+
+		// Orders persisted before the total was tracked calculate it from the already updated lines
+		if (totalAmount == null) {
+			getTotal();
+		} else {
+			setTotal(totalCurrency == null ? amount : getTotal().add(amount));
+		}
+	}
+
+	private void setTotal(MonetaryAmount total) {
+
+		this.totalAmount = total.getNumber().numberValue(BigDecimal.class);
+		this.totalCurrency = total.getCurrency().getCurrencyCode();
+	}
+
 	private OrderLine getRequiredOrderLineByIndex(int index) {
 
 		Range<Integer> allowedIndexRange = Range.from(Bound.inclusive(0))//
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.order;
+
+import org.salespointframework.order.ChargeLine.AttachedChargeLine;
+
+/**
+ * Describes which parts of an {@link Order} are supposed to be loaded eagerly when looking up {@link Order}s. Every
+ * additional part is loaded for all {@link Order}s found using a single query, so that the number of queries issued
+ * does not depend on the number of {@link Order}s returned.
+ *
+ * @since 8.1
+ * @see OrderManagement#findBy(OrderStatus, OrderFetchPlan)
+ */
+public enum OrderFetchPlan {
+
+	/**
+	 * Only loads the {@link Order}s themselves. Their {@link OrderLine}s and {@link ChargeLine}s are loaded lazily on
+	 * first access.
+	 */
+	ORDER_ONLY(false, false),
+
+	/**
+	 * Loads the {@link OrderLine}s of the {@link Order}s eagerly.
+	 */
+	ORDER_LINES(true, false),
+
+	/**
+	 * Loads the {@link OrderLine}s, {@link ChargeLine}s and {@link AttachedChargeLine}s of the {@link Order}s eagerly.
+	 */
+	ALL_LINES(true, true);
+
+	private final boolean orderLines, chargeLines;
+
+	private OrderFetchPlan(boolean orderLines, boolean chargeLines) {
+		this.orderLines = orderLines;
+		this.chargeLines = chargeLines;
+	}
+
+	boolean includesOrderLines() {
+		return orderLines;
+	}
+
+	boolean includesChargeLines() {
+		return chargeLines;
+	}
+}
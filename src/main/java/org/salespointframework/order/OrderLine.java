@@ -27,7 +27,6 @@ import lombok.ToString;
 
 import java.io.Serializable;
 import java.util.Map;
-import java.util.UUID;
 
 import javax.money.MonetaryAmount;
 
@@ -35,6 +34,7 @@ import org.jmolecules.ddd.types.Identifier;
 import org.salespointframework.catalog.Product;
 import org.salespointframework.catalog.Product.ProductIdentifier;
 import org.salespointframework.core.AbstractEntity;
+import org.salespointframework.core.IdentifierGenerator;
 import org.salespointframework.order.OrderLine.OrderLineIdentifier;
 import org.salespointframework.quantity.MetricMismatchException;
 import org.salespointframework.quantity.Quantity;
@@ -59,7 +59,7 @@ import org.springframework.util.Assert;
 @NoArgsConstructor(force = true, access = AccessLevel.PRIVATE)
 public class OrderLine extends AbstractEntity<OrderLineIdentifier> implements Priced {
 
-	private @EmbeddedId OrderLineIdentifier orderLineIdentifier = OrderLineIdentifier.of(UUID.randomUUID().toString());
+	private @EmbeddedId OrderLineIdentifier orderLineIdentifier = OrderLineIdentifier.of(IdentifierGenerator.next());
 
 	private @Getter ProductIdentifier productIdentifier;
 	private @Getter MonetaryAmount price;
@@ -16,6 +16,7 @@
 package org.salespointframework.order;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.salespointframework.order.Order.OrderIdentifier;
 import org.salespointframework.order.OrderEvents.OrderCanceled;
@@ -27,6 +28,7 @@ import org.salespointframework.useraccount.UserAccount;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.util.Streamable;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
 /**
@@ -72,6 +74,17 @@ public interface OrderManagement<T extends Order> {
 	 */
 	Streamable<T> findBy(OrderStatus orderStatus);
 
+	/**
+	 * Returns all {@link Order}s having the given {@link OrderStatus}, loading the parts of them described by the given
+	 * {@link OrderFetchPlan} eagerly.
+	 *
+	 * @param orderStatus must not be {@literal null}.
+	 * @param plan must not be {@literal null}.
+	 * @return a {@link Streamable} containing all {@link Order}s with the specified {@link OrderStatus}.
+	 * @since 8.1
+	 */
+	Streamable<T> findBy(OrderStatus orderStatus, OrderFetchPlan plan);
+
 	/**
 	 * Returns all {@link Order}s in between the {@link Interval}. So every entry with an time stamp &le;
 	 * and &ge; from is returned. If no {@link Order}s within the specified time span exist,
@@ -82,6 +95,49 @@ public interface OrderManagement<T extends Order> {
 	 */
 	Streamable<T> findBy(Interval interval);
 
+	/**
+	 * Returns all {@link Order}s created within the given {@link Interval}, loading the parts of them described by the
+	 * given {@link OrderFetchPlan} eagerly.
+	 *
+	 * @param interval must not be {@literal null}.
+	 * @param plan must not be {@literal null}.
+	 * @return a {@link Streamable} containing all {@link Order}s in the given {@link Interval}.
+	 * @since 8.1
+	 */
+	Streamable<T> findBy(Interval interval, OrderFetchPlan plan);
+
+	/**
+	 * Returns a {@link Stream} of all {@link Order}s in the given {@link Interval}, ordered by their creation date and
+	 * identifier. The {@link Order}s are loaded from the database lazily while consuming the {@link Stream}. The
+	 * persistence context is flushed periodically and the {@link Order}s returned are detached from it, so that memory
+	 * consumption does not depend on the number of {@link Order}s found. Thus, changes to the {@link Order}s returned
+	 * are not persisted, <em>even if the {@link Order} has been loaded before the call</em>, and they must not be held on
+	 * to beyond the processing of the current element. Other entities of the persistence context stay attached. Has to
+	 * be called within a transaction that's still running while the {@link Stream} is consumed and the {@link Stream}
+	 * has to be closed after use.
+	 *
+	 * @param interval must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 8.1
+	 */
+	Stream<T> streamBy(Interval interval);
+
+	/**
+	 * Returns the next {@link Order}s in the given {@link Interval} following the given previous one, ordered by their
+	 * creation date and identifier. Allows iterating over a large number of {@link Order}s page by page using the last
+	 * {@link Order} of the previous page as key for the next one, without having to skip over all {@link Order}s of the
+	 * previous pages in the database. The key is the creation date of the given {@link Order} as persisted and its
+	 * identifier. Paging continues even if the given {@link Order} has been deleted in the meantime, using the creation
+	 * date held by the given instance instead.
+	 *
+	 * @param interval must not be {@literal null}.
+	 * @param previous the last {@link Order} of the previous page, {@literal null} to obtain the first page.
+	 * @param size the maximum number of {@link Order}s to return, must be greater than zero.
+	 * @return will never be {@literal null}.
+	 * @since 8.1
+	 */
+	Streamable<T> findBy(Interval interval, @Nullable T previous, int size);
+
 	/**
 	 * Returns all {@link Order}s of the given {@link UserAccount}. If this user has no orders, an empty {@link Iterable}
 	 * is returned.
@@ -92,6 +148,17 @@ public interface OrderManagement<T extends Order> {
 	 */
 	Streamable<T> findBy(UserAccount userAccount);
 
+	/**
+	 * Returns all {@link Order}s of the given {@link UserAccount}, loading the parts of them described by the given
+	 * {@link OrderFetchPlan} eagerly.
+	 *
+	 * @param userAccount must not be {@literal null}.
+	 * @param plan must not be {@literal null}.
+	 * @return a {@link Streamable} containing all orders of the specified user.
+	 * @since 8.1
+	 */
+	Streamable<T> findBy(UserAccount userAccount, OrderFetchPlan plan);
+
 	/**
 	 * Returns all {@link Order}s from the given {@link UserAccount} in between the dates {@code from} and {@code to},
 	 * including from and to. So every entry with an time stamp &le; to and &ge; from is returned.
@@ -117,10 +184,41 @@ public interface OrderManagement<T extends Order> {
 	 *
 	 * @param order the order to be payed, must not be {@literal null}.
 	 * @return true if the order could be paid
+	 * @throws OrderPaymentFailure in case a listener for {@link OrderPaid} rejected the payment. The {@link Order} is
+	 *           reset to {@link OrderStatus#OPEN} in that case.
 	 * @see OrderPaid
 	 */
 	boolean payOrder(T order);
 
+	/**
+	 * Pays all given {@link Order}s that are expecting payment in a single transaction. {@link Order}s that can't be paid
+	 * are skipped. {@link Order}s whose payment is rejected by a listener throwing an {@link OrderPaymentFailure} are
+	 * reset to {@link OrderStatus#OPEN} and not contained in the result, but don't prevent the other {@link Order}s from
+	 * being paid.
+	 *
+	 * @param orders the orders to be payed, must not be {@literal null}.
+	 * @return the {@link Order}s that were actually paid, will never be {@literal null}.
+	 * @see #payOrder(Order)
+	 * @see OrderPaid
+	 * @since 8.1
+	 */
+	Streamable<T> payOrders(Iterable<T> orders);
+
+	/**
+	 * Tries to complete all given {@link Order}s in a single transaction. In contrast to {@link #completeOrder(Order)},
+	 * an {@link Order} failing to complete does not cause an {@link OrderCompletionFailure} to be thrown but is reported
+	 * in the {@link OrderCompletionReport} returned for it, and does not prevent the other {@link Order}s from being
+	 * completed.
+	 *
+	 * @param orders the orders to complete, must not be {@literal null}.
+	 * @return an {@link OrderCompletionReport} per given {@link Order} in the order of the given ones, will never be
+	 *         {@literal null}.
+	 * @see #completeOrder(Order)
+	 * @see OrderCompleted
+	 * @since 8.1
+	 */
+	Streamable<OrderCompletionReport> completeOrders(Iterable<T> orders);
+
 	/**
 	 * Cancels an {@link Order}, no matter what state it is in.
 	 *
@@ -147,4 +245,14 @@ public interface OrderManagement<T extends Order> {
 	 * @since 7.1
 	 */
 	Page<T> findAll(Pageable pageable);
+
+	/**
+	 * Returns the {@link Page} of {@link OrderSummary}s specified by the given {@link Pageable}. Prefer this over
+	 * {@link #findAll(Pageable)} to list {@link Order}s as it neither loads the {@link Order}s nor their lines.
+	 *
+	 * @param pageable must not be {@literal null}.
+	 * @return the {@link Page} of {@link OrderSummary}s specified by the given {@link Pageable}.
+	 * @since 8.1
+	 */
+	Page<OrderSummary> findSummaries(Pageable pageable);
 }
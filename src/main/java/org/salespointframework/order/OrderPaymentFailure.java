@@ -0,0 +1,54 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.order;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import org.salespointframework.order.OrderEvents.OrderPaid;
+import org.springframework.util.Assert;
+
+/**
+ * Exception to be thrown if a listener for {@link OrderPaid} event wants to reject the payment of an {@link Order}. The
+ * {@link Order} is reset to {@link OrderStatus#OPEN} in that case.
+ *
+ * @since 8.1
+ * @see OrderManagement#payOrder(Order)
+ * @see OrderManagement#payOrders(Iterable)
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+public class OrderPaymentFailure extends RuntimeException {
+
+	private static final long serialVersionUID = 6164617034716353294L;
+
+	private final Order order;
+
+	/**
+	 * Creates a new {@link OrderPaymentFailure} for the given {@link Order} and message.
+	 *
+	 * @param order must not be {@literal null}.
+	 * @param message must not be {@literal null}.
+	 */
+	public OrderPaymentFailure(Order order, String message) {
+
+		super(message);
+
+		Assert.notNull(order, "Order must not be null!");
+
+		this.order = order;
+	}
+}
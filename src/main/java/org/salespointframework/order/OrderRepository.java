@@ -15,14 +15,23 @@
  */
 package org.salespointframework.order;
 
+import jakarta.persistence.QueryHint;
+
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.salespointframework.order.ChargeLine.AttachedChargeLine;
 import org.salespointframework.order.Order.OrderIdentifier;
 import org.salespointframework.useraccount.UserAccount;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.util.Streamable;
@@ -35,6 +44,11 @@ import org.springframework.data.util.Streamable;
 interface OrderRepository<T extends Order>
 		extends CrudRepository<T, OrderIdentifier>, PagingAndSortingRepository<T, OrderIdentifier> {
 
+	/**
+	 * The number of rows to fetch from the database at once when streaming {@link Order}s.
+	 */
+	int FETCH_SIZE = 100;
+
 	/**
 	 * Re-declaration of the method actually already contained in {@link PagingAndSortingRepository} to use the JPQL based
 	 * variant of {@link Sort} binding, as only that allows the definition of expressions referencing properties of
@@ -54,6 +68,75 @@ interface OrderRepository<T extends Order>
 	 */
 	Streamable<T> findByDateCreatedBetween(LocalDateTime from, LocalDateTime to);
 
+	/**
+	 * Returns a {@link Stream} of all {@link Order}s created in between the given dates, ordered by their creation date
+	 * and identifier. The results are fetched from the database in chunks of {@value #FETCH_SIZE} and the {@link Order}s
+	 * are loaded read-only.
+	 *
+	 * @param from must not be {@literal null}.
+	 * @param to must not be {@literal null}.
+	 * @return
+	 * @since 8.1
+	 */
+	@QueryHints({ //
+			@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + FETCH_SIZE), //
+			@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") //
+	})
+	@Query("""
+			select o from #{#entityName} o
+			 where o.dateCreated between ?1 and ?2
+			 order by o.dateCreated, o.orderIdentifier.orderId
+			""")
+	Stream<T> streamByDateCreatedBetween(LocalDateTime from, LocalDateTime to);
+
+	/**
+	 * Returns the creation date of the {@link Order} with the given identifier as persisted.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 8.1
+	 */
+	@Query("select o.dateCreated from #{#entityName} o where o.orderIdentifier = ?1")
+	Optional<LocalDateTime> findDateCreatedById(OrderIdentifier id);
+
+	/**
+	 * Returns the first {@link Order}s created in between the given dates, ordered by their creation date and identifier.
+	 *
+	 * @param from must not be {@literal null}.
+	 * @param to must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @return
+	 * @since 8.1
+	 */
+	@Query("""
+			select o from #{#entityName} o
+			 where o.dateCreated between ?1 and ?2
+			 order by o.dateCreated, o.orderIdentifier.orderId
+			""")
+	List<T> findFirstByDateCreatedBetween(LocalDateTime from, LocalDateTime to, Pageable pageable);
+
+	/**
+	 * Returns the {@link Order}s created in between the given dates that follow the {@link Order} with the given creation
+	 * date and identifier, ordered by their creation date and identifier.
+	 *
+	 * @param from must not be {@literal null}.
+	 * @param to must not be {@literal null}.
+	 * @param dateCreated the creation date of the last {@link Order} seen, must not be {@literal null}.
+	 * @param orderId the identifier of the last {@link Order} seen, must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @return
+	 * @since 8.1
+	 */
+	@Query("""
+			select o from #{#entityName} o
+			 where o.dateCreated between ?1 and ?2
+			   and (o.dateCreated > ?3
+			        or (o.dateCreated = ?3 and o.orderIdentifier.orderId > ?4))
+			 order by o.dateCreated, o.orderIdentifier.orderId
+			""")
+	List<T> findNextByDateCreatedBetween(LocalDateTime from, LocalDateTime to, LocalDateTime dateCreated, String orderId,
+			Pageable pageable);
+
 	/**
 	 * @param orderStatus
 	 * @return
@@ -73,4 +156,72 @@ interface OrderRepository<T extends Order>
 	 * @return
 	 */
 	Streamable<T> findByUserAccountAndDateCreatedBetween(UserAccount userAccount, LocalDateTime from, LocalDateTime to);
+
+	/**
+	 * Initializes the {@link OrderLine}s of the {@link Order}s with the given identifiers.
+	 *
+	 * @param identifiers must not be {@literal null}.
+	 * @return
+	 * @since 8.1
+	 */
+	@Query("select o from #{#entityName} o left join fetch o.orderLines where o.orderIdentifier in ?1")
+	List<T> fetchOrderLines(Collection<OrderIdentifier> identifiers);
+
+	/**
+	 * Initializes the {@link ChargeLine}s of the {@link Order}s with the given identifiers.
+	 *
+	 * @param identifiers must not be {@literal null}.
+	 * @return
+	 * @since 8.1
+	 */
+	@Query("select o from #{#entityName} o left join fetch o.chargeLines where o.orderIdentifier in ?1")
+	List<T> fetchChargeLines(Collection<OrderIdentifier> identifiers);
+
+	/**
+	 * Initializes the {@link AttachedChargeLine}s of the {@link Order}s with the given identifiers.
+	 *
+	 * @param identifiers must not be {@literal null}.
+	 * @return
+	 * @since 8.1
+	 */
+	@Query("""
+			select o from #{#entityName} o
+			  left join fetch o.attachedChargeLines c
+			  left join fetch c.orderLine
+			 where o.orderIdentifier in ?1
+			""")
+	List<T> fetchAttachedChargeLines(Collection<OrderIdentifier> identifiers);
+
+	/**
+	 * Returns the {@link Order}s no {@link OrderSummary} has been created for yet, e.g. as they were persisted before
+	 * summaries were introduced.
+	 *
+	 * @param pageable must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 8.1
+	 */
+	@Query("""
+			select o from #{#entityName} o
+			 where not exists (select s from OrderSummary s where s.orderIdentifier = o.orderIdentifier)
+			""")
+	List<T> findWithoutSummary(Pageable pageable);
+
+	/**
+	 * Returns the {@link Order}s whose {@link org.salespointframework.payment.PaymentMethod} is only available in
+	 * Java-serialized form, ordered by identifier and starting after the given one. Used to migrate the ones persisted
+	 * before 8.1 in chunks.
+	 *
+	 * @param after the identifier to start after, must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 8.1
+	 */
+	@Query("""
+			select o from #{#entityName} o
+			 where o.serializedPaymentMethod is not null
+			   and o.paymentMethod is null
+			   and o.orderIdentifier.orderId > ?1
+			 order by o.orderIdentifier.orderId
+			""")
+	List<T> findWithSerializedPaymentMethod(String after, Pageable pageable);
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.order;
+
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import javax.money.MonetaryAmount;
+
+import org.javamoney.moneta.Money;
+import org.salespointframework.order.Order.OrderIdentifier;
+import org.salespointframework.useraccount.UserAccount.UserAccountIdentifier;
+import org.springframework.util.Assert;
+
+/**
+ * A denormalized, read-only summary of an {@link Order} containing the information needed to list {@link Order}s
+ * without loading their lines. Kept up to date by {@link OrderManagement} whenever an {@link Order} is saved or changes
+ * its {@link OrderStatus}. Summaries missing for {@link Order}s persisted before are created on application startup.
+ * Properties available for sorting are {@code dateCreated}, {@code orderStatus}, {@code customerName},
+ * {@code totalAmount} and {@code numberOfLines}.
+ *
+ * @since 8.1
+ * @see OrderManagement#findSummaries(org.springframework.data.domain.Pageable)
+ */
+@Entity
+@Getter
+@ToString
+@Table(name = "ORDER_SUMMARY")
+@EqualsAndHashCode(of = "orderIdentifier")
+@NoArgsConstructor(force = true, access = AccessLevel.PRIVATE)
+public class OrderSummary {
+
+	private @EmbeddedId OrderIdentifier orderIdentifier;
+
+	@Embedded //
+	@AttributeOverride(name = "userAccountId", column = @Column(name = "CUSTOMER_ID")) //
+	private UserAccountIdentifier customer;
+
+	private String customerName;
+	private @Enumerated(EnumType.STRING) OrderStatus orderStatus;
+	private LocalDateTime dateCreated;
+
+	@Column(precision = 38, scale = 10) //
+	private @Getter(AccessLevel.NONE) BigDecimal totalAmount;
+	private @Getter(AccessLevel.NONE) String totalCurrency;
+
+	private int numberOfLines;
+
+	private OrderSummary(Order order) {
+
+		var userAccount = order.getUserAccount();
+		var total = order.getTotal();
+
+		this.orderIdentifier = order.getId();
+		this.customer = userAccount.getId();
+		this.customerName = userAccount.getUsername();
+		this.orderStatus = order.getOrderStatus();
+		this.dateCreated = order.getDateCreated();
+		this.totalAmount = total.getNumber().numberValue(BigDecimal.class);
+		this.totalCurrency = total.getCurrency().getCurrencyCode();
+		this.numberOfLines = order.getNumberOfLineItems();
+	}
+
+	/**
+	 * Creates a new {@link OrderSummary} reflecting the current state of the given {@link Order}.
+	 *
+	 * @param order must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static OrderSummary of(Order order) {
+
+		Assert.notNull(order, "Order must not be null!");
+
+		return new OrderSummary(order);
+	}
+
+	/**
+	 * Returns the identifier of the {@link Order} summarized.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public OrderIdentifier getId() {
+		return orderIdentifier;
+	}
+
+	/**
+	 * Returns the total of the {@link Order} summarized.
+	 *
+	 * @return will never be {@literal null}.
+	 * @see Order#getTotal()
+	 */
+	public MonetaryAmount getTotal() {
+		return Money.of(totalAmount.stripTrailingZeros(), totalCurrency);
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.order;
+
+import org.salespointframework.order.OrderEvents.OrderCanceled;
+import org.salespointframework.order.OrderEvents.OrderCompleted;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Updates the {@link OrderSummary} of an {@link Order} on completion and cancellation. Invoked right before the
+ * transaction publishing the event commits so that the {@link OrderSummary} reflects the final state of the
+ * {@link Order}, e.g. after a failed completion has been rolled back within a batch. Payments are covered by
+ * {@link OrderManagement} writing the summary when saving the paid {@link Order} already. Also creates the
+ * {@link OrderSummary}s missing for {@link Order}s persisted before summaries were introduced on startup.
+ *
+ * @since 8.1
+ */
+@Component
+class OrderSummaryEventListener {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(OrderSummaryEventListener.class);
+	private static final int BACKFILL_CHUNK_SIZE = 500;
+	private static final int MAX_BACKFILL_CONFLICTS = 3;
+
+	private final OrderSummaryRepository summaries;
+	private final OrderRepository<Order> orders;
+	private final TransactionTemplate transactions;
+
+	OrderSummaryEventListener(OrderSummaryRepository summaries, OrderRepository<Order> orders,
+			PlatformTransactionManager transactionManager) {
+
+		this.summaries = summaries;
+		this.orders = orders;
+		this.transactions = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * Creates the {@link OrderSummary}s for all {@link Order}s that don't have one yet, in chunks of a transaction each.
+	 * Other application instances starting at the same time might be creating the same {@link OrderSummary}s. A chunk
+	 * failing due to that is rolled back and looked up again, which then excludes the {@link OrderSummary}s created
+	 * meanwhile.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	void backfillSummaries() {
+
+		var created = 0;
+		var conflicts = 0;
+		int chunk;
+
+		do {
+
+			try {
+
+				chunk = transactions.execute(__ -> {
+
+					var missing = orders.findWithoutSummary(PageRequest.of(0, BACKFILL_CHUNK_SIZE));
+
+					summaries.saveAll(missing.stream().map(OrderSummary::of).toList());
+
+					return missing.size();
+				});
+
+				created += chunk;
+				conflicts = 0;
+
+			} catch (DataIntegrityViolationException o_O) {
+
+				// Not caused by a concurrent backfill if the chunk keeps failing
+				if (++conflicts > MAX_BACKFILL_CONFLICTS) {
+					throw o_O;
+				}
+
+				LOGGER.debug("Order summaries created concurrently, looking up missing ones again.", o_O);
+
+				chunk = BACKFILL_CHUNK_SIZE;
+			}
+
+		} while (chunk == BACKFILL_CHUNK_SIZE);
+
+		if (created > 0) {
+			LOGGER.info("Created {} missing order summaries.", created);
+		}
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+	void on(OrderCompleted event) {
+		summaries.save(OrderSummary.of(event.getOrder()));
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+	void on(OrderCanceled event) {
+		summaries.save(OrderSummary.of(event.getOrder()));
+	}
+}
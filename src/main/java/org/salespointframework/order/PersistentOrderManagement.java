@@ -15,19 +15,33 @@
  */
 package org.salespointframework.order;
 
+import jakarta.persistence.EntityManager;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.salespointframework.order.Order.OrderIdentifier;
+import org.salespointframework.order.OrderEvents.OrderPaid;
 import org.salespointframework.time.BusinessTime;
 import org.salespointframework.time.Interval;
 import org.salespointframework.useraccount.UserAccount;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.util.Streamable;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
@@ -43,6 +57,9 @@ class PersistentOrderManagement<T extends Order> implements OrderManagement<T> {
 
 	private final @NonNull BusinessTime businessTime;
 	private final @NonNull OrderRepository<T> orderRepository;
+	private final @NonNull OrderSummaryRepository summaries;
+	private final @NonNull ApplicationEventPublisher events;
+	private final @NonNull EntityManager entityManager;
 
 	/*
 	 * (non-Javadoc)
@@ -53,11 +70,17 @@ class PersistentOrderManagement<T extends Order> implements OrderManagement<T> {
 
 		Assert.notNull(order, "Order must be not null");
 
+		// Truncated to the precision most databases persist, so that the instance held in memory can serve as key for
+		// paging even if it has been deleted since, see findBy(Interval, T, int)
 		if (order.isNew()) {
-			order.setDateCreated(businessTime.getTime());
+			order.setDateCreated(businessTime.getTime().truncatedTo(ChronoUnit.MICROS));
 		}
 
-		return orderRepository.save(order);
+		var result = orderRepository.save(order);
+
+		summaries.save(OrderSummary.of(result));
+
+		return result;
 	}
 
 	/*
@@ -93,6 +116,61 @@ class PersistentOrderManagement<T extends Order> implements OrderManagement<T> {
 		return orderRepository.findByDateCreatedBetween(interval.getStart(), interval.getEnd());
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.order.OrderManagement#findBy(org.salespointframework.time.Interval, org.salespointframework.order.OrderFetchPlan)
+	 */
+	@Override
+	public Streamable<T> findBy(Interval interval, OrderFetchPlan plan) {
+
+		Assert.notNull(interval, "Interval must not be null!");
+
+		return fetch(findBy(interval), plan);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.order.OrderManagement#streamBy(org.salespointframework.time.Interval)
+	 */
+	@Override
+	@Transactional(propagation = Propagation.MANDATORY)
+	public Stream<T> streamBy(Interval interval) {
+
+		Assert.notNull(interval, "Interval must not be null!");
+
+		var source = orderRepository.streamByDateCreatedBetween(interval.getStart(), interval.getEnd());
+		var iterator = new DetachingIterator<>(source.iterator(), entityManager, OrderRepository.FETCH_SIZE);
+
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false) //
+				.onClose(source::close);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.order.OrderManagement#findBy(org.salespointframework.time.Interval, org.salespointframework.order.Order, int)
+	 */
+	@Override
+	public Streamable<T> findBy(Interval interval, @Nullable T previous, int size) {
+
+		Assert.notNull(interval, "Interval must not be null!");
+		Assert.isTrue(size > 0, "Size must be greater than zero!");
+		Assert.isTrue(previous == null || previous.getDateCreated() != null, "Previous order must have been saved!");
+
+		var pageable = PageRequest.ofSize(size);
+
+		if (previous == null) {
+			return Streamable.of(orderRepository.findFirstByDateCreatedBetween(interval.getStart(), interval.getEnd(),
+					pageable));
+		}
+
+		// Prefer the creation date as persisted, as the database might store it with less precision than held in memory
+		var dateCreated = orderRepository.findDateCreatedById(previous.getId()) //
+				.orElseGet(previous::getDateCreated);
+
+		return Streamable.of(orderRepository.findNextByDateCreatedBetween(interval.getStart(), interval.getEnd(),
+				dateCreated, previous.getId().toString(), pageable));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.salespointframework.order.OrderManagement#findBy(org.salespointframework.order.OrderStatus)
@@ -105,6 +183,15 @@ class PersistentOrderManagement<T extends Order> implements OrderManagement<T> {
 		return orderRepository.findByOrderStatus(orderStatus);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.order.OrderManagement#findBy(org.salespointframework.order.OrderStatus, org.salespointframework.order.OrderFetchPlan)
+	 */
+	@Override
+	public Streamable<T> findBy(OrderStatus orderStatus, OrderFetchPlan plan) {
+		return fetch(findBy(orderStatus), plan);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.salespointframework.order.OrderManagement#findBy(org.salespointframework.useraccount.UserAccount)
@@ -117,6 +204,15 @@ class PersistentOrderManagement<T extends Order> implements OrderManagement<T> {
 		return orderRepository.findByUserAccount(userAccount);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.order.OrderManagement#findBy(org.salespointframework.useraccount.UserAccount, org.salespointframework.order.OrderFetchPlan)
+	 */
+	@Override
+	public Streamable<T> findBy(UserAccount userAccount, OrderFetchPlan plan) {
+		return fetch(findBy(userAccount), plan);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.salespointframework.order.OrderManagement#findBy(org.salespointframework.useraccount.UserAccount, org.salespointframework.time.Interval)
@@ -156,12 +252,23 @@ class PersistentOrderManagement<T extends Order> implements OrderManagement<T> {
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.order.OrderManagement#completeOrders(java.lang.Iterable)
+	 */
+	@Override
+	public Streamable<OrderCompletionReport> completeOrders(Iterable<T> orders) {
+
+		Assert.notNull(orders, "Orders must not be null!");
+
+		return Streamable.of(Streamable.of(orders).map(this::tryToComplete).toList());
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.salespointframework.order.OrderManagement#payOrder(org.salespointframework.order.Order)
 	 */
 	@Override
-	@SuppressWarnings("unchecked")
 	public boolean payOrder(T order) {
 
 		Assert.notNull(order, "Order must not be null");
@@ -170,11 +277,33 @@ class PersistentOrderManagement<T extends Order> implements OrderManagement<T> {
 			return false;
 		}
 
-		save((T) order.markPaid());
+		publishPaid(order);
+		save(order);
 
 		return true;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.order.OrderManagement#payOrders(java.lang.Iterable)
+	 */
+	@Override
+	public Streamable<T> payOrders(Iterable<T> orders) {
+
+		Assert.notNull(orders, "Orders must not be null!");
+
+		var paid = Streamable.of(orders) //
+				.filter(Order::isPaymentExpected) //
+				.filter(this::tryToPay) //
+				.toList();
+
+		var result = Streamable.of(orderRepository.saveAll(paid));
+
+		summaries.saveAll(result.map(OrderSummary::of));
+
+		return result;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.salespointframework.order.OrderManagement#cancelOrder(org.salespointframework.order.Order, java.lang.String)
@@ -202,6 +331,7 @@ class PersistentOrderManagement<T extends Order> implements OrderManagement<T> {
 		Assert.notNull(order, "Order must not be null!");
 
 		orderRepository.delete(order);
+		summaries.findById(order.getId()).ifPresent(summaries::delete);
 
 		return order;
 	}
@@ -214,4 +344,169 @@ class PersistentOrderManagement<T extends Order> implements OrderManagement<T> {
 	public Page<T> findAll(Pageable pageable) {
 		return orderRepository.findAll(pageable);
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.salespointframework.order.OrderManagement#findSummaries(org.springframework.data.domain.Pageable)
+	 */
+	@Override
+	public Page<OrderSummary> findSummaries(Pageable pageable) {
+
+		Assert.notNull(pageable, "Pageable must not be null!");
+
+		return summaries.findAll(pageable);
+	}
+
+	/**
+	 * Initializes the parts of the given {@link Order}s described by the given {@link OrderFetchPlan} issuing a single
+	 * query per part.
+	 *
+	 * @param orders must not be {@literal null}.
+	 * @param plan must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private Streamable<T> fetch(Streamable<T> orders, OrderFetchPlan plan) {
+
+		Assert.notNull(plan, "OrderFetchPlan must not be null!");
+
+		var result = orders.toList();
+		var identifiers = result.stream().map(Order::getId).toList();
+
+		if (identifiers.isEmpty()) {
+			return Streamable.of(result);
+		}
+
+		if (plan.includesOrderLines()) {
+			orderRepository.fetchOrderLines(identifiers);
+		}
+
+		if (plan.includesChargeLines()) {
+			orderRepository.fetchChargeLines(identifiers);
+			orderRepository.fetchAttachedChargeLines(identifiers);
+		}
+
+		return Streamable.of(result);
+	}
+
+	/**
+	 * Marks the given {@link Order} as paid and publishes the {@link OrderPaid} event directly, as a failure thrown
+	 * through the repository would mark the transaction rollback-only. Resets the {@link Order} to open in case a
+	 * listener rejects the payment.
+	 *
+	 * @param order must not be {@literal null}.
+	 * @throws OrderPaymentFailure in case a listener rejected the payment.
+	 */
+	private void publishPaid(T order) {
+
+		try {
+
+			events.publishEvent(order.pay());
+
+		} catch (RuntimeException o_O) {
+
+			order.unpay();
+
+			throw o_O;
+		}
+	}
+
+	/**
+	 * Pays the given {@link Order} and reports whether that succeeded.
+	 *
+	 * @param order must not be {@literal null}.
+	 * @return whether the {@link Order} was paid.
+	 */
+	private boolean tryToPay(T order) {
+
+		try {
+
+			publishPaid(order);
+
+			return true;
+
+		} catch (OrderPaymentFailure o_O) {
+			return false;
+		}
+	}
+
+	/**
+	 * Completes the given {@link Order} and captures the outcome in an {@link OrderCompletionReport}.
+	 *
+	 * @param order must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private OrderCompletionReport tryToComplete(T order) {
+
+		Assert.notNull(order, "Order must not be null!");
+
+		if (!order.isPaid()) {
+			return OrderCompletionReport.failed(order);
+		}
+
+		// Publish the event directly as a failure thrown through the repository would mark the transaction rollback-only
+		try {
+
+			events.publishEvent(order.markCompleted());
+
+		} catch (OrderCompletionFailure o_O) {
+
+			order.uncomplete();
+
+			return o_O.getReport();
+
+		} catch (RuntimeException o_O) {
+
+			order.uncomplete();
+
+			throw o_O;
+		}
+
+		save(order);
+
+		return OrderCompletionReport.success(order);
+	}
+
+	/**
+	 * An {@link Iterator} that flushes the persistence context and detaches the elements handed out previously every
+	 * given number of elements before obtaining the next one from the given delegate, so that they do not accumulate in
+	 * it. Other entities managed by the persistence context are not affected, unlike when clearing it.
+	 */
+	@RequiredArgsConstructor
+	private static class DetachingIterator<T> implements Iterator<T> {
+
+		private final Iterator<T> delegate;
+		private final EntityManager entityManager;
+		private final int interval;
+		private final List<T> handedOut = new ArrayList<>();
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+			return delegate.hasNext();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public T next() {
+
+			if (handedOut.size() == interval) {
+
+				entityManager.flush();
+				handedOut.forEach(entityManager::detach);
+				handedOut.clear();
+			}
+
+			var next = delegate.next();
+
+			handedOut.add(next);
+
+			return next;
+		}
+	}
 }
@@ -15,7 +15,9 @@
  */
 package org.salespointframework.payment;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
@@ -39,5 +41,5 @@ public abstract class PaymentMethod implements Serializable, ValueObject {
 	/**
 	 * Description of the <code>PaymentMethod</code> in human-readable form. Is not {@literal null}.
 	 */
-	private final @NonNull String description;
+	private final @NonNull @Getter(AccessLevel.PACKAGE) String description;
 }
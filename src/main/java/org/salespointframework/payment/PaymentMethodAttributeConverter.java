@@ -0,0 +1,270 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.payment;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import javax.money.MonetaryAmount;
+
+import org.javamoney.moneta.Money;
+import org.springframework.lang.Nullable;
+
+/**
+ * JPA {@link AttributeConverter} to store {@link PaymentMethod}s as compact {@link String} consisting of a type
+ * discriminator followed by the individual fields of the {@link PaymentMethod}, e.g. {@code CASH} or
+ * {@code CREDIT_CARD;VISA;…}. That allows to filter by type using a prefix match on the column. {@literal null} fields
+ * are written as {@code \N}, so that they can be told apart from empty ones. Custom {@link PaymentMethod}
+ * implementations are stored as Base64-encoded, Java-serialized {@code SERIALIZED;…} values, which can get large.
+ * Entities should rather keep those in a {@code @Lob} column of their own, see {@link #supports(PaymentMethod)}. Needs
+ * to be activated explicitly using {@code @Convert(converter = PaymentMethodAttributeConverter.class)} so that
+ * properties still mapped as {@code @Lob} are not affected.
+ *
+ * @since 8.1
+ */
+@Converter
+public class PaymentMethodAttributeConverter implements AttributeConverter<PaymentMethod, String> {
+
+	static final String CASH = "CASH";
+	static final String CHEQUE = "CHEQUE";
+	static final String CREDIT_CARD = "CREDIT_CARD";
+	static final String DEBIT_CARD = "DEBIT_CARD";
+	static final String SERIALIZED = "SERIALIZED";
+
+	private static final char SEPARATOR = ';';
+	private static final char ESCAPE = '\\';
+	private static final char NULL = 'N';
+
+	/**
+	 * Returns whether the given {@link PaymentMethod} is stored in the compact representation, i.e. is one of the
+	 * {@link PaymentMethod}s shipped with Salespoint, rather than as Java-serialized fallback.
+	 *
+	 * @param method can be {@literal null}.
+	 * @return whether the given {@link PaymentMethod} is stored in the compact representation.
+	 */
+	public static boolean supports(@Nullable PaymentMethod method) {
+
+		if (method == null) {
+			return false;
+		}
+
+		var type = method.getClass();
+
+		return type == Cash.class || type == Cheque.class || type == CreditCard.class || type == DebitCard.class;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see jakarta.persistence.AttributeConverter#convertToDatabaseColumn(java.lang.Object)
+	 */
+	@Override
+	public String convertToDatabaseColumn(@Nullable PaymentMethod method) {
+
+		if (method == null) {
+			return null;
+		}
+
+		var type = method.getClass();
+
+		if (type == Cash.class) {
+			return CASH;
+		}
+
+		if (type == Cheque.class) {
+
+			var cheque = (Cheque) method;
+
+			return join(CHEQUE, cheque.getAccountName(), cheque.getAccountNumber(), cheque.getChequeNumber(),
+					cheque.getPayee(), cheque.getDateWritten(), cheque.getBankName(), cheque.getBankAddress(),
+					cheque.getBankIdentificationNumber());
+		}
+
+		if (type == CreditCard.class) {
+
+			var card = (CreditCard) method;
+
+			return join(CREDIT_CARD, card.getDescription(), card.getCardAssociationName(), card.getCardNumber(),
+					card.getNameOnCard(), card.getBillingAddress(), card.getValidFrom(), card.getExpiryDate(),
+					card.getCardVerificationCode(), card.getDailyWithdrawalLimit(), card.getCreditLimit());
+		}
+
+		if (type == DebitCard.class) {
+
+			var card = (DebitCard) method;
+
+			return join(DEBIT_CARD, card.getDescription(), card.getCardAssociationName(), card.getCardNumber(),
+					card.getNameOnCard(), card.getBillingAddress(), card.getValidFrom(), card.getExpiryDate(),
+					card.getCardVerificationCode(), card.getDailyWithdrawalLimit());
+		}
+
+		return join(SERIALIZED, Base64.getEncoder().encodeToString(serialize(method)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see jakarta.persistence.AttributeConverter#convertToEntityAttribute(java.lang.Object)
+	 */
+	@Override
+	public PaymentMethod convertToEntityAttribute(@Nullable String source) {
+
+		if (source == null) {
+			return null;
+		}
+
+		var fields = split(source);
+
+		switch (fields.get(0)) {
+
+			case CASH:
+				return Cash.CASH;
+
+			case CHEQUE:
+				return new Cheque(fields.get(1), fields.get(2), fields.get(3), fields.get(4), toDate(fields.get(5)),
+						fields.get(6), fields.get(7), fields.get(8));
+
+			case CREDIT_CARD:
+				return new CreditCard(fields.get(1), fields.get(2), fields.get(3), fields.get(4), fields.get(5),
+						toDate(fields.get(6)), toDate(fields.get(7)), fields.get(8), toAmount(fields.get(9)),
+						toAmount(fields.get(10)));
+
+			case DEBIT_CARD:
+				return new DebitCard(fields.get(1), fields.get(2), fields.get(3), fields.get(4), fields.get(5),
+						toDate(fields.get(6)), toDate(fields.get(7)), fields.get(8), toAmount(fields.get(9)));
+
+			case SERIALIZED:
+				return deserialize(Base64.getDecoder().decode(fields.get(1)));
+
+			default:
+				throw new IllegalArgumentException(String.format("Unsupported payment method type %s!", fields.get(0)));
+		}
+	}
+
+	private static String join(String type, Object... fields) {
+
+		var builder = new StringBuilder(type);
+
+		for (Object field : fields) {
+
+			builder.append(SEPARATOR);
+
+			// Escaping the marker is never produced for values, so that null values can be told apart from empty ones
+			if (field == null) {
+				builder.append(ESCAPE).append(NULL);
+				continue;
+			}
+
+			var value = field instanceof MonetaryAmount amount
+					? String.format("%s %s", amount.getCurrency().getCurrencyCode(), amount.getNumber())
+					: field.toString();
+
+			for (int i = 0; i < value.length(); i++) {
+
+				var character = value.charAt(i);
+
+				if (character == SEPARATOR || character == ESCAPE) {
+					builder.append(ESCAPE);
+				}
+
+				builder.append(character);
+			}
+		}
+
+		return builder.toString();
+	}
+
+	private static List<String> split(String source) {
+
+		var result = new ArrayList<String>();
+		var current = new StringBuilder();
+		var isNull = false;
+
+		for (int i = 0; i < source.length(); i++) {
+
+			var character = source.charAt(i);
+
+			if (character == ESCAPE && i + 1 < source.length()) {
+
+				var next = source.charAt(++i);
+
+				if (next == NULL) {
+					isNull = true;
+				} else {
+					current.append(next);
+				}
+
+			} else if (character == SEPARATOR) {
+				result.add(isNull ? null : current.toString());
+				current.setLength(0);
+				isNull = false;
+			} else {
+				current.append(character);
+			}
+		}
+
+		result.add(isNull ? null : current.toString());
+
+		return result;
+	}
+
+	@Nullable
+	private static LocalDateTime toDate(@Nullable String source) {
+		return nullOrMap(source, LocalDateTime::parse);
+	}
+
+	@Nullable
+	private static MonetaryAmount toAmount(@Nullable String source) {
+		return nullOrMap(source, Money::parse);
+	}
+
+	// Empty values are considered null, too, as values written before null fields were marked explicitly were empty
+	@Nullable
+	private static <T> T nullOrMap(@Nullable String source, Function<String, T> mapper) {
+		return source == null || source.isEmpty() ? null : mapper.apply(source);
+	}
+
+	private static byte[] serialize(PaymentMethod method) {
+
+		var bytes = new ByteArrayOutputStream();
+
+		try (var stream = new ObjectOutputStream(bytes)) {
+			stream.writeObject(method);
+		} catch (IOException o_O) {
+			throw new IllegalStateException("Could not serialize payment method " + method, o_O);
+		}
+
+		return bytes.toByteArray();
+	}
+
+	private static PaymentMethod deserialize(byte[] source) {
+
+		try (var stream = new ObjectInputStream(new ByteArrayInputStream(source))) {
+			return (PaymentMethod) stream.readObject();
+		} catch (IOException | ClassNotFoundException o_O) {
+			throw new IllegalStateException("Could not deserialize payment method!", o_O);
+		}
+	}
+}
@@ -19,8 +19,11 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -34,6 +37,17 @@ public enum Metric {
 
 	SQUARE_METER("m²", "m2"), METER("m"), KILOGRAM("kg"), LITER("l"), UNIT("");
 
+	private static final Map<String, Metric> BY_ABBREVIATION = new HashMap<>();
+
+	static {
+
+		for (Metric metric : values()) {
+
+			BY_ABBREVIATION.putIfAbsent(metric.abbreviation, metric);
+			metric.abbreviations.forEach(it -> BY_ABBREVIATION.putIfAbsent(it, metric));
+		}
+	}
+
 	private final String abbreviation;
 	private final List<String> abbreviations;
 
@@ -77,11 +91,23 @@ public enum Metric {
 
 		Assert.notNull(abbreviation, "Abbreviation source must not be null!");
 
-		String source = abbreviation.trim();
+		var result = lookup(abbreviation.trim());
+
+		if (result == null) {
+			throw new IllegalArgumentException(String.format("Unsupported abbreviation %s!", abbreviation));
+		}
 
-		return Arrays.stream(Metric.values()) //
-				.filter(it -> it.abbreviation.equals(source) || it.abbreviations.contains(source)) //
-				.findFirst() //
-				.orElseThrow(() -> new IllegalArgumentException(String.format("Unsupported abbreviation %s!", abbreviation)));
+		return result;
+	}
+
+	/**
+	 * Returns the {@link Metric} for the given, already trimmed abbreviation.
+	 *
+	 * @param abbreviation must not be {@literal null}.
+	 * @return the {@link Metric} or {@literal null} if no {@link Metric} can be found for the given abbreviation.
+	 */
+	@Nullable
+	static Metric lookup(String abbreviation) {
+		return BY_ABBREVIATION.get(abbreviation);
 	}
 }
@@ -25,11 +25,12 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
-import java.text.DecimalFormat;
+import java.util.Locale;
+import java.util.stream.Collector;
 
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -41,7 +42,6 @@ import org.springframework.util.Assert;
 @Embeddable
 @EqualsAndHashCode
 @NoArgsConstructor(force = true, access = AccessLevel.PACKAGE)
-@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 @Access(AccessType.PROPERTY)
 public class Quantity {
 
@@ -49,10 +49,9 @@ public class Quantity {
 	private static final String INCOMPATIBLE = "Quantity %s is incompatible to quantity %s!";
 
 	/**
-	 * The amount of the Quantity. Explicitly set a prefixed column name to avoid name conflicts.
+	 * The amount of the Quantity. Created lazily from {@link #units} for integral {@link Metric#UNIT} quantities.
 	 */
-	@Getter(onMethod = @__(@Column(name = "quantity_amount"))) //
-	private @NonNull BigDecimal amount;
+	private @Nullable BigDecimal amount;
 
 	/**
 	 * The metric of the Quantity. Explicitly set a prefixed column name to avoid name conflicts.
@@ -60,6 +59,33 @@ public class Quantity {
 	@Getter(onMethod = @__(@Column(name = "quantity_metric"))) //
 	private @NonNull Metric metric;
 
+	/**
+	 * The amount of integral {@link Metric#UNIT} quantities, so that the most common arithmetic operations and
+	 * comparisons can be implemented on primitives. Only valid if {@link #integral} is {@literal true}.
+	 */
+	private @EqualsAndHashCode.Exclude long units;
+	private @EqualsAndHashCode.Exclude boolean integral;
+
+	private Quantity(BigDecimal amount, Metric metric) {
+
+		Assert.notNull(amount, "Amount must not be null!");
+		Assert.notNull(metric, "Metric must not be null!");
+
+		this.amount = amount;
+		this.metric = metric;
+		this.integral = Metric.UNIT == metric && amount.scale() == 0
+				&& amount.unscaledValue().bitLength() < Long.SIZE;
+		this.units = integral ? amount.longValue() : 0;
+	}
+
+	private Quantity(long units) {
+
+		this.amount = null;
+		this.metric = Metric.UNIT;
+		this.units = units;
+		this.integral = true;
+	}
+
 	/**
 	 * Creates a new {@link Quantity} of the given amount. Defaults the metric to {@value Metric#UNIT}.
 	 *
@@ -88,7 +114,7 @@ public class Quantity {
 	 * @return
 	 */
 	public static Quantity of(long amount, Metric metric) {
-		return new Quantity(BigDecimal.valueOf(amount), metric);
+		return Metric.UNIT == metric ? new Quantity(amount) : new Quantity(BigDecimal.valueOf(amount), metric);
 	}
 
 	/**
@@ -113,6 +139,38 @@ public class Quantity {
 		return new Quantity(amount, metric);
 	}
 
+	/**
+	 * Sums up the given {@link Quantity}s into a single one. In contrast to reducing them via {@link #add(Quantity)},
+	 * no intermediate {@link Quantity} instances are created.
+	 *
+	 * @param quantities must not be {@literal null}. The {@link Metric}s of all {@link Quantity}s have to be compatible
+	 *          with each other.
+	 * @return the sum of all {@link Quantity}s or {@link #NONE} in case no {@link Quantity}s are given.
+	 * @since 8.1
+	 */
+	public static Quantity sum(Iterable<Quantity> quantities) {
+
+		Assert.notNull(quantities, "Quantities must not be null!");
+
+		var accumulator = new Accumulator();
+
+		for (Quantity quantity : quantities) {
+			accumulator.add(quantity);
+		}
+
+		return accumulator.toQuantity();
+	}
+
+	/**
+	 * Returns a {@link Collector} to sum up {@link Quantity}s in the same way as {@link #sum(Iterable)}.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 8.1
+	 */
+	public static Collector<Quantity, ?, Quantity> summing() {
+		return Collector.of(Accumulator::new, Accumulator::add, Accumulator::combine, Accumulator::toQuantity);
+	}
+
 	/**
 	 * Returns whether the {@link Quantity} is compatible with the given {@link Metric}.
 	 *
@@ -147,9 +205,19 @@ public class Quantity {
 			return this;
 		}
 
+		if (integral && other.integral) {
+
+			long result = units + other.units;
+
+			// No overflow
+			if (((units ^ result) & (other.units ^ result)) >= 0) {
+				return new Quantity(result);
+			}
+		}
+
 		assertCompatibility(other);
 
-		return new Quantity(this.amount.add(other.amount), this.metric);
+		return new Quantity(getAmount().add(other.getAmount()), this.metric);
 	}
 
 	/**
@@ -170,9 +238,19 @@ public class Quantity {
 			return this;
 		}
 
+		if (integral && other.integral) {
+
+			long result = units - other.units;
+
+			// No overflow
+			if (((units ^ other.units) & (units ^ result)) >= 0) {
+				return new Quantity(result);
+			}
+		}
+
 		assertCompatibility(other);
 
-		return new Quantity(this.amount.subtract(other.amount), this.metric);
+		return new Quantity(getAmount().subtract(other.getAmount()), this.metric);
 	}
 
 	/**
@@ -185,8 +263,7 @@ public class Quantity {
 	 */
 	public boolean isLessThan(Quantity other) {
 
-		assertCompatibility(other);
-		return this.amount.compareTo(other.amount) < 0;
+		return compareTo(other) < 0;
 	}
 
 	/**
@@ -206,7 +283,19 @@ public class Quantity {
 	 * @return will never be {@literal null}.
 	 */
 	public Quantity times(long multiplier) {
-		return new Quantity(amount.multiply(BigDecimal.valueOf(multiplier)), metric);
+
+		if (integral) {
+
+			long high = Math.multiplyHigh(units, multiplier);
+			long result = units * multiplier;
+
+			// No overflow
+			if (high == 0 && result >= 0 || high == -1 && result < 0) {
+				return new Quantity(result);
+			}
+		}
+
+		return new Quantity(getAmount().multiply(BigDecimal.valueOf(multiplier)), metric);
 	}
 
 	/**
@@ -221,8 +310,12 @@ public class Quantity {
 
 		Assert.notNull(other, "Quantity must not be null!");
 
+		if (integral && other.integral) {
+			return units == other.units;
+		}
+
 		return metric.isCompatibleWith(other.metric) //
-				&& this.amount.compareTo(other.amount) == 0;
+				&& getAmount().compareTo(other.getAmount()) == 0;
 	}
 
 	/**
@@ -235,8 +328,7 @@ public class Quantity {
 	 */
 	public boolean isGreaterThan(Quantity other) {
 
-		assertCompatibility(other);
-		return this.amount.compareTo(other.amount) > 0;
+		return compareTo(other) > 0;
 	}
 
 	/**
@@ -249,8 +341,7 @@ public class Quantity {
 	 */
 	public boolean isGreaterThanOrEqualTo(Quantity other) {
 
-		assertCompatibility(other);
-		return this.amount.compareTo(other.amount) >= 0;
+		return compareTo(other) >= 0;
 	}
 
 	/**
@@ -261,7 +352,7 @@ public class Quantity {
 	 */
 	@Transient
 	public boolean isPositive() {
-		return this.amount.compareTo(BigDecimal.ZERO) > 0;
+		return integral ? units > 0 : getAmount().signum() > 0;
 	}
 
 	/**
@@ -282,7 +373,7 @@ public class Quantity {
 	 */
 	@Transient
 	public boolean isNegative() {
-		return this.amount.compareTo(BigDecimal.ZERO) < 0;
+		return integral ? units < 0 : getAmount().signum() < 0;
 	}
 
 	/**
@@ -321,7 +412,36 @@ public class Quantity {
 	 * @since 7.5
 	 */
 	public Quantity negate() {
-		return new Quantity(amount.negate(), metric);
+
+		return integral && units != Long.MIN_VALUE //
+				? new Quantity(-units)
+				: new Quantity(getAmount().negate(), metric);
+	}
+
+	/**
+	 * Returns the amount of the {@link Quantity}. Explicitly set a prefixed column name to avoid name conflicts.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	@Column(name = "quantity_amount")
+	public BigDecimal getAmount() {
+
+		var result = amount;
+
+		if (result == null && integral) {
+			result = amount = BigDecimal.valueOf(units);
+		}
+
+		return result;
+	}
+
+	private int compareTo(Quantity other) {
+
+		assertCompatibility(other);
+
+		return integral && other.integral //
+				? Long.compare(units, other.units)
+				: getAmount().compareTo(other.getAmount());
 	}
 
 	private void assertCompatibility(Quantity quantity) {
@@ -344,19 +464,27 @@ public class Quantity {
 		this.metric = metric;
 
 		if (amount != null && Metric.UNIT == metric) {
-			this.amount = BigDecimal.valueOf(amount.longValue());
+			setUnits(amount.longValue());
 		}
 	}
 
 	void setAmount(BigDecimal amount) {
 
 		this.amount = amount;
+		this.integral = false;
 
 		if (Metric.UNIT == this.metric) {
-			this.amount = BigDecimal.valueOf(amount.longValue());
+			setUnits(amount.longValue());
 		}
 	}
 
+	private void setUnits(long units) {
+
+		this.amount = null;
+		this.units = units;
+		this.integral = true;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see java.lang.Object#toString()
@@ -364,9 +492,89 @@ public class Quantity {
 	@Override
 	public String toString() {
 
-		DecimalFormat format = new DecimalFormat();
+		var amount = getAmount();
+		var format = QuantityFormatter.getNumberFormat(Locale.getDefault(Locale.Category.FORMAT));
+
 		format.setMinimumFractionDigits(amount.scale());
 
 		return format.format(amount).concat(metric.getAbbreviation());
 	}
+
+	/**
+	 * Mutable accumulator to sum up {@link Quantity}s. Sums up integral {@link Metric#UNIT} quantities as long and only
+	 * switches to {@link BigDecimal} arithmetic once a decimal amount is added or the sum overflows.
+	 */
+	private static class Accumulator {
+
+		private @Nullable Quantity first;
+		private long units;
+		private @Nullable BigDecimal decimal;
+
+		void add(Quantity quantity) {
+
+			Assert.notNull(quantity, "Quantity must not be null!");
+
+			if (quantity == NONE) {
+				return;
+			}
+
+			if (first == null) {
+				first = quantity;
+			} else if (first.metric != quantity.metric) {
+				first.assertCompatibility(quantity);
+			}
+
+			if (decimal == null && quantity.integral) {
+
+				long result = units + quantity.units;
+
+				// No overflow
+				if (((units ^ result) & (quantity.units ^ result)) >= 0) {
+					units = result;
+					return;
+				}
+			}
+
+			decimal = (decimal == null ? BigDecimal.valueOf(units) : decimal).add(quantity.getAmount());
+		}
+
+		Accumulator combine(Accumulator other) {
+
+			if (other.first == null) {
+				return this;
+			}
+
+			if (first == null) {
+				return other;
+			}
+
+			first.assertCompatibility(other.first);
+
+			if (decimal == null && other.decimal == null) {
+
+				long result = units + other.units;
+
+				if (((units ^ result) & (other.units ^ result)) >= 0) {
+					units = result;
+					return this;
+				}
+			}
+
+			decimal = (decimal == null ? BigDecimal.valueOf(units) : decimal) //
+					.add(other.decimal == null ? BigDecimal.valueOf(other.units) : other.decimal);
+
+			return this;
+		}
+
+		Quantity toQuantity() {
+
+			if (first == null) {
+				return NONE;
+			}
+
+			return decimal == null //
+					? Quantity.of(units, first.metric)
+					: Quantity.of(decimal, first.metric);
+		}
+	}
 }
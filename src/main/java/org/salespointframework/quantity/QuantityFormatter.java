@@ -16,11 +16,12 @@
 package org.salespointframework.quantity;
 
 import java.math.BigDecimal;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.Locale;
-import java.util.function.Function;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.format.Formatter;
 import org.springframework.format.number.NumberStyleFormatter;
@@ -28,8 +29,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 /**
- * A dedicated Spring {@link Formatter} to print and parse {@link Quantity} instances. Uses a
- * {@link NumberStyleFormatter} for parsing of the amount.
+ * A dedicated Spring {@link Formatter} to print and parse {@link Quantity} instances. Parses the amount using the
+ * decimal and grouping separators of the given {@link Locale} without creating a {@link NumberFormat} and prints it
+ * using a {@link NumberFormat} copied from a cached one per {@link Locale}, just like a {@link NumberStyleFormatter}
+ * would format it.
  *
  * @author Oliver Gierke
  * @see NumberStyleFormatter
@@ -39,24 +42,9 @@ import org.springframework.util.StringUtils;
 @Component
 class QuantityFormatter implements Formatter<Quantity> {
 
-	private static final Pattern QUANTITY_PATTERN;
-	private static final NumberStyleFormatter NUMBER_FORMATTER = new NumberStyleFormatter();
-
-	static {
-
-		StringBuilder builder = new StringBuilder();
-
-		builder.append("("); // group 1 start
-		builder.append("[+-]?"); // optional sign
-		builder.append("\\d*[\\.\\,]?\\d*"); // decimals with . or , in between
-		builder.append(")"); // group 1 end
-
-		builder.append("("); // group 2 start
-		builder.append("\\s*\\w*"); // any kind of text as metric source
-		builder.append(")"); // group 2 end;
-
-		QUANTITY_PATTERN = Pattern.compile(builder.toString());
-	}
+	private static final Map<Locale, NumberFormat> NUMBER_FORMATS = new ConcurrentHashMap<>();
+	private static final Map<Locale, DecimalFormatSymbols> SYMBOLS = new ConcurrentHashMap<>();
+	private static final long MAX_UNSCALED = (Long.MAX_VALUE - 9) / 10;
 
 	/*
 	 * (non-Javadoc)
@@ -64,9 +52,7 @@ class QuantityFormatter implements Formatter<Quantity> {
 	 */
 	@Override
 	public String print(Quantity object, Locale locale) {
-
-		return String.format("%s%s", NUMBER_FORMATTER.print(object.getAmount(), locale),
-				object.getMetric().getAbbreviation());
+		return getNumberFormat(locale).format(object.getAmount()).concat(object.getMetric().getAbbreviation());
 	}
 
 	/*
@@ -80,37 +66,95 @@ class QuantityFormatter implements Formatter<Quantity> {
 			return Quantity.of(0);
 		}
 
-		Matcher matcher = QUANTITY_PATTERN.matcher(text.trim());
+		var symbols = SYMBOLS.computeIfAbsent(locale, DecimalFormatSymbols::getInstance);
+		var decimalSeparator = symbols.getDecimalSeparator();
+		var groupingSeparator = symbols.getGroupingSeparator();
+
+		int start = 0, end = text.length();
+
+		while (Character.isWhitespace(text.charAt(start))) {
+			start++;
+		}
+
+		while (Character.isWhitespace(text.charAt(end - 1))) {
+			end--;
+		}
+
+		int index = start;
+		var negative = false;
+		var first = text.charAt(index);
+
+		if (first == '-' || first == '+') {
+			negative = first == '-';
+			index++;
+		}
+
+		int amountStart = index, digits = 0, scale = -1;
+		long unscaled = 0;
+		var overflow = false;
+
+		for (; index < end; index++) {
+
+			var character = text.charAt(index);
+
+			if (character >= '0' && character <= '9') {
+
+				overflow |= unscaled > MAX_UNSCALED;
+				unscaled = unscaled * 10 + character - '0';
+				digits++;
+
+				if (scale >= 0) {
+					scale++;
+				}
+
+			} else if (character == decimalSeparator && scale < 0) {
+				scale = 0;
+			} else if (character != groupingSeparator || scale >= 0 || digits == 0) {
+				break;
+			}
+		}
+
+		int amountEnd = index;
+
+		while (index < end && Character.isWhitespace(text.charAt(index))) {
+			index++;
+		}
 
-		if (!matcher.matches()) {
+		var metric = index == end ? Metric.UNIT : Metric.lookup(text.substring(index, end));
+
+		if (metric == null) {
+			throw new ParseException(text.substring(amountEnd, end), amountEnd - start);
+		}
+
+		if (digits == 0) {
 			throw new ParseException(text, 0);
 		}
 
-		Metric metric = parseMetric(matcher.group(2), o_O -> new ParseException(matcher.group(2), matcher.start(2)));
+		if (overflow) {
+
+			var source = text.substring(amountStart, amountEnd) //
+					.replace(String.valueOf(groupingSeparator), "") //
+					.replace(decimalSeparator, '.');
+			var amount = new BigDecimal(source);
 
-		Number number = NUMBER_FORMATTER.parse(matcher.group(1), locale);
+			return Quantity.of(negative ? amount.negate() : amount, metric);
+		}
+
+		unscaled = negative ? -unscaled : unscaled;
 
-		return number instanceof BigDecimal //
-				? Quantity.of((BigDecimal) number, metric) //
-				: Quantity.of(number.doubleValue(), metric);
+		return scale <= 0 //
+				? Quantity.of(unscaled, metric)
+				: Quantity.of(BigDecimal.valueOf(unscaled, scale), metric);
 	}
 
 	/**
-	 * Tries to create a {@link Metric} from the given source and reports invalid attempts as {@link ParseException}
-	 * applying the given exception mapper.
+	 * Returns a {@link NumberFormat} for the given {@link Locale}, created by copying a cached instance as
+	 * {@link NumberFormat}s are not thread-safe.
 	 *
-	 * @param source the source value that symbolizes the {@link Metric}
-	 * @param index the index at which the metric part was
-	 * @return
-	 * @throws ParseException in case the creation of a {@link Metric} fails for the given source.
+	 * @param locale must not be {@literal null}.
+	 * @return will never be {@literal null}.
 	 */
-	private static Metric parseMetric(String source, Function<IllegalArgumentException, ParseException> exceptionMapper)
-			throws ParseException {
-
-		try {
-			return StringUtils.hasText(source) ? Metric.from(source) : Metric.UNIT;
-		} catch (IllegalArgumentException o_O) {
-			throw exceptionMapper.apply(o_O);
-		}
+	static NumberFormat getNumberFormat(Locale locale) {
+		return (NumberFormat) NUMBER_FORMATS.computeIfAbsent(locale, NumberFormat::getInstance).clone();
 	}
 }
@@ -18,17 +18,21 @@ package org.salespointframework.support;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 
+import java.math.BigDecimal;
 import java.util.Locale;
 
+import javax.money.Monetary;
 import javax.money.MonetaryAmount;
 import javax.money.format.MonetaryAmountFormat;
 import javax.money.format.MonetaryFormats;
 
 import org.javamoney.moneta.Money;
+import org.springframework.lang.Nullable;
 
 /**
  * JPA {@link AttributeConverter} to serialize {@link MonetaryAmount} instances into a {@link String}. Auto-applied to
- * all entity properties of type {@link MonetaryAmount}.
+ * all entity properties of type {@link MonetaryAmount}. To store amounts in numeric columns instead, map the property
+ * using {@link MonetaryAmountType}.
  *
  * @author Oliver Gierke
  */
@@ -57,6 +61,12 @@ class MonetaryAmountAttributeConverter implements AttributeConverter<MonetaryAmo
 			return null;
 		}
 
+		var result = parsePlain(source);
+
+		if (result != null) {
+			return result;
+		}
+
 		try {
 			return Money.parse(source);
 		} catch (RuntimeException e) {
@@ -70,4 +80,41 @@ class MonetaryAmountAttributeConverter implements AttributeConverter<MonetaryAmo
 			}
 		}
 	}
+
+	/**
+	 * Parses the given source in the format written by {@link #convertToDatabaseColumn(MonetaryAmount)}, i.e. the
+	 * currency code followed by a plain decimal number, without resorting to a {@link MonetaryAmountFormat}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return the parsed {@link MonetaryAmount} or {@literal null} in case the source is not in the expected format.
+	 */
+	@Nullable
+	static MonetaryAmount parsePlain(String source) {
+
+		var separator = source.indexOf(' ');
+
+		if (separator < 1 || separator == source.length() - 1) {
+			return null;
+		}
+
+		for (int i = separator + 1; i < source.length(); i++) {
+
+			var character = source.charAt(i);
+
+			if (!Character.isDigit(character) && character != '.' && character != '-' && character != '+'
+					&& character != 'E') {
+				return null;
+			}
+		}
+
+		try {
+
+			var currency = Monetary.getCurrency(source.substring(0, separator));
+
+			return Money.of(new BigDecimal(source.substring(separator + 1)), currency);
+
+		} catch (RuntimeException o_O) {
+			return null;
+		}
+	}
 }
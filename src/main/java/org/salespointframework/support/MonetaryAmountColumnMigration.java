@@ -0,0 +1,106 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.support;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.Assert;
+
+/**
+ * Migrates {@link javax.money.MonetaryAmount}s stored as {@link String} by the default mapping into the numeric amount
+ * and currency columns used by {@link MonetaryAmountType}. The target columns need to exist already, e.g. created by
+ * Hibernate's schema update, and only rows without an amount are migrated, so that the migration can be run
+ * repeatedly, e.g. on every application startup until the source column is dropped. Every distinct source value is
+ * parsed only once and written to all rows containing it using a single batch of updates.
+ *
+ * <pre>
+ * new MonetaryAmountColumnMigration(dataSource).migrate("PRODUCT", "PRICE", "PRICE_AMOUNT", "PRICE_CURRENCY");
+ * </pre>
+ *
+ * @since 8.1
+ */
+public class MonetaryAmountColumnMigration {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(MonetaryAmountColumnMigration.class);
+	private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+	private static final MonetaryAmountAttributeConverter CONVERTER = new MonetaryAmountAttributeConverter();
+
+	private final JdbcTemplate jdbc;
+
+	/**
+	 * Creates a new {@link MonetaryAmountColumnMigration} for the given {@link DataSource}.
+	 *
+	 * @param dataSource must not be {@literal null}.
+	 */
+	public MonetaryAmountColumnMigration(DataSource dataSource) {
+
+		Assert.notNull(dataSource, "DataSource must not be null!");
+
+		this.jdbc = new JdbcTemplate(dataSource);
+	}
+
+	/**
+	 * Migrates the values of the given source column of the given table into the given amount and currency columns.
+	 *
+	 * @param table the name of the table, must be a plain SQL identifier.
+	 * @param source the name of the column containing the {@link String}-based values, must be a plain SQL identifier.
+	 * @param amount the name of the numeric amount column, must be a plain SQL identifier.
+	 * @param currency the name of the currency code column, must be a plain SQL identifier.
+	 * @return the number of rows migrated.
+	 */
+	public int migrate(String table, String source, String amount, String currency) {
+
+		Arrays.asList(table, source, amount, currency).forEach(it -> {
+
+			Assert.hasText(it, "Table and column names must not be null or empty!");
+			Assert.isTrue(IDENTIFIER.matcher(it).matches(), () -> String.format("Invalid SQL identifier %s!", it));
+		});
+
+		var values = jdbc.queryForList(String.format("select distinct %s from %s where %s is not null and %s is null", //
+				source, table, source, amount), String.class);
+
+		if (values.isEmpty()) {
+			return 0;
+		}
+
+		var arguments = new ArrayList<Object[]>(values.size());
+
+		for (String value : values) {
+
+			var parsed = CONVERTER.convertToEntityAttribute(value);
+
+			arguments.add(new Object[] { parsed.getNumber().numberValue(BigDecimal.class),
+					parsed.getCurrency().getCurrencyCode(), value });
+		}
+
+		var updated = jdbc.batchUpdate(String.format("update %s set %s = ?, %s = ? where %s = ? and %s is null", //
+				table, amount, currency, source, amount), arguments);
+
+		var result = Arrays.stream(updated).map(it -> Math.max(it, 0)).sum();
+
+		LOGGER.info("Migrated {} monetary amounts of {}.{} into {} and {}.", result, table, source, amount, currency);
+
+		return result;
+	}
+}
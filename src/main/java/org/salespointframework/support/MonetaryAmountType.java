@@ -0,0 +1,171 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.support;
+
+import jakarta.persistence.Column;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+import javax.money.MonetaryAmount;
+
+import org.hibernate.annotations.CompositeType;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.spi.ValueAccess;
+import org.hibernate.usertype.CompositeUserType;
+import org.javamoney.moneta.Money;
+
+/**
+ * A Hibernate {@link CompositeUserType} to persist a {@link MonetaryAmount} into a {@code DECIMAL} column for the
+ * amount and a column for the currency code, so that amounts can be read without parsing and summed up, sorted or
+ * filtered by in queries. Opt in by annotating a property of type {@link MonetaryAmount} with
+ * {@code @CompositeType(MonetaryAmountType.class)}. The columns are named {@code AMOUNT} and {@code CURRENCY} by
+ * default, so that they usually need to be renamed using {@code @AttributeOverride}:
+ *
+ * <pre>
+ * &#64;CompositeType(MonetaryAmountType.class)
+ * &#64;AttributeOverride(name = "amount", column = &#64;Column(name = "PRICE_AMOUNT"))
+ * &#64;AttributeOverride(name = "currency", column = &#64;Column(name = "PRICE_CURRENCY"))
+ * private MonetaryAmount price;
+ * </pre>
+ *
+ * Existing columns written by the default, {@link String}-based mapping can be migrated using
+ * {@link MonetaryAmountColumnMigration}.
+ *
+ * @since 8.1
+ * @see CompositeType
+ */
+public class MonetaryAmountType implements CompositeUserType<MonetaryAmount> {
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.hibernate.usertype.CompositeUserType#getPropertyValue(java.lang.Object, int)
+	 */
+	@Override
+	public Object getPropertyValue(MonetaryAmount component, int property) {
+
+		// Properties of the embeddable in alphabetical order
+		return switch (property) {
+			case 0 -> component.getNumber().numberValue(BigDecimal.class);
+			case 1 -> component.getCurrency().getCurrencyCode();
+			default -> throw new IllegalArgumentException("Invalid property index " + property + "!");
+		};
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.hibernate.usertype.CompositeUserType#instantiate(org.hibernate.metamodel.spi.ValueAccess, org.hibernate.engine.spi.SessionFactoryImplementor)
+	 */
+	@Override
+	public MonetaryAmount instantiate(ValueAccess values, SessionFactoryImplementor sessionFactory) {
+
+		var amount = values.getValue(0, BigDecimal.class);
+		var currency = values.getValue(1, String.class);
+
+		return amount == null || currency == null ? null : Money.of(amount.stripTrailingZeros(), currency);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.hibernate.usertype.CompositeUserType#embeddable()
+	 */
+	@Override
+	public Class<?> embeddable() {
+		return MonetaryAmountColumns.class;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.hibernate.usertype.CompositeUserType#returnedClass()
+	 */
+	@Override
+	public Class<MonetaryAmount> returnedClass() {
+		return MonetaryAmount.class;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.hibernate.usertype.CompositeUserType#equals(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public boolean equals(MonetaryAmount left, MonetaryAmount right) {
+		return Objects.equals(left, right);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.hibernate.usertype.CompositeUserType#hashCode(java.lang.Object)
+	 */
+	@Override
+	public int hashCode(MonetaryAmount amount) {
+		return Objects.hashCode(amount);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.hibernate.usertype.CompositeUserType#deepCopy(java.lang.Object)
+	 */
+	@Override
+	public MonetaryAmount deepCopy(MonetaryAmount amount) {
+		return amount;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.hibernate.usertype.CompositeUserType#isMutable()
+	 */
+	@Override
+	public boolean isMutable() {
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.hibernate.usertype.CompositeUserType#disassemble(java.lang.Object)
+	 */
+	@Override
+	public Serializable disassemble(MonetaryAmount amount) {
+		return (Serializable) amount;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.hibernate.usertype.CompositeUserType#assemble(java.io.Serializable, java.lang.Object)
+	 */
+	@Override
+	public MonetaryAmount assemble(Serializable cached, Object owner) {
+		return (MonetaryAmount) cached;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.hibernate.usertype.CompositeUserType#replace(java.lang.Object, java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public MonetaryAmount replace(MonetaryAmount detached, MonetaryAmount managed, Object owner) {
+		return detached;
+	}
+
+	/**
+	 * The columns a {@link MonetaryAmount} is mapped to.
+	 */
+	static class MonetaryAmountColumns {
+
+		@Column(precision = 38, scale = 10) BigDecimal amount;
+		@Column(length = 3) String currency;
+	}
+}
@@ -15,41 +15,46 @@
  */
 package org.salespointframework.time;
 
+import java.time.DayOfWeek;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
 import java.time.temporal.TemporalAmount;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
 import java.util.Iterator;
-import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.UnaryOperator;
 
 import org.springframework.data.util.Streamable;
 import org.springframework.util.Assert;
 
 /**
- * Value object to represent a list o {@link Interval}s.
- * 
+ * Value object to represent a list o {@link Interval}s. The {@link Interval}s are calculated lazily on iteration, so
+ * that dividing long periods into small {@link Interval}s does not require them to be held in memory at once.
+ *
  * @author Oliver Gierke
  */
 public class Intervals implements Streamable<Interval> {
 
-	private final Iterable<Interval> intervals;
+	private final LocalDateTime start, end;
+	private final UnaryOperator<LocalDateTime> next;
 
 	/**
-	 * Creates a new {@link Intervals} instance with all {@link Interval}s of the given duration between the givne start
-	 * and end date.
-	 * 
+	 * Creates a new {@link Intervals} instance with all {@link Interval}s between the given start and end date, each of
+	 * them ending at the boundary calculated from its start by the given function.
+	 *
 	 * @param start must not be {@literal null}.
 	 * @param end must not be {@literal null}.
-	 * @param duration must not be {@literal null}.
+	 * @param next must not be {@literal null}.
 	 */
-	private Intervals(LocalDateTime start, LocalDateTime end, TemporalAmount duration) {
+	private Intervals(LocalDateTime start, LocalDateTime end, UnaryOperator<LocalDateTime> next) {
 
 		Assert.notNull(start, "Start date must not be null!");
 		Assert.notNull(end, "End date must not be null!");
-		Assert.notNull(duration, "Duration must not be null!");
+		Assert.notNull(next, "Next boundary function must not be null!");
 
-		this.intervals = getIntervals(start, end, duration);
+		this.start = start;
+		this.end = end;
+		this.next = next;
 	}
 
 	/**
@@ -64,30 +69,35 @@ public class Intervals implements Streamable<Interval> {
 		Assert.notNull(interval, "Interval must not be null!");
 		Assert.notNull(duration, "Duration must not be null!");
 
-		return new Intervals(interval.getStart(), interval.getEnd(), duration);
+		return new Intervals(interval.getStart(), interval.getEnd(), it -> it.plus(duration));
 	}
 
 	/**
-	 * Recursively builds up all {@link Interval}s of the given duration between the given start and end date.
-	 * 
-	 * @param start must not be {@literal null}.
-	 * @param end must not be {@literal null}.
-	 * @param duration must not be {@literal null}.
-	 * @return
+	 * Divides the given {@link Interval} into calendar-aligned intervals of the given unit, i.e. whole days starting at
+	 * midnight, ISO weeks starting on Monday or months starting on the first day of the month. The first and last
+	 * {@link Interval} are cut off at the start and end of the given {@link Interval} in case it doesn't start or end on
+	 * a boundary of the given unit.
+	 *
+	 * @param interval must not be {@literal null}.
+	 * @param unit must not be {@literal null}, one of {@link ChronoUnit#DAYS}, {@link ChronoUnit#WEEKS} or
+	 *          {@link ChronoUnit#MONTHS}.
+	 * @return will never be {@literal null}.
+	 * @since 8.1
 	 */
-	private static Collection<Interval> getIntervals(LocalDateTime start, LocalDateTime end, TemporalAmount duration) {
+	public static Intervals divide(Interval interval, ChronoUnit unit) {
 
-		LocalDateTime target = start.plus(duration);
-
-		if (!target.isBefore(end)) {
-			return Collections.singleton(Interval.from(start).to(end));
-		}
+		Assert.notNull(interval, "Interval must not be null!");
+		Assert.notNull(unit, "Unit must not be null!");
 
-		List<Interval> intervals = new ArrayList<>();
-		intervals.add(Interval.from(start).to(target));
-		intervals.addAll(getIntervals(target, end, duration));
+		UnaryOperator<LocalDateTime> next = switch (unit) {
+			case DAYS -> it -> it.toLocalDate().plusDays(1).atStartOfDay();
+			case WEEKS -> it -> it.toLocalDate().with(TemporalAdjusters.next(DayOfWeek.MONDAY)).atStartOfDay();
+			case MONTHS -> it -> it.toLocalDate().with(TemporalAdjusters.firstDayOfNextMonth()).atStartOfDay();
+			default -> throw new IllegalArgumentException(
+					String.format("Unsupported unit %s! Use one of days, weeks or months.", unit));
+		};
 
-		return Collections.unmodifiableList(intervals);
+		return new Intervals(interval.getStart(), interval.getEnd(), next);
 	}
 
 	/* 
@@ -96,6 +106,51 @@ public class Intervals implements Streamable<Interval> {
 	 */
 	@Override
 	public Iterator<Interval> iterator() {
-		return intervals.iterator();
+
+		return new Iterator<Interval>() {
+
+			private LocalDateTime current = start;
+			private boolean done = false;
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.Iterator#hasNext()
+			 */
+			@Override
+			public boolean hasNext() {
+				return !done;
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.Iterator#next()
+			 */
+			@Override
+			public Interval next() {
+
+				if (done) {
+					throw new NoSuchElementException();
+				}
+
+				var target = next.apply(current);
+
+				if (!target.isAfter(current)) {
+					throw new IllegalStateException(String.format("Interval boundary following %s must be after it!", current));
+				}
+
+				if (!target.isBefore(end)) {
+
+					done = true;
+
+					return Interval.from(current).to(end);
+				}
+
+				var result = Interval.from(current).to(target);
+
+				current = target;
+
+				return result;
+			}
+		};
 	}
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.salespointframework.SalespointProperties.IdentifierStrategy;
+import org.salespointframework.SalespointProperties.Identifiers;
+import org.salespointframework.core.IdentifierGenerator;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+/**
+ * Unit tests for {@link SalespointIdentifierConfigurer}.
+ */
+class SalespointIdentifierConfigurerUnitTests {
+
+	StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+
+	@AfterEach
+	void reset() {
+		IdentifierGenerator.use(IdentifierGenerator.RANDOM);
+	}
+
+	@Test
+	void usesRandomIdentifiersByDefault() {
+
+		configure(new Identifiers(null));
+
+		assertThat(UUID.fromString(IdentifierGenerator.next()).version()).isEqualTo(4);
+	}
+
+	@Test
+	void usesConfiguredIdentifierStrategy() {
+
+		configure(new Identifiers(IdentifierStrategy.TIME_ORDERED));
+
+		assertThat(UUID.fromString(IdentifierGenerator.next()).version()).isEqualTo(7);
+	}
+
+	@Test
+	void prefersIdentifierGeneratorBean() {
+
+		beanFactory.addBean("generator", (IdentifierGenerator) () -> "4711");
+
+		configure(new Identifiers(IdentifierStrategy.TIME_ORDERED));
+
+		assertThat(IdentifierGenerator.next()).isEqualTo("4711");
+	}
+
+	@Test
+	void restoresPreviousIdentifierGeneratorOnShutdown() {
+
+		IdentifierGenerator.use(() -> "previous");
+
+		var configurer = configure(new Identifiers(IdentifierStrategy.TIME_ORDERED));
+
+		assertThat(UUID.fromString(IdentifierGenerator.next()).version()).isEqualTo(7);
+
+		configurer.destroy();
+
+		assertThat(IdentifierGenerator.next()).isEqualTo("previous");
+	}
+
+	private SalespointIdentifierConfigurer configure(Identifiers identifiers) {
+
+		var properties = new SalespointProperties(null, identifiers);
+		var configurer = new SalespointIdentifierConfigurer(properties,
+				beanFactory.getBeanProvider(IdentifierGenerator.class));
+
+		configurer.afterPropertiesSet();
+
+		return configurer;
+	}
+}
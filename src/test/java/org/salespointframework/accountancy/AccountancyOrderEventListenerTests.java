@@ -80,4 +80,14 @@ class AccountancyOrderEventListenerTests extends AbstractIntegrationTests {
 				.reduce(ZERO_EURO, MonetaryAmount::add)//
 		).isEqualTo(ZERO_EURO);
 	}
+
+	@Test
+	void ignoresOtherEntriesOnOrderCancellation() {
+
+		accountancy.add(new AccountancyEntry(Money.of(10, EURO)));
+
+		listener.on(OrderCanceled.of(order, "Testing"));
+
+		assertThat(accountancy.findAll()).hasSize(1);
+	}
 }
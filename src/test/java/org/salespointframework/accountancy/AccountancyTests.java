@@ -15,18 +15,34 @@
  */
 package org.salespointframework.accountancy;
 
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
 
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+
+import org.hibernate.SessionFactory;
 import org.javamoney.moneta.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.salespointframework.accountancy.AccountancyRollup.Granularity;
 import org.salespointframework.core.Currencies;
 import org.salespointframework.order.Order;
 import org.salespointframework.payment.Cash;
+import org.salespointframework.time.BusinessTime.DayHasPassed;
+import org.salespointframework.time.BusinessTime.MonthHasPassed;
 import org.salespointframework.time.Interval;
 import org.salespointframework.useraccount.UserAccountManagement;
 import org.salespointframework.useraccount.UserAccountTestUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.modulith.test.ApplicationModuleTest;
 import org.springframework.modulith.test.ApplicationModuleTest.BootstrapMode;
 import org.springframework.transaction.annotation.Transactional;
@@ -37,6 +53,10 @@ class AccountancyTests {
 
 	@Autowired Accountancy accountancy;
 	@Autowired UserAccountManagement users;
+	@Autowired EntityManager em;
+	@Autowired AccountancyEntryRepository entries;
+	@Autowired AccountancyRollupRepository rollups;
+	@Autowired ApplicationEventPublisher events;
 
 	LocalDateTime from;
 	LocalDateTime to;
@@ -83,4 +103,270 @@ class AccountancyTests {
 		System.out.println("All entries:");
 		accountancy.find(Interval.from(from).to(to)).forEach(System.out::println);
 	}
+
+	@Test
+	void findsPaymentEntriesByOrder() {
+
+		var user = users.create("customer", UserAccountTestUtils.UNENCRYPTED_PASSWORD);
+		var order = new Order(user, Cash.CASH);
+
+		var revenue = accountancy.add(ProductPaymentEntry.of(order, "Payment"));
+
+		assertThat(accountancy.findPaymentEntries(order.getId())).containsExactly(revenue);
+		assertThat(accountancy.hasRevenue(order.getId())).isTrue();
+		assertThat(accountancy.hasRevenue(new Order(user, Cash.CASH).getId())).isFalse();
+
+		var rollback = accountancy.add(ProductPaymentEntry.rollback(order, "Rollback"));
+
+		assertThat(accountancy.findPaymentEntries(order.getId())).containsExactlyInAnyOrder(revenue, rollback);
+	}
+
+	@Test
+	void indexesOrderIdentifierOfPaymentEntries() {
+
+		var columns = em.createNativeQuery("select c.column_name from information_schema.index_columns c "
+				+ "where c.index_name = 'ACCOUNTANCY_ENTRY_ORDER_ID'") //
+				.getResultList();
+
+		assertThat(columns).extracting(it -> it.toString().toUpperCase()).containsExactly("ORDER_ID");
+	}
+
+	@Test
+	void computesSalesVolumePerIntervalWithASingleQuery() {
+
+		var start = LocalDateTime.of(2022, 1, 1, 0, 0);
+
+		addEntry(start.plusHours(1), 1);
+		addEntry(start.plusHours(5), 2);
+		addEntry(start.plusDays(2).plusHours(1), 4);
+		addEntry(start.plusDays(3).plusHours(1), 8);
+
+		em.flush();
+		em.clear();
+
+		var statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+
+		try {
+
+			var result = accountancy.salesVolume(Interval.from(start).to(start.plusDays(3)), Duration.ofDays(1));
+
+			assertThat(result.keySet()).containsExactly( //
+					Interval.from(start).to(start.plusDays(1)), //
+					Interval.from(start.plusDays(1)).to(start.plusDays(2)), //
+					Interval.from(start.plusDays(2)).to(start.plusDays(3)));
+			assertThat(result.values()).containsExactly( //
+					Money.of(3, Currencies.EURO), //
+					Money.of(0, Currencies.EURO), //
+					Money.of(4, Currencies.EURO));
+			assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+		} finally {
+			statistics.setStatisticsEnabled(false);
+		}
+	}
+
+	@Test
+	void assignsEntriesOnIntervalBoundariesToBothIntervals() {
+
+		var start = LocalDateTime.of(2022, 1, 1, 0, 0);
+
+		addEntry(start.plusDays(1), 1);
+
+		var interval = Interval.from(start).to(start.plusDays(2));
+
+		assertThat(accountancy.salesVolume(interval, Duration.ofDays(1)).values()) //
+				.containsExactly(Money.of(1, Currencies.EURO), Money.of(1, Currencies.EURO));
+		assertThat(accountancy.find(interval, Duration.ofDays(1)).values()) //
+				.allSatisfy(it -> assertThat(it).hasSize(1));
+	}
+
+	@Test
+	void computesSalesVolumePerCalendarMonth() {
+
+		var start = LocalDateTime.of(2022, 1, 15, 0, 0);
+
+		addEntry(start, 1);
+		addEntry(start.plusDays(20), 2);
+		addEntry(start.plusDays(25), 4);
+
+		var result = accountancy.salesVolume(Interval.from(start).to(start.plusMonths(1)), ChronoUnit.MONTHS);
+
+		assertThat(result).containsExactly( //
+				entry(Interval.from(start).to(LocalDateTime.of(2022, 2, 1, 0, 0)), Money.of(1, Currencies.EURO)), //
+				entry(Interval.from(LocalDateTime.of(2022, 2, 1, 0, 0)).to(start.plusMonths(1)), Money.of(6, Currencies.EURO)));
+	}
+
+	@Test
+	void doesNotTouchRollupsOfOpenPeriodsWhenAddingEntries() {
+
+		var start = LocalDateTime.of(2022, 1, 1, 0, 0);
+
+		addEntry(start.plusHours(1), 1);
+		addEntry(start.plusHours(5), 2);
+
+		assertThat(rollups.findByGranularityAndPeriod(Granularity.DAY, start.toLocalDate())).isEmpty();
+		assertThat(rollups.findByGranularityAndPeriod(Granularity.MONTH, start.toLocalDate())).isEmpty();
+	}
+
+	@Test
+	void addsEntriesDatedIntoSealedPeriodsToTheirRollups() {
+
+		var start = LocalDateTime.of(2022, 1, 1, 0, 0);
+
+		addEntry(start.plusHours(1), 1);
+
+		events.publishEvent(DayHasPassed.of(start.toLocalDate()));
+
+		addEntry(start.plusHours(5), 2);
+
+		assertThat(rollups.findByGranularityAndPeriod(Granularity.DAY, start.toLocalDate())) //
+				.extracting(AccountancyRollup::getAmount, AccountancyRollup::isSealed) //
+				.containsExactly(tuple(Money.of(3, Currencies.EURO), true));
+		assertThat(rollups.findByGranularityAndPeriod(Granularity.MONTH, start.toLocalDate())).isEmpty();
+	}
+
+	@Test
+	void servesPassedPeriodsFromSealedRollups() {
+
+		var start = LocalDateTime.of(2022, 1, 1, 0, 0);
+
+		addEntry(start.plusHours(1), 1);
+		addEntry(start.plusHours(5), 2);
+		addEntry(start.plusDays(2), 4);
+		addEntry(start.plusMonths(1), 8);
+
+		var from = start.toLocalDate();
+		var to = from.plusDays(2);
+
+		for (var day = from; !day.isAfter(to); day = day.plusDays(1)) {
+			events.publishEvent(DayHasPassed.of(day));
+		}
+
+		events.publishEvent(MonthHasPassed.of(YearMonth.of(2022, 1)));
+		events.publishEvent(MonthHasPassed.of(YearMonth.of(2022, 2)));
+
+		assertThat(accountancy.dailySalesVolume(from, to)).containsExactly( //
+				entry(from, Money.of(3, Currencies.EURO)), //
+				entry(from.plusDays(1), Money.of(0, Currencies.EURO)), //
+				entry(to, Money.of(4, Currencies.EURO)));
+
+		em.flush();
+		em.clear();
+
+		var statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+
+		try {
+
+			assertThat(accountancy.dailySalesVolume(from, to).values()).containsExactly( //
+					Money.of(3, Currencies.EURO), Money.of(0, Currencies.EURO), Money.of(4, Currencies.EURO));
+			assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+		} finally {
+			statistics.setStatisticsEnabled(false);
+		}
+
+		assertThat(accountancy.monthlySalesVolume(YearMonth.of(2022, 1), YearMonth.of(2022, 2))).containsExactly( //
+				entry(YearMonth.of(2022, 1), Money.of(7, Currencies.EURO)), //
+				entry(YearMonth.of(2022, 2), Money.of(8, Currencies.EURO)));
+	}
+
+	@Test
+	void sealsRollupsFromRawEntriesOnceTheDayHasPassed() {
+
+		var start = LocalDateTime.of(2022, 1, 1, 0, 0);
+
+		addEntry(start.plusHours(1), 1);
+
+		// Bypasses the accountancy
+		var entry = new AccountancyEntry(Money.of(2, Currencies.EURO));
+		entry.setDate(start.plusHours(2));
+		entries.save(entry);
+
+		events.publishEvent(DayHasPassed.of(start.toLocalDate()));
+		events.publishEvent(MonthHasPassed.of(YearMonth.from(start)));
+
+		assertThat(rollups.findByGranularityAndPeriod(Granularity.DAY, start.toLocalDate())) //
+				.extracting(AccountancyRollup::getAmount, AccountancyRollup::isSealed) //
+				.containsExactly(tuple(Money.of(3, Currencies.EURO), true));
+		assertThat(rollups.findByGranularityAndPeriod(Granularity.MONTH, start.toLocalDate())) //
+				.extracting(AccountancyRollup::getAmount, AccountancyRollup::isSealed) //
+				.containsExactly(tuple(Money.of(3, Currencies.EURO), true));
+	}
+
+	@Test
+	void doesNotCreateRollupsWhenReadingPassedPeriods() {
+
+		var start = LocalDateTime.of(2022, 1, 1, 0, 0);
+
+		addEntry(start.plusHours(1), 1);
+
+		assertThat(accountancy.dailySalesVolume(start.toLocalDate(), start.toLocalDate().plusDays(1))) //
+				.containsExactly( //
+						entry(start.toLocalDate(), Money.of(1, Currencies.EURO)), //
+						entry(start.toLocalDate().plusDays(1), Money.of(0, Currencies.EURO)));
+
+		assertThat(rollups.findByGranularityAndPeriod(Granularity.DAY, start.toLocalDate())).isEmpty();
+	}
+
+	@Test
+	void sealsPreviousDayAgainToPickUpEntriesCommittedLate() {
+
+		var start = LocalDateTime.of(2022, 1, 1, 0, 0);
+
+		addEntry(start.plusHours(1), 1);
+
+		events.publishEvent(DayHasPassed.of(start.toLocalDate()));
+
+		// Bypasses the accountancy, just like an entry committed after the day was sealed
+		var entry = new AccountancyEntry(Money.of(2, Currencies.EURO));
+		entry.setDate(start.plusHours(23));
+		entries.save(entry);
+
+		events.publishEvent(DayHasPassed.of(start.toLocalDate().plusDays(1)));
+
+		assertThat(rollups.findByGranularityAndPeriod(Granularity.DAY, start.toLocalDate())) //
+				.extracting(AccountancyRollup::getAmount, AccountancyRollup::isSealed) //
+				.containsExactly(tuple(Money.of(3, Currencies.EURO), true));
+	}
+
+	@Test
+	void computesSalesVolumePerCurrency() {
+
+		var start = LocalDateTime.of(2022, 1, 1, 0, 0);
+		var dollar = Monetary.getCurrency("USD");
+
+		addEntry(start.plusHours(1), 1);
+		addEntry(start.plusHours(2), Money.of(2, dollar));
+		addEntry(start.plusDays(1), Money.of(4, dollar));
+
+		events.publishEvent(DayHasPassed.of(start.toLocalDate()));
+
+		var from = start.toLocalDate();
+		var to = from.plusDays(1);
+
+		assertThat(accountancy.dailySalesVolumeByCurrency(from, to)).containsExactly( //
+				entry(from, Map.of(Currencies.EURO, Money.of(1, Currencies.EURO), dollar, Money.of(2, dollar))), //
+				entry(to, Map.of(dollar, Money.of(4, dollar))));
+		assertThat(accountancy.monthlySalesVolumeByCurrency(YearMonth.of(2022, 1), YearMonth.of(2022, 1))) //
+				.containsExactly(entry(YearMonth.of(2022, 1),
+						Map.of(Currencies.EURO, Money.of(1, Currencies.EURO), dollar, Money.of(6, dollar))));
+
+		assertThatIllegalStateException().isThrownBy(() -> accountancy.dailySalesVolume(from, to));
+	}
+
+	private void addEntry(LocalDateTime date, int amount) {
+		addEntry(date, Money.of(amount, Currencies.EURO));
+	}
+
+	private void addEntry(LocalDateTime date, MonetaryAmount amount) {
+
+		var entry = new AccountancyEntry(amount);
+		entry.setDate(date);
+
+		accountancy.add(entry);
+	}
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.accountancy;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+import org.salespointframework.TestSalespoint;
+import org.salespointframework.order.Order;
+import org.salespointframework.order.OrderEvents.OrderCanceled;
+import org.salespointframework.order.OrderEvents.OrderPaid;
+import org.salespointframework.order.OrderManagement;
+import org.salespointframework.payment.Cash;
+import org.salespointframework.useraccount.UserAccountManagement;
+import org.salespointframework.useraccount.UserAccountTestUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.annotation.DirtiesContext;
+
+/**
+ * Integration tests for {@link AsynchronousAccountancyOrderEventListener}. Deliberately not transactional so that the
+ * events are processed after the transactions publishing them have committed.
+ */
+@DirtiesContext
+@SpringBootTest(classes = TestSalespoint.class, webEnvironment = WebEnvironment.NONE,
+		properties = { "salespoint.accountancy.events.asynchronous=true",
+				"salespoint.accountancy.events.retry-interval=1s" })
+class AsynchronousAccountancyOrderEventListenerIntegrationTests {
+
+	@Autowired AsynchronousAccountancyOrderEventListener listener;
+	@Autowired OrderEventPublicationRepository publications;
+	@Autowired OrderManagement<Order> orders;
+	@Autowired UserAccountManagement users;
+	@Autowired Accountancy accountancy;
+	@Autowired ApplicationContext context;
+
+	@Test
+	void replacesSynchronousListener() {
+		assertThat(context.getBeanNamesForType(AccountancyOrderEventListener.class)).isEmpty();
+	}
+
+	@Test
+	void createsPaymentEntryAfterCommit() {
+
+		var order = orders.save(new Order(users.create("async", UserAccountTestUtils.UNENCRYPTED_PASSWORD), Cash.CASH));
+
+		orders.payOrder(order);
+
+		awaitUntil(() -> accountancy.findAll().stream() //
+				.map(ProductPaymentEntry.class::cast) //
+				.anyMatch(it -> it.belongsTo(order)));
+
+		awaitUntil(() -> publications.findAll().stream() //
+				.filter(it -> it.getOrderIdentifier().equals(order.getId())) //
+				.allMatch(OrderEventPublication::isCompleted));
+	}
+
+	@Test
+	void processesPublicationsOfAnOrderInPublicationOrder() {
+
+		var order = orders.save(new Order(users.create("ordered", UserAccountTestUtils.UNENCRYPTED_PASSWORD), Cash.CASH));
+
+		// Recorded without being submitted so that both are pending when processing starts
+		publications.save(OrderEventPublication.of(OrderPaid.of(order)));
+		publications.save(OrderEventPublication.of(OrderCanceled.of(order, "Changed my mind")));
+
+		listener.resubmitIncompletePublications();
+
+		awaitUntil(() -> publications.findByOrderIdentifierAndCompletionDateIsNullOrderBySequenceNumber(order.getId())
+				.isEmpty());
+
+		// Revenue was found by the cancellation and rolled back
+		assertThat(accountancy.findAll().stream() //
+				.map(ProductPaymentEntry.class::cast) //
+				.filter(it -> it.belongsTo(order))).hasSize(2);
+	}
+
+	@Test
+	void resubmitsIncompletePublications() {
+
+		var order = orders.save(new Order(users.create("restart", UserAccountTestUtils.UNENCRYPTED_PASSWORD), Cash.CASH));
+
+		// Recorded without being submitted as if the application had been stopped before processing it
+		var publication = publications.save(OrderEventPublication.of(OrderPaid.of(order)));
+
+		assertThat(publications.findByCompletionDateIsNullOrderBySequenceNumber()).contains(publication);
+
+		listener.resubmitIncompletePublications();
+
+		awaitUntil(() -> publications.findById(publication.getId()) //
+				.filter(OrderEventPublication::isCompleted) //
+				.isPresent());
+
+		assertThat(accountancy.findAll().stream() //
+				.map(ProductPaymentEntry.class::cast) //
+				.filter(it -> it.belongsTo(order))).hasSize(1);
+	}
+
+	@Test
+	void periodicallyRetriesIncompletePublications() {
+
+		var order = orders.save(new Order(users.create("retry", UserAccountTestUtils.UNENCRYPTED_PASSWORD), Cash.CASH));
+
+		// Recorded without being submitted as if its processing had failed before
+		var publication = publications.save(OrderEventPublication.of(OrderPaid.of(order)));
+
+		awaitUntil(() -> publications.findById(publication.getId()) //
+				.filter(OrderEventPublication::isCompleted) //
+				.isPresent());
+	}
+
+	private static void awaitUntil(BooleanSupplier condition) {
+
+		var timeout = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+
+		while (!condition.getAsBoolean()) {
+
+			assertThat(System.nanoTime()).as("Condition not met in time!").isLessThan(timeout);
+
+			try {
+				Thread.sleep(20);
+			} catch (InterruptedException o_O) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link IdentifierGenerator}.
+ */
+class IdentifierGeneratorUnitTests {
+
+	@AfterEach
+	void reset() {
+		IdentifierGenerator.use(IdentifierGenerator.RANDOM);
+	}
+
+	@Test
+	void createsVersionSevenUuids() {
+
+		var uuid = UUID.fromString(IdentifierGenerator.TIME_ORDERED.generate());
+
+		assertThat(uuid.version()).isEqualTo(7);
+		assertThat(uuid.variant()).isEqualTo(2);
+		assertThat(uuid.getMostSignificantBits() >>> 16) //
+				.isCloseTo(System.currentTimeMillis(), within(1000L));
+	}
+
+	@Test
+	void createsIdentifiersOrderedByTimeOfCreation() {
+
+		var identifiers = new ArrayList<String>();
+
+		// Many more than can be created in distinct milliseconds, also exceeding a single counter range
+		for (int i = 0; i < 10_000; i++) {
+			identifiers.add(IdentifierGenerator.TIME_ORDERED.generate());
+		}
+
+		assertThat(identifiers).isSorted().doesNotHaveDuplicates();
+		assertThat(identifiers).allSatisfy(it -> assertThat(UUID.fromString(it).version()).isEqualTo(7));
+	}
+
+	@Test
+	void usesConfiguredGeneratorForNewIdentifiers() {
+
+		assertThat(UUID.fromString(IdentifierGenerator.next()).version()).isEqualTo(4);
+
+		IdentifierGenerator.use(() -> "4711");
+
+		assertThat(IdentifierGenerator.next()).isEqualTo("4711");
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.inventory;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.Test;
+import org.salespointframework.TestSalespoint;
+import org.salespointframework.catalog.Catalog;
+import org.salespointframework.catalog.Product;
+import org.salespointframework.core.Currencies;
+import org.salespointframework.order.Order;
+import org.salespointframework.order.OrderCompletionReport;
+import org.salespointframework.order.OrderCompletionReport.CompletionStatus;
+import org.salespointframework.order.OrderManagement;
+import org.salespointframework.order.OrderStatus;
+import org.salespointframework.order.OrderSummary;
+import org.salespointframework.payment.Cash;
+import org.salespointframework.quantity.Quantity;
+import org.salespointframework.useraccount.UserAccountManagement;
+import org.salespointframework.useraccount.UserAccountTestUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.annotation.DirtiesContext;
+
+/**
+ * Integration tests to verify that completing {@link Order}s in bulk commits the successful completions and leaves
+ * the stock and summaries untouched for the failed ones. Deliberately not transactional so that the batch runs in a
+ * transaction of its own.
+ */
+@DirtiesContext
+@SpringBootTest(classes = TestSalespoint.class, webEnvironment = WebEnvironment.NONE)
+class BatchOrderCompletionIntegrationTests {
+
+	@Autowired OrderManagement<Order> orders;
+	@Autowired Catalog<Product> catalog;
+	@Autowired UniqueInventory<UniqueInventoryItem> inventory;
+	@Autowired UserAccountManagement users;
+
+	@Test
+	void commitsSuccessfulCompletionsAndRestoresStockForFailedOnes() {
+
+		var first = catalog.save(new Product("First", Money.of(10, Currencies.EURO)));
+		var second = catalog.save(new Product("Second", Money.of(10, Currencies.EURO)));
+
+		inventory.save(new UniqueInventoryItem(first, Quantity.of(10)));
+		inventory.save(new UniqueInventoryItem(second, Quantity.of(5)));
+
+		var user = users.create("batch", UserAccountTestUtils.UNENCRYPTED_PASSWORD);
+
+		var sufficient = new Order(user, Cash.CASH);
+		sufficient.addOrderLine(first, Quantity.of(2));
+		sufficient.addOrderLine(second, Quantity.of(2));
+
+		// Deducts the stock for the first product before failing for the second one
+		var insufficient = new Order(user, Cash.CASH);
+		insufficient.addOrderLine(first, Quantity.of(2));
+		insufficient.addOrderLine(second, Quantity.of(5));
+
+		orders.save(sufficient);
+		orders.save(insufficient);
+		orders.payOrders(List.of(sufficient, insufficient));
+
+		var reports = orders.completeOrders(List.of(sufficient, insufficient));
+
+		assertThat(reports).extracting(OrderCompletionReport::getStatus) //
+				.containsExactly(CompletionStatus.SUCCEEDED, CompletionStatus.FAILED);
+
+		assertThat(orders.findBy(OrderStatus.COMPLETED)).containsExactly(sufficient);
+		assertThat(orders.findBy(OrderStatus.PAID)).containsExactly(insufficient);
+		assertThat(orders.findSummaries(Pageable.unpaged())) //
+				.extracting(OrderSummary::getId, OrderSummary::getOrderStatus) //
+				.containsExactlyInAnyOrder(tuple(sufficient.getId(), OrderStatus.COMPLETED),
+						tuple(insufficient.getId(), OrderStatus.PAID));
+		assertThat(inventory.findByProduct(first)) //
+				.hasValueSatisfying(it -> assertThat(it.getQuantity()).isEqualTo(Quantity.of(8)));
+		assertThat(inventory.findByProduct(second)) //
+				.hasValueSatisfying(it -> assertThat(it.getQuantity()).isEqualTo(Quantity.of(3)));
+	}
+}
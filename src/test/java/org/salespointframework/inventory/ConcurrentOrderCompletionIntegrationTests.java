@@ -0,0 +1,120 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.inventory;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.Test;
+import org.salespointframework.TestSalespoint;
+import org.salespointframework.catalog.Catalog;
+import org.salespointframework.catalog.Product;
+import org.salespointframework.core.Currencies;
+import org.salespointframework.order.Order;
+import org.salespointframework.order.OrderCompletionFailure;
+import org.salespointframework.order.OrderManagement;
+import org.salespointframework.order.OrderStatus;
+import org.salespointframework.payment.Cash;
+import org.salespointframework.quantity.Quantity;
+import org.salespointframework.useraccount.UserAccountManagement;
+import org.salespointframework.useraccount.UserAccountTestUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.test.annotation.DirtiesContext;
+
+/**
+ * Integration tests to verify that concurrent order completions do not oversell the stock of a
+ * {@link UniqueInventoryItem}. Deliberately not transactional so that every completion runs in a transaction of its
+ * own.
+ */
+@DirtiesContext
+@SpringBootTest(classes = TestSalespoint.class, webEnvironment = WebEnvironment.NONE)
+class ConcurrentOrderCompletionIntegrationTests {
+
+	static final int THREADS = 64;
+	static final int STOCK = 50;
+
+	@Autowired OrderManagement<Order> orders;
+	@Autowired Catalog<Product> catalog;
+	@Autowired UniqueInventory<UniqueInventoryItem> inventory;
+	@Autowired UserAccountManagement users;
+
+	@Test
+	void doesNotOversellForConcurrentOrderCompletions() throws Exception {
+
+		var product = catalog.save(new Product("Limited edition", Money.of(10, Currencies.EURO)));
+		inventory.save(new UniqueInventoryItem(product, Quantity.of(STOCK)));
+
+		var user = users.create("buyer", UserAccountTestUtils.UNENCRYPTED_PASSWORD);
+
+		var paidOrders = IntStream.range(0, THREADS).mapToObj(__ -> {
+
+			var order = new Order(user, Cash.CASH);
+			order.addOrderLine(product, Quantity.of(1));
+
+			orders.save(order);
+			orders.payOrder(order);
+
+			return order;
+
+		}).toList();
+
+		var executor = Executors.newFixedThreadPool(THREADS);
+		var start = new CountDownLatch(1);
+		var results = new ArrayList<Future<Boolean>>();
+
+		try {
+
+			for (var order : paidOrders) {
+				results.add(executor.submit(() -> {
+
+					start.await();
+
+					try {
+						orders.completeOrder(order);
+						return true;
+					} catch (OrderCompletionFailure o_O) {
+						return false;
+					}
+				}));
+			}
+
+			start.countDown();
+
+			var completions = 0;
+
+			for (var result : results) {
+				completions += result.get(1, TimeUnit.MINUTES) ? 1 : 0;
+			}
+
+			assertThat(completions).isEqualTo(STOCK);
+			assertThat(orders.findBy(OrderStatus.COMPLETED)).hasSize(STOCK);
+			assertThat(inventory.findByProduct(product)) //
+					.hasValueSatisfying(it -> assertThat(it.getQuantity()).isEqualTo(Quantity.of(0)));
+
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
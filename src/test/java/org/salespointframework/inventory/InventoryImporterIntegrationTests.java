@@ -0,0 +1,125 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.inventory;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.salespointframework.catalog.Catalog;
+import org.salespointframework.catalog.Cookie;
+import org.salespointframework.catalog.Product;
+import org.salespointframework.core.Currencies;
+import org.salespointframework.quantity.Quantity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.modulith.test.ApplicationModuleTest;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link InventoryImporter}.
+ */
+@Transactional
+@ApplicationModuleTest(extraIncludes = "org.salespointframework.catalog")
+class InventoryImporterIntegrationTests {
+
+	@Autowired InventoryImporter importer;
+	@Autowired UniqueInventory<UniqueInventoryItem> unique;
+	@Autowired MultiInventory<MultiInventoryItem> multiple;
+	@Autowired Catalog<Product> catalog;
+	@Autowired EntityManager em;
+
+	Cookie cookie;
+
+	@BeforeEach
+	void setUp() {
+		cookie = catalog.save(new Cookie("Cookie", Currencies.ZERO_EURO));
+	}
+
+	@Test
+	void importsItemsVerifyingThemWithASingleQueryPerChunk() {
+
+		var items = IntStream.range(0, 3) //
+				.mapToObj(it -> catalog.save(new Cookie("Cookie " + it, Currencies.ZERO_EURO))) //
+				.map(it -> new UniqueInventoryItem(it, Quantity.of(10))) //
+				.toList();
+
+		em.flush();
+
+		var statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+
+		try {
+
+			assertThat(importer.importAll(items)).containsExactlyElementsOf(items);
+			assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+			assertThat(statistics.getEntityInsertCount()).isEqualTo(3);
+
+		} finally {
+			statistics.setStatisticsEnabled(false);
+		}
+
+		assertThat(unique.findByProductIdentifierIn(items.stream().map(it -> it.getProduct().getId()).toList()))
+				.hasSize(3);
+	}
+
+	@Test
+	void rejectsUniqueItemForProductAlreadyManaged() {
+
+		unique.save(new UniqueInventoryItem(cookie, Quantity.of(10)));
+
+		assertThatIllegalStateException() //
+				.isThrownBy(() -> importer.importAll(List.of(new UniqueInventoryItem(cookie, Quantity.of(5)))));
+		assertThatIllegalStateException() //
+				.isThrownBy(() -> importer.importAll(List.of(new MultiInventoryItem(cookie, Quantity.of(5)))));
+	}
+
+	@Test
+	void rejectsUniqueItemForProductManagedByMultiItems() {
+
+		multiple.save(new MultiInventoryItem(cookie, Quantity.of(10)));
+
+		assertThatIllegalStateException() //
+				.isThrownBy(() -> importer.importAll(List.of(new UniqueInventoryItem(cookie, Quantity.of(5)))));
+	}
+
+	@Test
+	void rejectsConflictingItemsWithinTheImport() {
+
+		assertThatIllegalStateException() //
+				.isThrownBy(() -> importer.importAll(List.of( //
+						new MultiInventoryItem(cookie, Quantity.of(5)), //
+						new UniqueInventoryItem(cookie, Quantity.of(5)))));
+	}
+
+	@Test
+	void importsMultipleMultiItemsForTheSameProduct() {
+
+		multiple.save(new MultiInventoryItem(cookie, Quantity.of(10)));
+
+		importer.importAll(List.of( //
+				new MultiInventoryItem(cookie, Quantity.of(5)), //
+				new MultiInventoryItem(cookie, Quantity.of(5))));
+
+		assertThat(multiple.findByProductIdentifier(cookie.getId()).getTotalQuantity()).isEqualTo(Quantity.of(20));
+	}
+}
@@ -50,6 +50,7 @@ class InventoryOrderEventListenerTests extends AbstractIntegrationTests {
 	@Autowired UserAccountManagement users;
 	@Autowired Catalog<Product> products;
 	@Autowired UniqueInventory<UniqueInventoryItem> inventory;
+	@Autowired MultiInventory<MultiInventoryItem> multiInventory;
 
 	Product iPad, iPadToFilter, macBook;
 
@@ -91,6 +92,28 @@ class InventoryOrderEventListenerTests extends AbstractIntegrationTests {
 				.isThrownBy(() -> listener.on(OrderCompleted.of(order)));
 	}
 
+	@Test
+	void updatesStockForAllOrderLines() {
+
+		var user = users.create("username", UserAccountTestUtils.UNENCRYPTED_PASSWORD);
+		var iPhone = products.save(new Product("iPhone", Money.of(799, Currencies.EURO)));
+
+		multiInventory.save(new MultiInventoryItem(iPhone, Quantity.of(5)));
+
+		var order = new Cart().createOrderFor(user);
+		order.addOrderLine(iPad, Quantity.of(2));
+		order.addOrderLine(macBook, Quantity.of(1));
+		order.addOrderLine(iPad, Quantity.of(3));
+		order.addOrderLine(iPhone, Quantity.of(1));
+		order.addOrderLine(iPadToFilter, Quantity.of(1));
+
+		listener.on(OrderCompleted.of(order));
+
+		assertThat(inventory.findByProduct(iPad).map(UniqueInventoryItem::getQuantity)).hasValue(Quantity.of(5));
+		assertThat(inventory.findByProduct(macBook).map(UniqueInventoryItem::getQuantity)).hasValue(Quantity.of(0));
+		assertThat(multiInventory.findByProduct(iPhone).getTotalQuantity()).isEqualTo(Quantity.of(5));
+	}
+
 	@Test // #230
 	void restocksForCanceledOrder() {
 
@@ -108,4 +131,26 @@ class InventoryOrderEventListenerTests extends AbstractIntegrationTests {
 				.map(UniqueInventoryItem::getQuantity) //
 		).hasValue(Quantity.of(11));
 	}
+
+	@Test
+	void restocksForCanceledOrderWithoutOverwritingConcurrentDecreases() {
+
+		var user = users.create("username", UserAccountTestUtils.UNENCRYPTED_PASSWORD);
+
+		var cart = new Cart();
+		cart.addOrUpdateItem(iPad, 1);
+
+		var order = spy(cart.createOrderFor(user));
+		when(order.isCanceled()).thenReturn(true);
+
+		// Loads the item before it's decreased in the database directly, as a concurrent completion would do
+		assertThat(inventory.findByProduct(iPad).map(UniqueInventoryItem::getQuantity)).hasValue(Quantity.of(10));
+		assertThat(inventory.decreaseQuantityIfSufficient(iPad.getId(), Quantity.of(2).getAmount())).isEqualTo(1);
+
+		listener.on(OrderCanceled.of(order, "No reason!"));
+
+		assertThat(inventory.findByProduct(iPad) //
+				.map(UniqueInventoryItem::getQuantity) //
+		).hasValue(Quantity.of(9));
+	}
 }
@@ -23,6 +23,7 @@ import static org.hamcrest.junit.MatcherAssert.assertThat;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceException;
 
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -169,6 +170,22 @@ class InventoryTests {
 		assertThat(items.getTotalQuantity()).isEqualTo(Quantity.of(8));
 	}
 
+	@Test
+	void looksUpInventoryItemsForMultipleProducts() {
+
+		var otherCookie = catalog.save(new Cookie("Other cookie", Money.of(3, Currencies.EURO)));
+		var yetAnotherCookie = catalog.save(new Cookie("Yet another cookie", Money.of(3, Currencies.EURO)));
+
+		var otherItem = unique.save(new UniqueInventoryItem(otherCookie, Quantity.of(5)));
+		var first = multiple.save(new MultiInventoryItem(yetAnotherCookie, Quantity.of(5)));
+		var second = multiple.save(new MultiInventoryItem(yetAnotherCookie, Quantity.of(3)));
+
+		var identifiers = List.of(cookie.getId(), otherCookie.getId(), yetAnotherCookie.getId());
+
+		assertThat(unique.findByProductIdentifierIn(identifiers)).containsExactlyInAnyOrder(item, otherItem);
+		assertThat(multiple.findByProductIdentifierIn(identifiers)).containsExactlyInAnyOrder(first, second);
+	}
+
 	@Test // #163
 	void rejectsNewUniqueInventoryItemForAlreadyExistingUniqueInventoryItem() {
 
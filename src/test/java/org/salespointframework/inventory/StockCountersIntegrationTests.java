@@ -0,0 +1,149 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.inventory;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.salespointframework.TestSalespoint;
+import org.salespointframework.catalog.Catalog;
+import org.salespointframework.catalog.Product;
+import org.salespointframework.core.Currencies;
+import org.salespointframework.order.Order;
+import org.salespointframework.order.OrderCompletionFailure;
+import org.salespointframework.order.OrderManagement;
+import org.salespointframework.payment.Cash;
+import org.salespointframework.quantity.Quantity;
+import org.salespointframework.useraccount.UserAccount;
+import org.salespointframework.useraccount.UserAccountManagement;
+import org.salespointframework.useraccount.UserAccountTestUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.test.annotation.DirtiesContext;
+
+/**
+ * Integration tests for {@link StockCounters}. Deliberately not transactional so that completions and flushes run in
+ * transactions of their own. The periodic flush is effectively disabled so that the tests control when it happens.
+ */
+@DirtiesContext
+@SpringBootTest(classes = TestSalespoint.class, webEnvironment = WebEnvironment.NONE,
+		properties = "salespoint.inventory.write-behind.flush-interval=PT1H")
+class StockCountersIntegrationTests {
+
+	@Autowired StockCounters counters;
+	@Autowired OrderManagement<Order> orders;
+	@Autowired Catalog<Product> catalog;
+	@Autowired UniqueInventory<UniqueInventoryItem> inventory;
+	@Autowired UserAccountManagement users;
+
+	Product product;
+	UserAccount user;
+
+	@BeforeEach
+	void setUp() {
+
+		product = catalog.save(new Product("Drop", Money.of(10, Currencies.EURO)));
+		inventory.save(new UniqueInventoryItem(product, Quantity.of(10)));
+
+		user = users.findByUsername("counters")
+				.orElseGet(() -> users.create("counters", UserAccountTestUtils.UNENCRYPTED_PASSWORD));
+
+		counters.activate(product.getId());
+	}
+
+	@Test
+	void decreasesCounterOnCompletionAndWritesItBehind() {
+
+		orders.completeOrder(paidOrder(3));
+
+		assertThat(counters.getQuantity(product.getId())).hasValue(Quantity.of(7));
+		assertThat(persistedStock()).isEqualTo(Quantity.of(10));
+
+		counters.flush();
+
+		assertThat(persistedStock()).isEqualTo(Quantity.of(7));
+	}
+
+	@Test
+	void rejectsCompletionExceedingTheCounter() {
+
+		orders.completeOrder(paidOrder(8));
+
+		assertThatExceptionOfType(OrderCompletionFailure.class) //
+				.isThrownBy(() -> orders.completeOrder(paidOrder(3)));
+
+		assertThat(counters.getQuantity(product.getId())).hasValue(Quantity.of(2));
+	}
+
+	@Test
+	void restoresCounterForCanceledOrders() {
+
+		var order = paidOrder(3);
+
+		orders.completeOrder(order);
+		orders.cancelOrder(order, "Changed my mind");
+
+		assertThat(counters.getQuantity(product.getId())).hasValue(Quantity.of(10));
+	}
+
+	@Test
+	void picksUpChangesAppliedToTheInventoryItemOnFlush() {
+
+		orders.completeOrder(paidOrder(3));
+
+		inventory.findByProduct(product) //
+				.map(it -> it.increaseQuantity(Quantity.of(5))) //
+				.ifPresent(inventory::save);
+
+		counters.flush();
+
+		assertThat(counters.getQuantity(product.getId())).hasValue(Quantity.of(12));
+		assertThat(persistedStock()).isEqualTo(Quantity.of(12));
+	}
+
+	@Test
+	void recoversCounterFromDatabaseAfterDeactivation() {
+
+		orders.completeOrder(paidOrder(4));
+
+		counters.deactivate(product.getId());
+
+		assertThat(counters.isActive(product.getId())).isFalse();
+		assertThat(persistedStock()).isEqualTo(Quantity.of(6));
+
+		counters.activate(product.getId());
+
+		assertThat(counters.getQuantity(product.getId())).hasValue(Quantity.of(6));
+	}
+
+	private Order paidOrder(long quantity) {
+
+		var order = new Order(user, Cash.CASH);
+		order.addOrderLine(product, Quantity.of(quantity));
+
+		orders.save(order);
+		orders.payOrder(order);
+
+		return order;
+	}
+
+	private Quantity persistedStock() {
+		return inventory.findByProduct(product).map(InventoryItem::getQuantity).orElseThrow();
+	}
+}
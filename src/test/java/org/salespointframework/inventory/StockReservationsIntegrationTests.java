@@ -0,0 +1,229 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.inventory;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.salespointframework.TestSalespoint;
+import org.salespointframework.catalog.Catalog;
+import org.salespointframework.catalog.Product;
+import org.salespointframework.core.Currencies;
+import org.salespointframework.inventory.InventoryListeners.StockReservationListener;
+import org.salespointframework.order.Order;
+import org.salespointframework.order.OrderCompletionFailure;
+import org.salespointframework.order.OrderManagement;
+import org.salespointframework.payment.Cash;
+import org.salespointframework.quantity.Quantity;
+import org.salespointframework.time.BusinessTime;
+import org.salespointframework.useraccount.UserAccount;
+import org.salespointframework.useraccount.UserAccountManagement;
+import org.salespointframework.useraccount.UserAccountTestUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.test.annotation.DirtiesContext;
+
+/**
+ * Integration tests for {@link StockReservations}. Deliberately not transactional so that reservations are made and
+ * converted in transactions of their own.
+ */
+@DirtiesContext
+@SpringBootTest(classes = TestSalespoint.class, webEnvironment = WebEnvironment.NONE,
+		properties = "salespoint.inventory.reservations.enabled=true")
+class StockReservationsIntegrationTests {
+
+	@Autowired StockReservations reservations;
+	@Autowired StockReservationListener listener;
+	@Autowired StockReservationRepository repository;
+	@Autowired StockCounters counters;
+	@Autowired OrderManagement<Order> orders;
+	@Autowired Catalog<Product> catalog;
+	@Autowired UniqueInventory<UniqueInventoryItem> inventory;
+	@Autowired UserAccountManagement users;
+	@Autowired BusinessTime businessTime;
+
+	Product product;
+	UserAccount user;
+
+	@BeforeEach
+	void setUp() {
+
+		product = catalog.save(new Product("Product", Money.of(10, Currencies.EURO)));
+		inventory.save(new UniqueInventoryItem(product, Quantity.of(10)));
+
+		user = users.findByUsername("reservations")
+				.orElseGet(() -> users.create("reservations", UserAccountTestUtils.UNENCRYPTED_PASSWORD));
+	}
+
+	@AfterEach
+	void tearDown() {
+		businessTime.reset();
+	}
+
+	@Test
+	void reservesStockForPaidOrdersAndConvertsItOnCompletion() {
+
+		var order = paidOrder(6);
+
+		assertThat(reservations.getReservedQuantity(product.getId())).isEqualTo(Quantity.of(6));
+		assertThat(reservations.getAvailableToPromise(product.getId())).hasValue(Quantity.of(4));
+
+		orders.completeOrder(order);
+
+		assertThat(reservations.getReservedQuantity(product.getId())).isEqualTo(Quantity.NONE);
+		assertThat(reservations.getAvailableToPromise(product.getId())).hasValue(Quantity.of(4));
+		assertThat(inventory.findByProduct(product)) //
+				.hasValueSatisfying(it -> assertThat(it.getQuantity()).isEqualTo(Quantity.of(4)));
+	}
+
+	@Test
+	void rejectsPaymentIfStockAvailableToPromiseIsInsufficient() {
+
+		paidOrder(6);
+
+		var order = new Order(user, Cash.CASH);
+		order.addOrderLine(product, Quantity.of(5));
+		orders.save(order);
+
+		assertThatExceptionOfType(StockReservationFailure.class) //
+				.isThrownBy(() -> orders.payOrder(order));
+
+		assertThat(order.isPaid()).isFalse();
+		assertThat(orders.get(order.getId())).hasValueSatisfying(it -> assertThat(it.isPaid()).isFalse());
+		assertThat(reservations.getReservedQuantity(product.getId())).isEqualTo(Quantity.of(6));
+	}
+
+	@Test
+	void paysOrdersInBulkSkippingTheOnesWithInsufficientStock() {
+
+		var sufficient = new Order(user, Cash.CASH);
+		sufficient.addOrderLine(product, Quantity.of(6));
+
+		var insufficient = new Order(user, Cash.CASH);
+		insufficient.addOrderLine(product, Quantity.of(5));
+
+		var other = new Order(user, Cash.CASH);
+		other.addOrderLine(product, Quantity.of(4));
+
+		orders.save(sufficient);
+		orders.save(insufficient);
+		orders.save(other);
+
+		assertThat(orders.payOrders(List.of(sufficient, insufficient, other))).containsExactly(sufficient, other);
+
+		assertThat(insufficient.isPaid()).isFalse();
+		assertThat(orders.get(insufficient.getId())).hasValueSatisfying(it -> assertThat(it.isPaid()).isFalse());
+		assertThat(orders.get(other.getId())).hasValueSatisfying(it -> assertThat(it.isPaid()).isTrue());
+		assertThat(reservations.getReservedQuantity(product.getId())).isEqualTo(Quantity.of(10));
+	}
+
+	@Test
+	void doesNotReserveStockForProductsWithActiveCounter() {
+
+		counters.activate(product.getId());
+
+		try {
+
+			var order = paidOrder(6);
+
+			assertThat(order.isPaid()).isTrue();
+			assertThat(reservations.getReservedQuantity(product.getId())).isEqualTo(Quantity.NONE);
+			assertThat(reservations.getAvailableToPromise(product.getId())).hasValue(Quantity.of(10));
+
+			orders.completeOrder(order);
+
+			assertThat(reservations.getAvailableToPromise(product.getId())).hasValue(Quantity.of(4));
+
+		} finally {
+			counters.deactivate(product.getId());
+		}
+	}
+
+	@Test
+	void releasesReservationsForCanceledOrders() {
+
+		var order = paidOrder(6);
+
+		orders.cancelOrder(order, "Changed my mind");
+
+		assertThat(reservations.getReservedQuantity(product.getId())).isEqualTo(Quantity.NONE);
+	}
+
+	@Test
+	void releasesExpiredReservations() {
+
+		paidOrder(6);
+
+		businessTime.forward(Duration.ofMinutes(16));
+
+		assertThat(reservations.getReservedQuantity(product.getId())).isEqualTo(Quantity.NONE);
+		assertThat(reservations.getAvailableToPromise(product.getId())).hasValue(Quantity.of(10));
+
+		listener.releaseExpiredReservations();
+
+		businessTime.reset();
+
+		assertThat(reservations.getReservedQuantity(product.getId())).isEqualTo(Quantity.NONE);
+	}
+
+	@Test
+	void removesExpiredReservationsOfProductsReservedAgain() {
+
+		paidOrder(6);
+
+		businessTime.forward(Duration.ofMinutes(16));
+
+		var order = paidOrder(2);
+
+		assertThat(repository.findAll().stream().filter(it -> it.getProduct().equals(product.getId()))) //
+				.singleElement() //
+				.satisfies(it -> assertThat(it.getOrder()).isEqualTo(order.getId()));
+	}
+
+	@Test
+	void unreservedCompletionsRespectReservationsOfOtherOrders() {
+
+		var expired = paidOrder(4);
+
+		businessTime.forward(Duration.ofMinutes(16));
+
+		paidOrder(7);
+
+		assertThatExceptionOfType(OrderCompletionFailure.class) //
+				.isThrownBy(() -> orders.completeOrder(expired));
+
+		assertThat(inventory.findByProduct(product)) //
+				.hasValueSatisfying(it -> assertThat(it.getQuantity()).isEqualTo(Quantity.of(10)));
+	}
+
+	private Order paidOrder(long quantity) {
+
+		var order = new Order(user, Cash.CASH);
+		order.addOrderLine(product, Quantity.of(quantity));
+
+		orders.save(order);
+		orders.payOrder(order);
+
+		return order;
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.inventory;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.Test;
+import org.salespointframework.catalog.Catalog;
+import org.salespointframework.catalog.Cookie;
+import org.salespointframework.catalog.Product;
+import org.salespointframework.core.Currencies;
+import org.salespointframework.inventory.InventoryEvents.StockShort;
+import org.salespointframework.inventory.InventoryEvents.StockShortsDetected;
+import org.salespointframework.inventory.InventoryListeners.StockShortScanner;
+import org.salespointframework.quantity.Quantity;
+import org.salespointframework.time.BusinessTime.DayHasPassed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.modulith.test.ApplicationModuleTest;
+import org.springframework.modulith.test.PublishedEvents;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link StockShortScanner}.
+ */
+@Transactional
+@ApplicationModuleTest(extraIncludes = "org.salespointframework.catalog")
+@TestPropertySource(properties = { "salespoint.inventory.stock-short.scan=true",
+		"salespoint.inventory.stock-short.per-decrement=false" })
+class StockShortScannerIntegrationTests {
+
+	@Autowired UniqueInventory<UniqueInventoryItem> unique;
+	@Autowired MultiInventory<MultiInventoryItem> multiple;
+	@Autowired Catalog<Product> catalog;
+	@Autowired StockShortScanner scanner;
+	@Autowired ApplicationEventPublisher publisher;
+
+	@Test
+	void doesNotEmitStockShortPerDecrementIfDisabled(PublishedEvents events) {
+
+		var item = unique.save(new UniqueInventoryItem(cookie("Cookie"), Quantity.of(5)));
+
+		unique.save(item.decreaseQuantity(Quantity.of(4)));
+
+		assertThat(events.ofType(StockShort.class)).isEmpty();
+	}
+
+	@Test
+	void reportsProductsBelowThresholdOnceADayHasPassed(PublishedEvents events) {
+
+		var below = unique.save(new UniqueInventoryItem(cookie("Below"), Quantity.of(1)));
+		unique.save(new UniqueInventoryItem(cookie("Sufficient"), Quantity.of(10)));
+
+		var multi = cookie("Multi");
+		multiple.save(new MultiInventoryItem(multi, Quantity.of(2)));
+		multiple.save(new MultiInventoryItem(multi, Quantity.of(1)));
+
+		publisher.publishEvent(DayHasPassed.of(LocalDate.now()));
+
+		assertThat(events.ofType(StockShortsDetected.class)).hasSize(1) //
+				.element(0) //
+				.satisfies(it -> assertThat(it) //
+						.extracting(StockShort::getProductId, StockShort::getCurrentQuantity) //
+						.containsExactlyInAnyOrder( //
+								tuple(below.getProduct().getId(), Quantity.of(1)),
+								tuple(multi.getId(), Quantity.of(1))));
+	}
+
+	@Test
+	void reportsProductsStayingBelowThresholdOnlyOnce(PublishedEvents events) {
+
+		var item = unique.save(new UniqueInventoryItem(cookie("Below"), Quantity.of(1)));
+
+		scanner.scan();
+		scanner.scan();
+
+		assertThat(events.ofType(StockShortsDetected.class)).hasSize(1);
+
+		// Recovers and falls below the threshold again
+		unique.save(item.increaseQuantity(Quantity.of(5)));
+		scanner.scan();
+
+		unique.save(item.decreaseQuantity(Quantity.of(5)));
+		scanner.scan();
+
+		assertThat(events.ofType(StockShortsDetected.class)).hasSize(2);
+	}
+
+	private Cookie cookie(String name) {
+		return catalog.save(new Cookie(name, Money.of(3, Currencies.EURO)));
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.inventory;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link StripedStockCounter}.
+ */
+class StripedStockCounterUnitTests {
+
+	@Test
+	void decreasesAcrossStripes() {
+
+		var counter = new StripedStockCounter(4, 10);
+
+		assertThat(counter.tryDecrease(7)).isTrue();
+		assertThat(counter.tryDecrease(4)).isFalse();
+		assertThat(counter.tryDecrease(3)).isTrue();
+		assertThat(counter.get()).isZero();
+	}
+
+	@Test
+	void increasesStock() {
+
+		var counter = new StripedStockCounter(4, 0);
+
+		counter.increase(5);
+
+		assertThat(counter.tryDecrease(5)).isTrue();
+		assertThat(counter.get()).isZero();
+	}
+
+	@Test
+	void capsNegativeAdjustmentAtZero() {
+
+		var counter = new StripedStockCounter(4, 5);
+
+		assertThat(counter.adjust(3)).isEqualTo(3);
+		assertThat(counter.adjust(-10)).isEqualTo(-8);
+		assertThat(counter.get()).isZero();
+	}
+
+	@Test
+	void neverDropsBelowZeroForConcurrentDecreases() throws Exception {
+
+		var threads = 16;
+		var attempts = 1000;
+		var stock = 5000;
+
+		var counter = new StripedStockCounter(4, stock);
+		var executor = Executors.newFixedThreadPool(threads);
+		var start = new CountDownLatch(1);
+		var results = new ArrayList<Future<Integer>>();
+
+		try {
+
+			for (int i = 0; i < threads; i++) {
+
+				results.add(executor.submit(() -> {
+
+					start.await();
+
+					var successful = 0;
+
+					for (int j = 0; j < attempts; j++) {
+						if (counter.tryDecrease(1)) {
+							successful++;
+						}
+					}
+
+					return successful;
+				}));
+			}
+
+			start.countDown();
+
+			var successful = 0;
+
+			for (var result : results) {
+				successful += result.get(30, TimeUnit.SECONDS);
+			}
+
+			assertThat(successful).isEqualTo(stock);
+			assertThat(counter.get()).isZero();
+
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.inventory;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import java.math.BigDecimal;
+
+import org.hibernate.SessionFactory;
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.Test;
+import org.salespointframework.TestSalespoint;
+import org.salespointframework.catalog.Catalog;
+import org.salespointframework.catalog.Product;
+import org.salespointframework.core.Currencies;
+import org.salespointframework.quantity.Quantity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the cache backing {@link UniqueInventoryStock}. Deliberately not transactional so that the
+ * cache is updated on commit.
+ */
+@DirtiesContext
+@SpringBootTest(classes = TestSalespoint.class, webEnvironment = WebEnvironment.NONE, properties = {
+		"salespoint.inventory.stock-cache.enabled=true",
+		"salespoint.inventory.stock-cache.maximum-size=2" })
+class UniqueInventoryStockIntegrationTests {
+
+	@Autowired UniqueInventoryStock stock;
+	@Autowired CachingUniqueInventoryStock cachingStock;
+	@Autowired UniqueInventory<UniqueInventoryItem> inventory;
+	@Autowired Catalog<Product> catalog;
+	@Autowired TransactionTemplate transactions;
+	@Autowired EntityManagerFactory factory;
+	@Autowired PlatformTransactionManager transactionManager;
+
+	@Test
+	void servesStockOfSavedItemsFromCache() {
+
+		var product = createProduct("Cached");
+		var before = stock.getStatistics();
+
+		inventory.save(new UniqueInventoryItem(product, Quantity.of(10)));
+
+		var statistics = factory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+
+		try {
+
+			assertThat(stock.getQuantity(product.getId())).hasValue(Quantity.of(10));
+			assertThat(stock.hasSufficientQuantity(product.getId(), Quantity.of(10))).isTrue();
+			assertThat(stock.hasSufficientQuantity(product.getId(), Quantity.of(11))).isFalse();
+			assertThat(statistics.getPrepareStatementCount()).isZero();
+
+		} finally {
+			statistics.setStatisticsEnabled(false);
+		}
+
+		assertThat(stock.getStatistics().getHits()).isEqualTo(before.getHits() + 3);
+		assertThat(stock.getStatistics().getMisses()).isEqualTo(before.getMisses());
+	}
+
+	@Test
+	void updatesCacheOnCommitOnly() {
+
+		var product = createProduct("Updated");
+		var item = inventory.save(new UniqueInventoryItem(product, Quantity.of(10)));
+
+		transactions.executeWithoutResult(it -> inventory.save(item.decreaseQuantity(Quantity.of(3))));
+
+		assertThat(stock.getQuantity(product.getId())).hasValue(Quantity.of(7));
+
+		transactions.executeWithoutResult(status -> {
+
+			inventory.findByProductIdentifier(product.getId()) //
+					.map(it -> it.decreaseQuantity(Quantity.of(5))) //
+					.ifPresent(it -> inventory.save(it));
+
+			status.flush();
+			status.setRollbackOnly();
+		});
+
+		var misses = stock.getStatistics().getMisses();
+
+		assertThat(stock.getQuantity(product.getId())).hasValue(Quantity.of(7));
+		assertThat(stock.getStatistics().getMisses()).isEqualTo(misses + 1);
+	}
+
+	@Test
+	void doesNotCacheValueLookedUpBeforeConcurrentChange() {
+
+		var product = createProduct("Concurrently removed");
+		var item = inventory.save(new UniqueInventoryItem(product, Quantity.of(10)));
+
+		var concurrent = new TransactionTemplate(transactionManager);
+		concurrent.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		// Make sure the lookup below is a miss that would populate the cache on commit
+		cachingStock.changed(product.getId());
+
+		transactions.executeWithoutResult(__ -> {
+
+			assertThat(stock.getQuantity(product.getId())).hasValue(Quantity.of(10));
+
+			// Removal committed before the transaction having looked up the stock
+			concurrent.executeWithoutResult(it -> inventory.delete(item));
+		});
+
+		assertThat(stock.getQuantity(product.getId())).isEmpty();
+	}
+
+	@Test
+	void evictsCacheForBulkUpdates() {
+
+		var product = createProduct("Bulk updated");
+		inventory.save(new UniqueInventoryItem(product, Quantity.of(10)));
+
+		assertThat(stock.getQuantity(product.getId())).hasValue(Quantity.of(10));
+
+		transactions.executeWithoutResult(__ -> {
+			inventory.decreaseQuantityIfSufficient(product.getId(), BigDecimal.valueOf(4));
+			cachingStock.changed(product.getId());
+		});
+
+		assertThat(stock.getQuantity(product.getId())).hasValue(Quantity.of(6));
+	}
+
+	@Test
+	void doesNotCacheValueOfChangeCommittedBeforeALaterOne() {
+
+		var product = createProduct("Interleaved");
+		inventory.save(new UniqueInventoryItem(product, Quantity.of(10)));
+
+		var concurrent = new TransactionTemplate(transactionManager);
+		concurrent.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		transactions.executeWithoutResult(__ -> {
+
+			// A change whose commit callbacks run after the ones of the later change below
+			cachingStock.updated(new UniqueInventoryItem(product, Quantity.of(7)));
+
+			concurrent.executeWithoutResult(it -> inventory.findByProductIdentifier(product.getId()) //
+					.map(item -> item.decreaseQuantity(Quantity.of(5))) //
+					.ifPresent(inventory::save));
+		});
+
+		assertThat(stock.getQuantity(product.getId())).hasValue(Quantity.of(5));
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedEntries() {
+
+		for (int i = 0; i < 3; i++) {
+			inventory.save(new UniqueInventoryItem(createProduct("Evicted " + i), Quantity.of(i)));
+		}
+
+		assertThat(stock.getStatistics().getSize()).isEqualTo(2);
+	}
+
+	@Test
+	void reportsMissingItems() {
+		assertThat(stock.getQuantity(createProduct("Missing").getId())).isEmpty();
+	}
+
+	private Product createProduct(String name) {
+		return catalog.save(new Product(name, Money.of(1, Currencies.EURO)));
+	}
+}
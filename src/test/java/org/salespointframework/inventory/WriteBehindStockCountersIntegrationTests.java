@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.inventory;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.Test;
+import org.salespointframework.TestSalespoint;
+import org.salespointframework.catalog.Catalog;
+import org.salespointframework.catalog.Product;
+import org.salespointframework.core.Currencies;
+import org.salespointframework.quantity.Quantity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.test.annotation.DirtiesContext;
+
+/**
+ * Integration tests for the periodic flush of {@link WriteBehindStockCounters}. Scheduling is not enabled, i.e.
+ * {@code salespoint.scheduling.enabled} is not set.
+ */
+@DirtiesContext
+@SpringBootTest(classes = TestSalespoint.class, webEnvironment = WebEnvironment.NONE,
+		properties = "salespoint.inventory.write-behind.flush-interval=50")
+class WriteBehindStockCountersIntegrationTests {
+
+	@Autowired WriteBehindStockCounters counters;
+	@Autowired Catalog<Product> catalog;
+	@Autowired UniqueInventory<UniqueInventoryItem> inventory;
+
+	@Test
+	void flushesPeriodicallyWithoutSchedulingEnabled() throws Exception {
+
+		var product = catalog.save(new Product("Flushed drop", Money.of(10, Currencies.EURO)));
+		inventory.save(new UniqueInventoryItem(product, Quantity.of(10)));
+
+		counters.activate(product.getId());
+
+		assertThat(counters.tryDecrease(product.getId(), Quantity.of(4))).isTrue();
+
+		var timeout = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+
+		while (!inventory.findByProduct(product).map(InventoryItem::getQuantity).orElseThrow()
+				.equals(Quantity.of(6))) {
+
+			assertThat(System.nanoTime()).as("Counter not flushed in time!").isLessThan(timeout);
+
+			Thread.sleep(20);
+		}
+	}
+}
@@ -303,4 +303,72 @@ class CartUnitTests {
 		cart.removeItem(item.orElseThrow().getId());
 		assertThat(cart.size()).isEqualTo(1);
 	}
+
+	@Test
+	void keepsPriceAndNumberOfItemsUpToDate() {
+
+		var apples = new Product("Apples", Money.of(0.40d, Currencies.EURO), Metric.UNIT);
+		var pears = new Product("Pears", Money.of(0.50d, Currencies.EURO), Metric.UNIT);
+
+		cart.addOrUpdateItem(apples, 5);
+		var item = cart.addOrUpdateItem(pears, 2).orElseThrow();
+
+		assertThat(cart.getPrice()).isEqualTo(Money.of(3, Currencies.EURO));
+		assertThat(cart.getNumberOfItems()).isEqualTo(7);
+
+		cart.addOrUpdateItem(apples, -2);
+
+		assertThat(cart.getPrice()).isEqualTo(Money.of(2.2, Currencies.EURO));
+		assertThat(cart.getNumberOfItems()).isEqualTo(5);
+
+		cart.removeItem(item.getId());
+
+		assertThat(cart.getPrice()).isEqualTo(Money.of(1.2, Currencies.EURO));
+		assertThat(cart.getNumberOfItems()).isEqualTo(3);
+
+		cart.addOrUpdateItem(apples, -3);
+
+		assertThat(cart.getPrice()).isEqualTo(Currencies.ZERO_EURO);
+		assertThat(cart.getNumberOfItems()).isZero();
+	}
+
+	@Test
+	void looksUpItemsByIdentifierAfterUpdates() {
+
+		var first = cart.addOrUpdateItem(PRODUCT, 5).orElseThrow();
+		var second = cart.addOrUpdateItem(PRODUCT, 5).orElseThrow();
+
+		assertThat(cart.getItem(first.getId())).hasValue(second);
+
+		cart.addOrUpdateItem(PRODUCT, -10);
+
+		assertThat(cart.getItem(first.getId())).isEmpty();
+	}
+
+	@Test
+	void resetsIndexAndTotalsOnClear() {
+
+		var item = cart.addOrUpdateItem(PRODUCT, 5).orElseThrow();
+
+		cart.clear();
+
+		assertThat(cart.getItem(item.getId())).isEmpty();
+		assertThat(cart.getPrice()).isEqualTo(Currencies.ZERO_EURO);
+		assertThat(cart.getNumberOfItems()).isZero();
+	}
+
+	@Test
+	void updatesTotalsWhenRemovingItemsThroughIterator() {
+
+		var item = cart.addOrUpdateItem(PRODUCT, 5).orElseThrow();
+		cart.addOrUpdateItem(new Product("Some product", Money.of(2, Currencies.EURO)), 1);
+
+		var iterator = cart.iterator();
+		iterator.next();
+		iterator.remove();
+
+		assertThat(cart.getItem(item.getId())).isEmpty();
+		assertThat(cart.getPrice()).isEqualTo(Money.of(2, Currencies.EURO));
+		assertThat(cart.getNumberOfItems()).isEqualTo(1);
+	}
 }
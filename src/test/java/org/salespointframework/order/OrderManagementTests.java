@@ -19,9 +19,15 @@ import static org.assertj.core.api.Assertions.*;
 
 import jakarta.persistence.EntityManager;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import org.hibernate.SessionFactory;
 import org.javamoney.moneta.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,6 +38,8 @@ import org.salespointframework.catalog.Product;
 import org.salespointframework.core.Currencies;
 import org.salespointframework.inventory.UniqueInventory;
 import org.salespointframework.inventory.UniqueInventoryItem;
+import org.salespointframework.order.Order.OrderIdentifier;
+import org.salespointframework.order.OrderCompletionReport.CompletionStatus;
 import org.salespointframework.payment.Cash;
 import org.salespointframework.quantity.Quantity;
 import org.salespointframework.time.Interval;
@@ -40,6 +48,7 @@ import org.salespointframework.useraccount.UserAccountManagement;
 import org.salespointframework.useraccount.UserAccountTestUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 /**
  * Integration tests for {@link OrderManagement}.
@@ -53,6 +62,8 @@ class OrderManagementTests extends AbstractIntegrationTests {
 	@Autowired UserAccountManagement users;
 	@Autowired OrderManagement<Order> orders;
 	@Autowired EntityManager em;
+	@Autowired OrderSummaryRepository summaries;
+	@Autowired OrderSummaryEventListener summaryListener;
 
 	@Autowired Catalog<Product> catalog;
 	@Autowired UniqueInventory<UniqueInventoryItem> inventory;
@@ -205,4 +216,300 @@ class OrderManagementTests extends AbstractIntegrationTests {
 		orders.save(order);
 		em.flush();
 	}
+
+	private List<OrderIdentifier> createOrders(int count) {
+
+		var now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+		// Create pairs of Orders sharing the creation date to verify the identifier is used as tie breaker
+		var result = IntStream.range(0, count) //
+				.mapToObj(it -> {
+
+					var order = orders.save(new Order(user, Cash.CASH));
+					order.setDateCreated(now.plusMinutes(it / 2));
+
+					return orders.save(order);
+
+				}) //
+				.sorted(Comparator.comparing(Order::getDateCreated).thenComparing(it -> it.getId().toString())) //
+				.map(Order::getId) //
+				.toList();
+
+		em.flush();
+
+		return result;
+	}
+
+	private void createOrdersWithLines(int count) {
+
+		var cookie = catalog.save(new Cookie("Double choc", Money.of(1.2, Currencies.EURO)));
+
+		IntStream.range(0, count).forEach(__ -> {
+
+			var order = new Order(user, Cash.CASH);
+			var line = order.addOrderLine(cookie, Quantity.of(2));
+			order.addOrderLine(cookie, Quantity.of(3));
+			order.addChargeLine(Money.of(-1, Currencies.EURO), "Discount");
+			order.addChargeLine(Money.of(1, Currencies.EURO), "Gift wrapping", line);
+
+			orders.save(order);
+		});
+
+		em.flush();
+	}
+
+	private long countStatementsForFindByStatus(OrderFetchPlan plan) {
+
+		em.clear();
+
+		var statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+
+		try {
+
+			orders.findBy(OrderStatus.OPEN, plan).forEach(it -> {
+				it.getOrderLines().getTotal();
+				it.getAllChargeLines().getTotal();
+			});
+
+			return statistics.getPrepareStatementCount();
+
+		} finally {
+			statistics.setStatisticsEnabled(false);
+		}
+	}
+
+	@Test
+	void loadsLinesOfAllOrdersWithBoundedNumberOfStatements() {
+
+		createOrdersWithLines(5);
+
+		assertThat(countStatementsForFindByStatus(OrderFetchPlan.ORDER_ONLY)).isGreaterThan(15);
+
+		var statements = countStatementsForFindByStatus(OrderFetchPlan.ALL_LINES);
+
+		createOrdersWithLines(20);
+
+		assertThat(countStatementsForFindByStatus(OrderFetchPlan.ALL_LINES)).isEqualTo(statements);
+	}
+
+	@Test
+	void loadsOrderLinesOnlyForCorrespondingFetchPlan() {
+
+		createOrdersWithLines(3);
+
+		em.clear();
+
+		var result = orders.findBy(user, OrderFetchPlan.ORDER_LINES).toList();
+		var util = em.getEntityManagerFactory().getPersistenceUnitUtil();
+
+		assertThat(result).hasSize(3).allSatisfy(it -> {
+			assertThat(util.isLoaded(it, "orderLines")).isTrue();
+			assertThat(util.isLoaded(it, "chargeLines")).isFalse();
+		});
+	}
+
+	@Test
+	void streamsOrdersInIntervalClearingThePersistenceContext() {
+
+		var source = createOrders(OrderRepository.FETCH_SIZE + 10);
+		var interval = Interval.from(LocalDateTime.now().minusDays(1)).to(LocalDateTime.now().plusDays(1));
+
+		em.clear();
+
+		try (var stream = orders.streamBy(interval)) {
+
+			var result = stream.toList();
+
+			assertThat(result).extracting(Order::getId).containsExactlyElementsOf(source);
+			assertThat(em.contains(result.get(0))).isFalse();
+			assertThat(em.contains(result.get(result.size() - 1))).isTrue();
+		}
+	}
+
+	@Test
+	void keepsOtherEntitiesAttachedWhileStreamingOrders() {
+
+		createOrders(OrderRepository.FETCH_SIZE + 10);
+		var interval = Interval.from(LocalDateTime.now().minusDays(1)).to(LocalDateTime.now().plusDays(1));
+
+		em.clear();
+
+		var account = em.find(UserAccount.class, user.getId());
+
+		try (var stream = orders.streamBy(interval)) {
+
+			assertThat(stream.count()).isEqualTo(OrderRepository.FETCH_SIZE + 10);
+			assertThat(em.contains(account)).isTrue();
+		}
+	}
+
+	@Test
+	void pagesThroughOrdersInIntervalUsingPreviousOrderAsKey() {
+
+		var source = createOrders(25);
+		var interval = Interval.from(LocalDateTime.now().minusDays(1)).to(LocalDateTime.now().plusDays(1));
+
+		var result = new ArrayList<OrderIdentifier>();
+		var page = orders.findBy(interval, null, 10).toList();
+
+		while (!page.isEmpty()) {
+
+			assertThat(page).hasSizeLessThanOrEqualTo(10);
+
+			page.forEach(it -> result.add(it.getId()));
+			page = orders.findBy(interval, page.get(page.size() - 1), 10).toList();
+		}
+
+		assertThat(result).containsExactlyElementsOf(source);
+	}
+
+
+	@Test
+	void pagesUsingPersistedCreationDateOfPreviousOrder() {
+
+		var source = createOrders(4);
+		var interval = Interval.from(LocalDateTime.now().minusDays(1)).to(LocalDateTime.now().plusDays(1));
+
+		var previous = orders.findBy(interval, null, 1).toList().get(0);
+
+		// Simulate a database storing the creation date with less precision than held in memory
+		em.detach(previous);
+		previous.setDateCreated(previous.getDateCreated().plusNanos(500));
+
+		assertThat(orders.findBy(interval, previous, 1)).extracting(Order::getId).containsExactly(source.get(1));
+	}
+	@Test
+	void continuesPagingIfPreviousOrderWasDeleted() {
+
+		var source = createOrders(5);
+		var interval = Interval.from(LocalDateTime.now().minusDays(1)).to(LocalDateTime.now().plusDays(1));
+
+		var first = orders.findBy(interval, null, 2).toList();
+		orders.delete(first.get(1));
+		em.flush();
+
+		assertThat(orders.findBy(interval, first.get(1), 10)) //
+				.extracting(Order::getId) //
+				.containsExactlyElementsOf(source.subList(2, 5));
+	}
+
+	@Test
+	void paysOrdersInBulk() {
+
+		var paid = orders.save(new Order(user, Cash.CASH));
+		orders.payOrder(paid);
+
+		var first = orders.save(new Order(user, Cash.CASH));
+		var second = orders.save(new Order(user, Cash.CASH));
+
+		assertThat(orders.payOrders(List.of(first, paid, second))).containsExactly(first, second);
+		assertThat(first.isPaid()).isTrue();
+		assertThat(second.isPaid()).isTrue();
+	}
+
+	@Test
+	void completesOrdersInBulkReportingFailuresPerOrder() {
+
+		var cookie = catalog.save(new Cookie("Double choc", Money.of(1.2, Currencies.EURO)));
+		inventory.save(new UniqueInventoryItem(cookie, Quantity.of(15)));
+
+		var sufficient = new Order(user, Cash.CASH);
+		sufficient.addOrderLine(cookie, Quantity.of(10));
+
+		var insufficient = new Order(user, Cash.CASH);
+		insufficient.addOrderLine(cookie, Quantity.of(10));
+
+		var unpaid = orders.save(new Order(user, Cash.CASH));
+
+		orders.payOrders(List.of(sufficient, insufficient));
+
+		var reports = orders.completeOrders(List.of(sufficient, insufficient, unpaid)).toList();
+
+		assertThat(reports).extracting(OrderCompletionReport::getOrder).containsExactly(sufficient, insufficient, unpaid);
+		assertThat(reports).extracting(OrderCompletionReport::getStatus) //
+				.containsExactly(CompletionStatus.SUCCEEDED, CompletionStatus.FAILED, CompletionStatus.FAILED);
+
+		assertThat(sufficient.isCompleted()).isTrue();
+		assertThat(insufficient.isCompleted()).isFalse();
+		assertThat(unpaid.isCompleted()).isFalse();
+	}
+
+	@Test
+	void maintainsOrderSummaries() {
+
+		var cookie = catalog.save(new Cookie("Double choc", Money.of(1.2, Currencies.EURO)));
+		inventory.save(new UniqueInventoryItem(cookie, Quantity.of(10)));
+
+		order.addOrderLine(cookie, Quantity.of(2));
+		order.addOrderLine(cookie, Quantity.of(3));
+		order.addChargeLine(Money.of(-1, Currencies.EURO), "Discount");
+
+		orders.save(order);
+		orders.payOrder(order);
+
+		assertThat(orders.findSummaries(PageRequest.of(0, 10))).singleElement().satisfies(it -> {
+			assertThat(it.getId()).isEqualTo(order.getId());
+			assertThat(it.getCustomer()).isEqualTo(user.getId());
+			assertThat(it.getCustomerName()).isEqualTo(user.getUsername());
+			assertThat(it.getOrderStatus()).isEqualTo(OrderStatus.PAID);
+			assertThat(it.getDateCreated()).isEqualTo(order.getDateCreated());
+			assertThat(it.getTotal()).isEqualTo(order.getTotal());
+			assertThat(it.getNumberOfLines()).isEqualTo(2);
+		});
+
+		orders.cancelOrder(order, "Testing");
+
+		assertThat(orders.findSummaries(PageRequest.of(0, 10))) //
+				.extracting(OrderSummary::getOrderStatus) //
+				.containsExactly(OrderStatus.CANCELLED);
+
+		orders.delete(order);
+
+		assertThat(orders.findSummaries(PageRequest.of(0, 10))).isEmpty();
+	}
+
+	@Test
+	void pagesOrderSummariesWithoutLoadingOrders() {
+
+		createOrdersWithLines(25);
+		em.clear();
+
+		var statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+
+		try {
+
+			var page = orders.findSummaries(PageRequest.of(1, 10, Sort.by("dateCreated")));
+
+			assertThat(page.getContent()).hasSize(10) //
+					.allSatisfy(it -> assertThat(it.getNumberOfLines()).isEqualTo(2));
+			assertThat(page.getTotalElements()).isEqualTo(25);
+
+			// One query for the page, one for the count
+			assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+			assertThat(statistics.getEntityLoadCount()).isEqualTo(10);
+
+		} finally {
+			statistics.setStatisticsEnabled(false);
+		}
+	}
+
+	@Test
+	void backfillsMissingOrderSummaries() {
+
+		createOrdersWithLines(3);
+
+		// As if persisted before summaries were introduced
+		summaries.deleteAll();
+
+		assertThat(orders.findSummaries(PageRequest.of(0, 10))).isEmpty();
+
+		summaryListener.backfillSummaries();
+
+		assertThat(orders.findSummaries(PageRequest.of(0, 10))).hasSize(3) //
+				.allSatisfy(it -> assertThat(it.getNumberOfLines()).isEqualTo(2));
+	}
 }
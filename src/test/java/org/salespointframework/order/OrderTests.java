@@ -20,6 +20,12 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.salespointframework.core.Currencies.*;
 import static org.salespointframework.order.OrderStatus.*;
 
+import jakarta.persistence.EntityManager;
+import lombok.EqualsAndHashCode;
+
+import java.math.BigDecimal;
+import java.util.stream.IntStream;
+
 import org.javamoney.moneta.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +34,7 @@ import org.salespointframework.catalog.Product;
 import org.salespointframework.order.OrderEvents.OrderCanceled;
 import org.salespointframework.order.OrderEvents.OrderCompleted;
 import org.salespointframework.payment.Cash;
+import org.salespointframework.payment.PaymentMethod;
 import org.salespointframework.quantity.Quantity;
 import org.salespointframework.useraccount.UserAccount;
 import org.salespointframework.useraccount.UserAccountManagement;
@@ -54,6 +61,8 @@ class OrderTests {
 	@Autowired UserAccountManagement users;
 	@Autowired OrderManagement<Order> orders;
 	@Autowired Catalog<Product> catalog;
+	@Autowired EntityManager em;
+	@Autowired OrderPaymentMethodMigration migration;
 
 	UserAccount user;
 	Order order;
@@ -184,6 +193,213 @@ class OrderTests {
 		assertThat(order.getChargeLines(firstOrderLine)).isEmpty();
 	}
 
+	@Test
+	void maintainsTotalOnChangesToLines() {
+
+		var product = catalog.save(new Product("Some product", Money.of(1.5, EURO)));
+
+		assertThat(order.getTotal()).isEqualTo(ZERO_EURO);
+
+		var first = order.addOrderLine(product, Quantity.of(10));
+		var second = order.addOrderLine(product, Quantity.of(3));
+		var chargeLine = order.addChargeLine(Money.of(-2.25, EURO), "Discount");
+		order.addChargeLine(Money.of(0.5, EURO), "Deposit", first);
+		order.addChargeLine(Money.of(0.5, EURO), "Deposit", second);
+
+		assertThat(order.getTotal()).isEqualTo(Money.of(18.25, EURO));
+
+		order.remove(first);
+		order.remove(chargeLine);
+
+		assertThat(order.getTotal()).isEqualTo(Money.of(5, EURO));
+		assertThat(order.getTotal()).isEqualTo(order.getOrderLines().getTotal().add(order.getAllChargeLines().getTotal()));
+	}
+
+	@Test
+	void persistsTotal() {
+
+		var product = catalog.save(new Product("Some product", Money.of(1.5, EURO)));
+		var orderLine = order.addOrderLine(product, Quantity.of(3));
+		order.addChargeLine(Money.of(0.25, EURO), "Deposit", orderLine);
+
+		orders.save(order);
+
+		em.flush();
+		em.clear();
+
+		var total = em.createQuery("select o.totalAmount from Order o where o.orderIdentifier = ?1", BigDecimal.class) //
+				.setParameter(1, order.getId()) //
+				.getSingleResult();
+
+		assertThat(total).isEqualByComparingTo("4.75");
+		assertThat(orders.get(order.getId())).map(Order::getTotal).hasValue(Money.of(4.75, EURO));
+	}
+
+	@Test
+	void calculatesTotalForOrdersPersistedWithoutIt() {
+
+		var product = catalog.save(new Product("Some product", Money.of(1.5, EURO)));
+		order.addOrderLine(product, Quantity.of(3));
+
+		orders.save(order);
+
+		em.flush();
+		em.createQuery("update Order o set o.totalAmount = null, o.totalCurrency = null").executeUpdate();
+		em.clear();
+
+		var reloaded = orders.get(order.getId()).orElseThrow();
+
+		assertThat(reloaded.getTotal()).isEqualTo(Money.of(4.5, EURO));
+
+		reloaded.addOrderLine(product, Quantity.of(1));
+
+		assertThat(reloaded.getTotal()).isEqualTo(Money.of(6, EURO));
+	}
+
+	@Test
+	void removesAttachedChargeLinesFromOrdersPersistedWithoutTotal() {
+
+		var product = catalog.save(new Product("Some product", Money.of(1.5, EURO)));
+		var orderLine = order.addOrderLine(product, Quantity.of(2));
+		order.addChargeLine(Money.of(0.5, EURO), "Deposit", orderLine);
+		order.addChargeLine(Money.of(0.25, EURO), "Packaging", orderLine);
+
+		orders.save(order);
+
+		em.flush();
+		em.createQuery("update Order o set o.totalAmount = null, o.totalCurrency = null").executeUpdate();
+		em.clear();
+
+		var reloaded = orders.get(order.getId()).orElseThrow();
+
+		reloaded.removeChargeLinesFor(orderLine);
+
+		assertThat(reloaded.getTotal()).isEqualTo(Money.of(3, EURO));
+	}
+
+	@Test
+	void migratesLegacyPaymentMethodOnLoad() {
+
+		orders.save(order);
+
+		em.flush();
+		em.createQuery("update Order o set o.paymentMethod = null, o.serializedPaymentMethod = ?1") //
+				.setParameter(1, Cash.CASH) //
+				.executeUpdate();
+		em.clear();
+
+		assertThat(orders.get(order.getId())).hasValueSatisfying(it -> {
+			assertThat(it.getPaymentMethod()).isEqualTo(Cash.CASH);
+		});
+
+		em.flush();
+
+		assertThat(em.createQuery("select o.serializedPaymentMethod from Order o where o.orderIdentifier = ?1") //
+				.setParameter(1, order.getId()) //
+				.getSingleResult()).isNull();
+		assertThat(em.createNativeQuery("select payment_details from orders") //
+				.getSingleResult()).isEqualTo("CASH");
+	}
+
+	@Test
+	void migratesLegacyPaymentMethodsInBulk() {
+
+		orders.save(order);
+
+		em.flush();
+		em.createQuery("update Order o set o.paymentMethod = null, o.serializedPaymentMethod = ?1") //
+				.setParameter(1, Cash.CASH) //
+				.executeUpdate();
+		em.clear();
+
+		migration.migratePaymentMethods();
+
+		em.flush();
+		em.clear();
+
+		assertThat(em.createNativeQuery("select payment_details from orders") //
+				.getSingleResult()).isEqualTo("CASH");
+		assertThat(em.createQuery("select o.serializedPaymentMethod from Order o where o.orderIdentifier = ?1") //
+				.setParameter(1, order.getId()) //
+				.getSingleResult()).isNull();
+	}
+
+	@Test
+	void keepsCustomPaymentMethodsSerialized() {
+
+		var voucher = new Voucher("ABC-123");
+
+		orders.save(new Order(user, voucher));
+
+		em.flush();
+		em.clear();
+
+		assertThat(em.createNativeQuery("select payment_details from orders") //
+				.getSingleResult()).isNull();
+		assertThat(orders.findBy(user)).singleElement() //
+				.extracting(Order::getPaymentMethod) //
+				.isEqualTo(voucher);
+	}
+
+	@Test
+	void looksUpAttachedChargeLinesOfReloadedOrder() {
+
+		var product = catalog.save(new Product("Some product", Money.of(1.5, EURO)));
+		var first = order.addOrderLine(product, Quantity.of(1));
+		var second = order.addOrderLine(product, Quantity.of(2));
+		order.addChargeLine(Money.of(0.5, EURO), "Deposit", first);
+		order.addChargeLine(Money.of(0.25, EURO), "Packaging", first);
+		order.addChargeLine(Money.of(0.5, EURO), "Deposit", second);
+
+		orders.save(order);
+
+		em.flush();
+		em.clear();
+
+		var reloaded = orders.get(order.getId()).orElseThrow();
+
+		assertThat(reloaded.getChargeLines(first)).extracting(ChargeLine::getDescription) //
+				.containsExactly("Deposit", "Packaging");
+		assertThat(reloaded.getChargeLines(second).getTotal()).isEqualTo(Money.of(0.5, EURO));
+
+		var added = reloaded.addChargeLine(Money.of(0.1, EURO), "Eco fee", second);
+
+		assertThat(reloaded.getChargeLines(second)).hasSize(2).contains(added);
+
+		reloaded.remove(first);
+
+		assertThat(reloaded.getChargeLines(first)).isEmpty();
+		assertThat(reloaded.getAllChargeLines()).hasSize(2);
+	}
+
+	@Test
+	void removesOrderLinesWithAttachedChargeLines() {
+
+		var product = catalog.save(new Product("Some product", Money.of(1.5, EURO)));
+		var lines = IntStream.range(0, 1000).mapToObj(__ -> {
+
+			var line = order.addOrderLine(product, Quantity.of(1));
+
+			order.addChargeLine(Money.of(0.5, EURO), "Deposit", line);
+			order.addChargeLine(Money.of(0.25, EURO), "Packaging", line);
+			order.addChargeLine(Money.of(0.1, EURO), "Eco fee", line);
+
+			return line;
+
+		}).toList();
+
+		IntStream.range(0, lines.size()) //
+				.filter(it -> it % 2 == 0) //
+				.mapToObj(lines::get) //
+				.forEach(order::remove);
+
+		assertThat(order.getOrderLines()).hasSize(500);
+		assertThat(order.getAllChargeLines()).hasSize(1500);
+		assertThat(order.getChargeLines(lines.get(0))).isEmpty();
+		assertThat(order.getChargeLines(lines.get(1))).hasSize(3);
+		assertThat(order.getTotal()).isEqualTo(Money.of(1175, EURO));
+	}
+
 	@Test // #226
 	void rejectsChargeLineForOrderLineIndexOutOfBounds() {
 
@@ -201,4 +417,19 @@ class OrderTests {
 
 		assertThat(orders.save(order).getDateCreated()).isEqualTo(reference);
 	}
+
+	@EqualsAndHashCode(callSuper = true)
+	static class Voucher extends PaymentMethod {
+
+		private static final long serialVersionUID = 1L;
+
+		private final String code;
+
+		Voucher(String code) {
+
+			super("Voucher");
+
+			this.code = code;
+		}
+	}
 }
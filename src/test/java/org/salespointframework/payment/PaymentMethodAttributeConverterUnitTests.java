@@ -0,0 +1,125 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.payment;
+
+import static org.assertj.core.api.Assertions.*;
+
+import lombok.EqualsAndHashCode;
+
+import java.time.LocalDateTime;
+
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.Test;
+import org.salespointframework.core.Currencies;
+
+/**
+ * Unit tests for {@link PaymentMethodAttributeConverter}.
+ */
+class PaymentMethodAttributeConverterUnitTests {
+
+	static final LocalDateTime NOW = LocalDateTime.now();
+	static final Money AMOUNT = Money.of(2000.5, Currencies.EURO);
+
+	PaymentMethodAttributeConverter converter = new PaymentMethodAttributeConverter();
+
+	@Test
+	void storesCashAsTypeOnly() {
+
+		assertThat(converter.convertToDatabaseColumn(Cash.CASH)).isEqualTo("CASH");
+		assertThat(converter.convertToEntityAttribute("CASH")).isEqualTo(Cash.CASH);
+	}
+
+	@Test
+	void roundTripsCheque() {
+
+		var cheque = new Cheque("Account; name", "4711", "0815", "Payee \\ Co", NOW, "Bank", "Street 1;\\; City",
+				"BIN");
+
+		assertRoundTrip(cheque, PaymentMethodAttributeConverter.CHEQUE);
+	}
+
+	@Test
+	void roundTripsCreditCard() {
+
+		var card = new CreditCard("VISA", "whatever", "1234123412341234", "Oliver Drotbohm", "Some address", NOW,
+				NOW.plusMonths(12), "567", AMOUNT, Money.of(5000, Currencies.EURO));
+
+		assertRoundTrip(card, PaymentMethodAttributeConverter.CREDIT_CARD);
+	}
+
+	@Test
+	void roundTripsDebitCardWithoutWithdrawalLimit() {
+
+		var card = new DebitCard("Maestro", "whatever", "1234123412341234", "Oliver Drotbohm", "", NOW,
+				NOW.plusMonths(12), "567", null);
+
+		assertRoundTrip(card, PaymentMethodAttributeConverter.DEBIT_CARD);
+	}
+
+	@Test
+	void tellsNullFieldsApartFromEmptyOnes() {
+
+		var card = new DebitCard("Maestro", "", "1234123412341234", "Oliver Drotbohm", "", NOW,
+				NOW.plusMonths(12), "567", null);
+
+		var converted = converter.convertToDatabaseColumn(card);
+
+		assertThat(converted).contains(";;1234123412341234;").endsWith(";\\N");
+		assertThat(converter.convertToEntityAttribute(converted)).isEqualTo(card);
+	}
+
+	@Test
+	void fallsBackToSerializationForCustomPaymentMethods() {
+		assertRoundTrip(new Voucher("ABC-123"), PaymentMethodAttributeConverter.SERIALIZED);
+	}
+
+	@Test
+	void convertsNullValues() {
+
+		assertThat(converter.convertToDatabaseColumn(null)).isNull();
+		assertThat(converter.convertToEntityAttribute(null)).isNull();
+	}
+
+	@Test
+	void rejectsUnknownType() {
+
+		assertThatIllegalArgumentException() //
+				.isThrownBy(() -> converter.convertToEntityAttribute("UNKNOWN;foo"));
+	}
+
+	private void assertRoundTrip(PaymentMethod method, String type) {
+
+		var converted = converter.convertToDatabaseColumn(method);
+
+		assertThat(converted).startsWith(type + ";");
+		assertThat(converter.convertToEntityAttribute(converted)).isEqualTo(method);
+	}
+
+	@EqualsAndHashCode(callSuper = true)
+	static class Voucher extends PaymentMethod {
+
+		private static final long serialVersionUID = 1L;
+
+		private final String code;
+
+		Voucher(String code) {
+
+			super("Voucher");
+
+			this.code = code;
+		}
+	}
+}
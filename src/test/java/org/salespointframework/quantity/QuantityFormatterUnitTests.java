@@ -17,6 +17,7 @@ package org.salespointframework.quantity;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.math.BigDecimal;
 import java.text.ParseException;
 import java.util.Locale;
 import java.util.stream.Stream;
@@ -81,6 +82,28 @@ class QuantityFormatterUnitTests {
 		void ignoresSpacesBetweenAmountAndMetricOnParsing() throws ParseException {
 			assertThat(formatter.parse("5,1   l", Locale.GERMAN)).isEqualTo(Quantity.of(5.1, Metric.LITER));
 		}
+
+		@Test
+		void rejectsMissingAmount() {
+
+			assertThatExceptionOfType(ParseException.class) //
+					.isThrownBy(() -> formatter.parse("l", Locale.GERMAN)) //
+					.matches(it -> it.getErrorOffset() == 0);
+		}
+
+		@Test
+		void skipsGroupingSeparators() throws ParseException {
+
+			assertThat(formatter.parse("1.234,5m²", Locale.GERMAN)).isEqualTo(Quantity.of(1234.5, Metric.SQUARE_METER));
+			assertThat(formatter.parse("1,234", Locale.US)).isEqualTo(Quantity.of(1234));
+		}
+
+		@Test
+		void parsesAmountsExceedingLongRange() throws ParseException {
+
+			assertThat(formatter.parse("-92233720368547758080,5", Locale.GERMAN).getAmount()) //
+					.isEqualTo(new BigDecimal("-92233720368547758080.5"));
+		}
 	}
 
 	/**
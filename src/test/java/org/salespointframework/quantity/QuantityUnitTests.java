@@ -20,6 +20,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.LongStream;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -191,4 +195,66 @@ class QuantityUnitTests {
 		assertThat(Quantity.of(5).toUnit()).isEqualTo(Quantity.of(5));
 		assertThat(Quantity.of(5, Metric.LITER).toUnit()).isEqualTo(Quantity.of(1));
 	}
+
+	@Test
+	void treatsIntegralUnitQuantitiesLikeDecimalOnes() {
+
+		var integral = Quantity.of(5);
+		var decimal = Quantity.of(BigDecimal.valueOf(5), Metric.UNIT);
+
+		assertThat(integral).isEqualTo(decimal);
+		assertThat(integral.hashCode()).isEqualTo(decimal.hashCode());
+		assertThat(integral.getAmount()).isEqualTo(BigDecimal.valueOf(5));
+		assertThat(integral.toString()).isEqualTo(decimal.toString());
+
+		assertThat(integral.add(Quantity.of(2))).isEqualTo(Quantity.of(7));
+		assertThat(integral.subtract(Quantity.of(7))).isEqualTo(Quantity.of(-2));
+		assertThat(integral.times(3)).isEqualTo(Quantity.of(15));
+		assertThat(integral.negate()).isEqualTo(Quantity.of(-5));
+		assertThat(integral.isGreaterThanOrEqualTo(decimal)).isTrue();
+		assertThat(integral.isLessThan(Quantity.of(6))).isTrue();
+		assertThat(integral.add(Quantity.of(0.5))).isEqualTo(Quantity.of(5.5));
+	}
+
+	@Test
+	void fallsBackToDecimalsOnOverflow() {
+
+		var max = Quantity.of(Long.MAX_VALUE);
+		var expected = BigDecimal.valueOf(Long.MAX_VALUE);
+
+		assertThat(max.add(Quantity.of(1)).getAmount()).isEqualTo(expected.add(BigDecimal.ONE));
+		assertThat(max.negate().subtract(Quantity.of(2)).getAmount()) //
+				.isEqualTo(expected.negate().subtract(BigDecimal.valueOf(2)));
+		assertThat(max.times(2).getAmount()).isEqualTo(expected.multiply(BigDecimal.valueOf(2)));
+		assertThat(Quantity.of(Long.MIN_VALUE).negate().getAmount()) //
+				.isEqualTo(BigDecimal.valueOf(Long.MIN_VALUE).negate());
+	}
+
+	@Test
+	void sumsUpQuantities() {
+
+		assertThat(Quantity.sum(List.of())).isSameAs(Quantity.NONE);
+		assertThat(Quantity.sum(List.of(Quantity.NONE, Quantity.of(2), Quantity.of(3)))).isEqualTo(Quantity.of(5));
+		assertThat(Quantity.sum(List.of(Quantity.of(2), Quantity.of(0.5)))).isEqualTo(Quantity.of(2.5));
+		assertThat(Quantity.sum(List.of(Quantity.of(1.5, Metric.LITER), Quantity.of(1.5, Metric.LITER)))) //
+				.isEqualTo(Quantity.of(3.0, Metric.LITER));
+		assertThat(Quantity.sum(List.of(Quantity.of(Long.MAX_VALUE), Quantity.of(1))).getAmount()) //
+				.isEqualTo(BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.ONE));
+	}
+
+	@Test
+	void collectsQuantitiesIntoSum() {
+
+		var quantities = LongStream.rangeClosed(1, 1000).mapToObj(Quantity::of).toList();
+
+		assertThat(quantities.stream().collect(Quantity.summing())).isEqualTo(Quantity.of(500500));
+		assertThat(quantities.parallelStream().collect(Quantity.summing())).isEqualTo(Quantity.of(500500));
+	}
+
+	@Test
+	void rejectsIncompatibleQuantitiesWhenSumming() {
+
+		assertThatExceptionOfType(MetricMismatchException.class) //
+				.isThrownBy(() -> Quantity.sum(List.of(Quantity.of(1), Quantity.of(1, Metric.KILOGRAM))));
+	}
 }
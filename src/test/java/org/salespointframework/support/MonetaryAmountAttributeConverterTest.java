@@ -83,4 +83,14 @@ class MonetaryAmountAttributeConverterTest {
 
 		assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(reference)), is(reference));
 	}
+
+	@Test
+	void parsesPlainValuesWithoutFormat() {
+
+		assertThat(MonetaryAmountAttributeConverter.parsePlain("EUR 1.23"), is(Money.of(1.23, "EUR")));
+		assertThat(MonetaryAmountAttributeConverter.parsePlain("USD -1E+2"), is(Money.of(-100, "USD")));
+		assertThat(MonetaryAmountAttributeConverter.parsePlain("EUR 123,456.78"), is(nullValue()));
+		assertThat(MonetaryAmountAttributeConverter.parsePlain("XYZ 1.23"), is(nullValue()));
+		assertThat(MonetaryAmountAttributeConverter.parsePlain("EUR"), is(nullValue()));
+	}
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.salespointframework.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+
+import java.math.BigDecimal;
+
+import javax.money.MonetaryAmount;
+import javax.sql.DataSource;
+
+import org.hibernate.annotations.CompositeType;
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.Test;
+import org.salespointframework.core.Currencies;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.modulith.test.ApplicationModuleTest;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link MonetaryAmountType} and {@link MonetaryAmountColumnMigration}.
+ */
+@Transactional
+@ApplicationModuleTest
+class MonetaryAmountTypeIntegrationTests {
+
+	@Autowired EntityManager em;
+	@Autowired DataSource dataSource;
+
+	@Test
+	void persistsMonetaryAmountIntoNumericColumns() {
+
+		var first = new SomeMonetaryEntity();
+		first.price = Money.of(new BigDecimal("12.50"), Currencies.EURO);
+
+		var second = new SomeMonetaryEntity();
+		second.price = Money.of(7, Currencies.EURO);
+
+		em.persist(first);
+		em.persist(second);
+		em.flush();
+		em.clear();
+
+		assertThat(em.find(SomeMonetaryEntity.class, first.id).price).isEqualTo(Money.of(12.5, Currencies.EURO));
+		assertThat(em.createQuery("select sum(e.price.amount) from SomeMonetaryEntity e", BigDecimal.class)
+				.getSingleResult()).isEqualByComparingTo("19.5");
+		assertThat(em.createQuery("select e.id from SomeMonetaryEntity e where e.price.amount > 10", Long.class)
+				.getResultList()).containsExactly(first.id);
+	}
+
+	@Test
+	void migratesStringBasedColumns() {
+
+		var first = new SomeMonetaryEntity();
+		first.legacyPrice = Money.of(new BigDecimal("12.50"), Currencies.EURO);
+
+		var second = new SomeMonetaryEntity();
+		second.legacyPrice = Money.of(-1.2, "USD");
+
+		em.persist(first);
+		em.persist(second);
+		em.flush();
+
+		var migration = new MonetaryAmountColumnMigration(dataSource);
+
+		assertThat(migration.migrate("SOME_MONETARY_ENTITY", "LEGACY_PRICE", "PRICE_AMOUNT", "PRICE_CURRENCY"))
+				.isEqualTo(2);
+		assertThat(migration.migrate("SOME_MONETARY_ENTITY", "LEGACY_PRICE", "PRICE_AMOUNT", "PRICE_CURRENCY"))
+				.isZero();
+
+		em.clear();
+
+		assertThat(em.find(SomeMonetaryEntity.class, first.id).price).isEqualTo(first.legacyPrice);
+		assertThat(em.find(SomeMonetaryEntity.class, second.id).price).isEqualTo(second.legacyPrice);
+	}
+
+	@Test
+	void rejectsInvalidIdentifiers() {
+
+		var migration = new MonetaryAmountColumnMigration(dataSource);
+
+		assertThatIllegalArgumentException() //
+				.isThrownBy(() -> migration.migrate("SOME_MONETARY_ENTITY; drop table X", "LEGACY_PRICE", "PRICE_AMOUNT",
+						"PRICE_CURRENCY"));
+	}
+
+	@Entity(name = "SomeMonetaryEntity")
+	static class SomeMonetaryEntity {
+
+		@Id @GeneratedValue Long id;
+
+		@CompositeType(MonetaryAmountType.class)
+		@AttributeOverride(name = "amount", column = @Column(name = "PRICE_AMOUNT"))
+		@AttributeOverride(name = "currency", column = @Column(name = "PRICE_CURRENCY"))
+		MonetaryAmount price;
+
+		MonetaryAmount legacyPrice;
+	}
+}
@@ -17,9 +17,11 @@ package org.salespointframework.time;
 
 import static org.hamcrest.Matchers.*;
 import static org.hamcrest.junit.MatcherAssert.*;
+import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 import org.junit.jupiter.api.Test;
 
@@ -47,4 +49,59 @@ class IntervalsUnitTests {
 
 		assertThat(intervals, is(iterableWithSize(4)));
 	}
+
+	@Test
+	void dividesLongIntervalsIntoSmallOnesLazily() {
+
+		var start = LocalDateTime.of(2022, 1, 1, 0, 0);
+		var intervals = Intervals.divide(Interval.from(start).to(start.plusYears(1)), Duration.ofMinutes(1));
+
+		assertThat(intervals.stream().count(), is(365L * 24 * 60));
+	}
+
+	@Test
+	void dividesIntoCalendarAlignedDays() {
+
+		var start = LocalDateTime.of(2022, 1, 1, 12, 0);
+		var intervals = Intervals.divide(Interval.from(start).to(start.plusDays(2)), ChronoUnit.DAYS);
+
+		assertThat(intervals.toList(), contains( //
+				Interval.from(start).to(LocalDateTime.of(2022, 1, 2, 0, 0)), //
+				Interval.from(LocalDateTime.of(2022, 1, 2, 0, 0)).to(LocalDateTime.of(2022, 1, 3, 0, 0)), //
+				Interval.from(LocalDateTime.of(2022, 1, 3, 0, 0)).to(start.plusDays(2))));
+	}
+
+	@Test
+	void dividesIntoIsoWeeks() {
+
+		// Saturday
+		var start = LocalDateTime.of(2022, 1, 1, 0, 0);
+		var intervals = Intervals.divide(Interval.from(start).to(LocalDateTime.of(2022, 1, 17, 0, 0)), ChronoUnit.WEEKS);
+
+		assertThat(intervals.map(Interval::getStart).toList(), contains( //
+				start, //
+				LocalDateTime.of(2022, 1, 3, 0, 0), //
+				LocalDateTime.of(2022, 1, 10, 0, 0)));
+	}
+
+	@Test
+	void dividesIntoMonths() {
+
+		var start = LocalDateTime.of(2022, 1, 31, 0, 0);
+		var intervals = Intervals.divide(Interval.from(start).to(LocalDateTime.of(2022, 4, 15, 0, 0)), ChronoUnit.MONTHS);
+
+		assertThat(intervals.map(Interval::getStart).toList(), contains( //
+				start, //
+				LocalDateTime.of(2022, 2, 1, 0, 0), //
+				LocalDateTime.of(2022, 3, 1, 0, 0), //
+				LocalDateTime.of(2022, 4, 1, 0, 0)));
+	}
+
+	@Test
+	void rejectsUnsupportedCalendarUnit() {
+
+		var interval = Interval.from(LocalDateTime.now()).withLength(Duration.ofDays(10));
+
+		assertThrows(IllegalArgumentException.class, () -> Intervals.divide(interval, ChronoUnit.YEARS));
+	}
 }